@@ -31,22 +31,22 @@ class MatcherGenerationProcessorWorker(
     }
 
     private fun Element.generateMatchers() {
-        getAllTypeElementsFor()
-            .forEach {
-                if (it.isSelfGenerated()) {
-                    it.printSkipNoteBecauseOfSelfGenerationFor()
-                } else {
-                    MatcherGenerator(
-                        processingEnv,
-                        it,
-                        timeProvider,
-                        generatorName,
-                        listOf(this),
-                        annotationMirrors.single { it.isTypeOf<MatcherConfiguration>() },
-                        getMatcherConfiguration()
-                    ).generate()
-                }
-            }
+        val (selfGeneratedTypes, typesToGenerateMatchersFor) = getAllTypeElementsFor()
+            .partition { it.isSelfGenerated() }
+
+        selfGeneratedTypes.forEach { it.printSkipNoteBecauseOfSelfGenerationFor() }
+        typesToGenerateMatchersFor.forEach {
+            MatcherGenerator(
+                processingEnv,
+                it,
+                timeProvider,
+                generatorName,
+                listOf(this),
+                annotationMirrors.single { it.isTypeOf<MatcherConfiguration>() },
+                getMatcherConfiguration(),
+                typesToGenerateMatchersFor
+            ).generate()
+        }
     }
 
     private fun Element.getAllTypeElementsFor(): List<TypeElement> {
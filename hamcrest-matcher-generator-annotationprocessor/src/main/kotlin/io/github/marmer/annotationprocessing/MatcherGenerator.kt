@@ -3,15 +3,28 @@ package io.github.marmer.annotationprocessing
 import com.squareup.javapoet.*
 import com.squareup.javapoet.MethodSpec.methodBuilder
 import com.squareup.javapoet.TypeName.*
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.ArrayEqualityMatcher
 import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.DescriptionBudget
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.EvaluationOrder
 import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.DescriptionBudgetConfiguration
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertyExtractor
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertySnapshot
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.SizeFirstMatcher
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher
 import org.hamcrest.Description
 import org.hamcrest.Matcher
 import org.hamcrest.Matchers
 import org.hamcrest.TypeSafeMatcher
+import java.time.Duration
 import java.time.LocalDateTime
+import java.util.Objects
 import javax.annotation.processing.Generated
 import javax.annotation.processing.ProcessingEnvironment
+import javax.lang.model.SourceVersion
 import javax.lang.model.element.*
 import javax.lang.model.type.*
 
@@ -23,37 +36,72 @@ class MatcherGenerator(
     private val generationMarker: String,
     private val additionalOriginationElements: Collection<Element>,
     private val matcherConfigurationMirror: AnnotationMirror,
-    private val matcherConfiguration: MatcherConfiguration
+    private val matcherConfiguration: MatcherConfiguration,
+    private val generatedTypes: Collection<TypeElement>
 ) {
 
-    fun generate() = JavaFile.builder(
-        getBasePackage(),
-        getPreparedTypeSpecBuilder()
-            .build()
-    ).build()
-        .writeTo(processingEnv.filer)
-
-    private fun getBasePackage() =
-        if (matcherConfiguration.generation.packageConfig.value.isBlank()
-        ) baseType.packageElement.toString()
-        else "${
-            matcherConfiguration.generation.packageConfig.value.replace(
-                Regex("\\.+$"),
-                ""
-            )
-        }.${baseType.packageElement}"
+    fun generate() {
+        JavaFile.builder(
+            baseType.basePackage,
+            getPreparedTypeSpecBuilder()
+                .build()
+        ).build()
+            .writeTo(processingEnv.filer)
+
+        if (isPropertyConstantsGeneration)
+            JavaFile.builder(
+                baseType.basePackage,
+                getPreparedPropertiesTypeSpecBuilder()
+                    .build()
+            ).build()
+                .writeTo(processingEnv.filer)
+    }
+
+    private val TypeElement.basePackage
+        get() =
+            if (matcherConfiguration.generation.packageConfig.value.isBlank()
+            ) packageElement.toString()
+            else "${
+                matcherConfiguration.generation.packageConfig.value.replace(
+                    Regex("\\.+$"),
+                    ""
+                )
+            }.${packageElement}"
 
     private fun getPreparedTypeSpecBuilder(): TypeSpec.Builder {
         val classBuilder = TypeSpec.classBuilder(simpleMatcherName)
             .addModifiers(Modifier.PUBLIC)
             .addAnnotation(getGeneratedAnnotation())
-            .superclass(getSuperClass())
-            .addFields(getFields())
-            .addMethod(getConstructor())
-            .addMethods(getPropertyHamcrestMatcherMethods())
-            .addMethods(getPropertyEqualsMatcherMethods())
-            .addMethods(getMatcherMethods())
+
+        if (isDirectPropertyAccess)
+            classBuilder
+                .superclass(getDirectSuperClass())
+                .addMethod(getDirectConstructor())
+                .addMethods(getPropertyHamcrestMatcherMethods())
+                .addMethods(getPropertyGeneratedMatcherMethods())
+                .addMethods(getPropertyEqualsMatcherMethods())
+                .addMethods(getPropertyPrimitiveMatcherMethods())
+                .addMethods(getPropertyCollectionMatcherMethods())
+        else
+            classBuilder
+                .superclass(getSuperClass())
+                .addSuperinterface(getSuperInterface())
+                .addFields(getFields())
+                .addMethod(getConstructor())
+                .addMethods(getPropertyHamcrestMatcherMethods())
+                .addMethods(getPropertyGeneratedMatcherMethods())
+                .addMethods(getPropertyEqualsMatcherMethods())
+                .addMethods(getPropertyCollectionMatcherMethods())
+                .addMethods(getMatcherMethods())
+                .apply { if (isSnapshotGeneration) addMethod(getForSnapshotsMethod()) }
+
+        classBuilder
             .addMethod(getApiInitializer())
+            .apply {
+                if (isSnapshotGeneration)
+                    addMethod(getSnapshotFactory())
+                        .addType(getSnapshotType())
+            }
             .addTypes(getInnerMatchers())
             .addOriginatingElement(baseType)
 
@@ -62,6 +110,86 @@ class MatcherGenerator(
         return classBuilder
     }
 
+    private fun getPreparedPropertiesTypeSpecBuilder(): TypeSpec.Builder {
+        val classBuilder = TypeSpec.classBuilder(simplePropertiesName)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addAnnotation(getGeneratedAnnotation())
+            .addFields(getPropertyConstants())
+            .addMethod(
+                MethodSpec.constructorBuilder()
+                    .addModifiers(Modifier.PRIVATE)
+                    .build()
+            )
+            .addTypes(getInnerPropertiesTypes())
+            .addOriginatingElement(baseType)
+
+        additionalOriginationElements.forEach { classBuilder.addOriginatingElement(it) }
+
+        return classBuilder
+    }
+
+    private val isPropertyConstantsGeneration = matcherConfiguration.generation.propertyConstants
+
+    private val simplePropertiesName =
+        "${processingEnv.typeUtils.getDeclaredType(baseType).asElement().simpleName}Properties"
+
+    private fun getPropertyConstants() =
+        baseType.properties
+            .filter { !isConflictingProperty(it.name) }
+            .map {
+                val valueType = it.type.typeVarsToWildcards(true)
+                val extractorType = ParameterizedTypeName.get(
+                    ClassName.get(PropertyExtractor::class.java),
+                    baseType.typeNameWithWildCards,
+                    valueType
+                )
+                FieldSpec.builder(
+                    extractorType,
+                    it.name.toConstantName(),
+                    Modifier.PUBLIC,
+                    Modifier.STATIC,
+                    Modifier.FINAL
+                ).initializer(
+                    "\$L",
+                    TypeSpec.anonymousClassBuilder("\$S", it.name)
+                        .superclass(extractorType)
+                        .addMethod(
+                            methodBuilder("apply")
+                                .addAnnotation(Override::class.java)
+                                .addModifiers(Modifier.PUBLIC)
+                                .returns(valueType)
+                                .addParameter(baseType.typeNameWithWildCards, "item", Modifier.FINAL)
+                                .addStatement("return item.\$L()", it.accessor)
+                                .build()
+                        )
+                        .build()
+                ).build()
+            }
+
+    private fun String.toConstantName() =
+        replace(Regex("([a-z0-9])([A-Z])"), "$1_$2")
+            .replace(Regex("([A-Z])([A-Z][a-z])"), "$1_$2")
+            .uppercase()
+
+    private fun getInnerPropertiesTypes() =
+        baseType.enclosedElements
+            .filterIsInstance(TypeElement::class.java)
+            .filter { it.modifiers.contains(Modifier.PUBLIC) }
+            .map {
+                MatcherGenerator(
+                    processingEnv,
+                    it,
+                    generationTimeStamp,
+                    generationMarker,
+                    listOf<Element>(baseType) + additionalOriginationElements,
+                    matcherConfigurationMirror,
+                    matcherConfiguration,
+                    generatedTypes
+                ).getPreparedPropertiesTypeSpecBuilder()
+                    .addModifiers(Modifier.STATIC)
+                    .build()
+            }
+
     private fun getPropertyHamcrestMatcherMethods(): List<MethodSpec> {
         return baseType.properties
             .distinctBy { it.name }
@@ -77,6 +205,48 @@ class MatcherGenerator(
         .contains(propertyName)
 
 
+    private fun getPropertyGeneratedMatcherMethods() =
+        baseType.properties
+            .filter { !isConflictingProperty(it.name) }
+            .mapNotNull { it.toGeneratedMatcher() }
+
+    private fun Property.toGeneratedMatcher() =
+        generatedMatcherTypeName?.let {
+            methodBuilder("with${name.capitalized}")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(it, "matcher", Modifier.FINAL)
+                .apply {
+                    if (isDirectPropertyAccess)
+                        addPropertyCheckStatement(this@toGeneratedMatcher, CodeBlock.of("matcher"))
+                    else
+                        addJavadoc(
+                            "Only the property itself is read by a direct getter call. The given matcher reads the\n" +
+                                    "properties of the nested bean reflectively, unless it is generated with direct\n" +
+                                    "property access as well.\n"
+                        ).addStatement(
+                            "\$L.with(\$S, \$T::\$L, matcher)",
+                            builderFieldName,
+                            name,
+                            ClassName.get(baseType),
+                            accessor
+                        )
+                }
+                .addStatement("return this")
+                .returns(getGeneratedTypeName())
+                .build()
+        }
+
+    private val Property.generatedMatcherTypeName: ClassName?
+        get() = if (type.kind == TypeKind.DECLARED) type.asTypeElement().generatedMatcherTypeName else null
+
+    private val TypeElement.generatedMatcherTypeName: ClassName?
+        get() = enclosingElement.let { enclosingElement ->
+            if (enclosingElement is TypeElement)
+                if (isPublic) enclosingElement.generatedMatcherTypeName?.nestedClass("${simpleName}Matcher") else null
+            else if (this in generatedTypes) ClassName.get(basePackage, "${simpleName}Matcher")
+            else null
+        }
+
     private fun getPropertyEqualsMatcherMethods() =
         baseType.properties
             .map { it.toEqualsMatcher() }
@@ -90,11 +260,12 @@ class MatcherGenerator(
                 "matcher",
                 Modifier.FINAL
             )
-            .addStatement(
-                "\$L.with(\$S, matcher)",
-                builderFieldName,
-                name
-            )
+            .apply {
+                if (isDirectPropertyAccess && type.kind.isPrimitive)
+                    addDirectPropertyCheckStatement(this@toHamcrestMatcher, primitivePropertyCheckName, "matcher")
+                else
+                    addPropertyCheckStatement(this@toHamcrestMatcher, CodeBlock.of("matcher"))
+            }
             .addStatement(
                 "return this"
             )
@@ -118,14 +289,154 @@ class MatcherGenerator(
                 toEqualsMatcherParameterType(),
                 "value", Modifier.FINAL
             )
-            .addStatement(
-                "\$L.with(\$S, \$T.equalTo(value))", builderFieldName, name,
-                Matchers::class.java
-            )
+            .apply {
+                if (isDirectPropertyAccess && type.kind.isPrimitive)
+                    addDirectPropertyCheckStatement(this@toEqualsMatcher, primitivePropertyCheckName, "value")
+                else if (isDirectPropertyAccess)
+                    addDirectPropertyCheckStatement(this@toEqualsMatcher, "EqualityPropertyCheck", "value")
+                else if (type.kind == TypeKind.ARRAY)
+                    addPropertyCheckStatement(
+                        this@toEqualsMatcher,
+                        CodeBlock.of("\$T.arrayEqualTo(value)", ArrayEqualityMatcher::class.java)
+                    )
+                else
+                    addPropertyCheckStatement(
+                        this@toEqualsMatcher,
+                        CodeBlock.of("\$T.equalTo(value)", Matchers::class.java)
+                    )
+            }
+            .addStatement("return this")
+            .returns(getGeneratedTypeName())
+            .build()
+
+    private val Property.primitivePropertyCheckName
+        get() = "${type.kind.name.lowercase().capitalized}PropertyCheck"
+
+    private fun getPropertyPrimitiveMatcherMethods() =
+        baseType.properties
+            .filter { it.type.kind.isPrimitive }
+            .flatMap { listOfNotNull(it.toRangeMatcher(), it.toCloseToMatcher()) }
+
+    private fun Property.toRangeMatcher() =
+        when (type.kind) {
+            TypeKind.BYTE, TypeKind.SHORT, TypeKind.INT -> "IntRangePropertyCheck"
+            TypeKind.CHAR -> "CharRangePropertyCheck"
+            TypeKind.LONG -> "LongRangePropertyCheck"
+            TypeKind.FLOAT, TypeKind.DOUBLE -> "DoubleRangePropertyCheck"
+            else -> null
+        }?.let {
+            methodBuilder("with${name.capitalized}Between")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(get(type), "min", Modifier.FINAL)
+                .addParameter(get(type), "max", Modifier.FINAL)
+                .addDirectPropertyCheckStatement(this, it, "min, max")
+                .addStatement("return this")
+                .returns(getGeneratedTypeName())
+                .build()
+        }
+
+    private fun Property.toCloseToMatcher() =
+        if (type.kind != TypeKind.FLOAT && type.kind != TypeKind.DOUBLE) null
+        else methodBuilder("with${name.capitalized}CloseTo")
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(get(type), "value", Modifier.FINAL)
+            .addParameter(get(type), "error", Modifier.FINAL)
+            .addDirectPropertyCheckStatement(this, "CloseToPropertyCheck", "value, error")
+            .addStatement("return this")
+            .returns(getGeneratedTypeName())
+            .build()
+
+    private fun getPropertyCollectionMatcherMethods() =
+        baseType.properties
+            .filter { !isConflictingProperty(it.name) }
+            .flatMap { property ->
+                property.type.typeArgumentsOf(Collection::class.java)?.let {
+                    listOf(
+                        property.toSizeFirstMatcher("ContainingExactly", "containingExactly", "elements", it.firstOrNull()),
+                        property.toSizeFirstMatcher("ContainingInAnyOrder", "containingInAnyOrder", "elements", it.firstOrNull()),
+                        property.toOfSizeMatcher()
+                    )
+                } ?: property.type.typeArgumentsOf(Map::class.java)?.let {
+                    listOf(
+                        property.toSizeFirstMatcher("ContainingKeys", "containingKeys", "keys", it.firstOrNull()),
+                        property.toOfSizeMatcher()
+                    )
+                } ?: emptyList()
+            }
+
+    private fun Property.toSizeFirstMatcher(
+        suffix: String,
+        factoryMethod: String,
+        parameterName: String,
+        elementType: TypeMirror?
+    ) = methodBuilder("with${name.capitalized}$suffix")
+        .addModifiers(Modifier.PUBLIC)
+        .addParameter(elementType.toElementsParameterType(), parameterName, Modifier.FINAL)
+        .addPropertyCheckStatement(
+            this,
+            CodeBlock.of("\$T.\$L(\$L)", SizeFirstMatcher::class.java, factoryMethod, parameterName)
+        )
+        .addStatement("return this")
+        .returns(getGeneratedTypeName())
+        .build()
+
+    private fun Property.toOfSizeMatcher() =
+        methodBuilder("with${name.capitalized}OfSize")
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(INT, "size", Modifier.FINAL)
+            .addPropertyCheckStatement(this, CodeBlock.of("\$T.ofSize(size)", SizeFirstMatcher::class.java))
             .addStatement("return this")
             .returns(getGeneratedTypeName())
             .build()
 
+    private fun TypeMirror?.toElementsParameterType() =
+        ParameterizedTypeName.get(
+            ClassName.get(Collection::class.java),
+            WildcardTypeName.subtypeOf(
+                (if (this is WildcardType) extendsBound else this)?.typeVarsToWildcards(true) ?: OBJECT
+            )
+        )
+
+    private fun TypeMirror.typeArgumentsOf(type: Class<*>): List<TypeMirror>? =
+        when {
+            kind != TypeKind.DECLARED -> null
+            asTypeElement().qualifiedName.contentEquals(type.canonicalName) -> (this as DeclaredType).typeArguments
+            else -> processingEnv.typeUtils.directSupertypes(this)
+                .asSequence()
+                .mapNotNull { it.typeArgumentsOf(type) }
+                .firstOrNull()
+        }
+
+    private fun MethodSpec.Builder.addDirectPropertyCheckStatement(
+        property: Property,
+        checkName: String,
+        arguments: String
+    ) = addStatement(
+        "add\$L(\$S, \$T::\$L, \$L)",
+        checkName,
+        property.name,
+        ClassName.get(baseType),
+        property.accessor,
+        arguments
+    )
+
+    private fun MethodSpec.Builder.addPropertyCheckStatement(property: Property, matcher: CodeBlock) =
+        if (isDirectPropertyAccess)
+            addStatement(
+                "addPropertyCheck(\$S, \$T::\$L, \$L)",
+                property.name,
+                ClassName.get(baseType),
+                property.accessor,
+                matcher
+            )
+        else
+            addStatement(
+                "\$L.with(\$S, \$L)",
+                builderFieldName,
+                property.name,
+                matcher
+            )
+
     private fun Property.toEqualsMatcherParameterType(): TypeName =
         if (type.kind == TypeKind.TYPEVAR) get(Object::class.java)
         else {
@@ -187,13 +498,243 @@ class MatcherGenerator(
             getBuilderFieldType(),
             processingEnv.typeUtils.getDeclaredType(baseType),
         )
+        .addRuntimeConfigurationStatements(CodeBlock.of("\$L.", builderFieldName))
         .build()
 
+    private fun MethodSpec.Builder.addRuntimeConfigurationStatements(receiver: CodeBlock) = apply {
+        if (evaluationOrder != EvaluationOrder.DECLARED)
+            addStatement(
+                "\$LinEvaluationOrder(\$T.\$L)",
+                receiver,
+                EvaluationOrder::class.java,
+                evaluationOrder.name
+            )
+        if (descriptionBudget.isLimited)
+            addStatement(
+                "\$LwithinDescriptionBudget(\$T.of(\$L, \$L, \$L))",
+                receiver,
+                DescriptionBudget::class.java,
+                descriptionBudget.maxLength.toLimitCode(),
+                descriptionBudget.maxElements.toLimitCode(),
+                descriptionBudget.maxDepth.toLimitCode()
+            )
+        if (concurrentPropertyReadTimeoutMillis > 0)
+            addStatement(
+                "\$LreadingPropertiesConcurrently(\$T.ofMillis(\$LL))",
+                receiver,
+                Duration::class.java,
+                concurrentPropertyReadTimeoutMillis
+            )
+    }
+
+    private val DescriptionBudgetConfiguration.isLimited
+        get() = listOf(maxLength, maxElements, maxDepth).any { it != DescriptionBudget.UNLIMITED }
+
+    private fun Int.toLimitCode() =
+        if (this == DescriptionBudget.UNLIMITED) CodeBlock.of("\$T.UNLIMITED", DescriptionBudget::class.java)
+        else CodeBlock.of("\$L", this)
+
+    private val evaluationOrder = matcherConfiguration.generation.evaluationOrder
+
+    private val descriptionBudget = matcherConfiguration.generation.descriptionBudget
+
+    private val concurrentPropertyReadTimeoutMillis =
+        matcherConfiguration.generation.concurrentPropertyReadTimeoutMillis
+
+    private val isDirectPropertyAccess =
+        matcherConfiguration.generation.propertyAccess == PropertyAccess.DIRECT || baseType.isRecord
+
+    private val isSnapshotGeneration = matcherConfiguration.generation.snapshots
+
+    private fun getForSnapshotsMethod(): MethodSpec {
+        val snapshotType = TypeVariableName.get("S", PropertySnapshot::class.java)
+        return methodBuilder("forSnapshots")
+            .addModifiers(Modifier.PUBLIC)
+            .addTypeVariable(snapshotType)
+            .addStatement("return \$L.forSnapshots()", builderFieldName)
+            .returns(ParameterizedTypeName.get(ClassName.get(Matcher::class.java), snapshotType))
+            .build()
+    }
+
+    private fun getSnapshotFactory() =
+        methodBuilder("snapshot")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addParameter(baseType.typeNameWithWildCards, "item", Modifier.FINAL)
+            .addStatement("return new \$T(item)", getSnapshotTypeName())
+            .returns(getSnapshotTypeName())
+            .build()
+
+    private fun getSnapshotTypeName() =
+        ClassName.get("", simpleSnapshotName)
+
+    private val simpleSnapshotName = "${processingEnv.typeUtils.getDeclaredType(baseType).asElement().simpleName}Snapshot"
+
+    private val snapshotProperties
+        get() = baseType.properties
+            .filter { !isConflictingProperty(it.name) }
+
+    private fun getSnapshotType() = TypeSpec.classBuilder(simpleSnapshotName)
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+        .addSuperinterface(PropertySnapshot::class.java)
+        .addField(snapshotTypeTypeName, "snapshotType", Modifier.PRIVATE, Modifier.FINAL)
+        .addFields(snapshotProperties.map {
+            FieldSpec.builder(
+                it.toEqualsMatcherParameterType(),
+                it.snapshotFieldName,
+                Modifier.PRIVATE,
+                Modifier.FINAL
+            ).build()
+        })
+        .addMethod(getSnapshotConstructor())
+        .addMethods(getSnapshotAccessors())
+        .addMethod(getSnapshotTypeMethod())
+        .addMethod(getSnapshotPropertyValueMethod())
+        .addMethod(getSnapshotEqualsMethod())
+        .addMethod(getSnapshotHashCodeMethod())
+        .addMethod(getSnapshotToStringMethod())
+        .build()
+
+    private val Property.snapshotFieldName
+        get() = if (SourceVersion.isKeyword(name)) "${name}Value" else name
+
+    private fun getSnapshotConstructor() = MethodSpec.constructorBuilder()
+        .addModifiers(Modifier.PRIVATE)
+        .addParameter(baseType.typeNameWithWildCards, "item", Modifier.FINAL)
+        .addStatement("this.snapshotType = item.getClass()")
+        .apply {
+            snapshotProperties.forEach {
+                addStatement("this.\$L = item.\$L()", it.snapshotFieldName, it.accessor)
+            }
+        }
+        .build()
+
+    // getClass() is final, so the class is only available as property value of the snapshot
+    private fun getSnapshotAccessors() =
+        snapshotProperties
+            .filter { it.accessor != "getClass" }
+            .map {
+                methodBuilder(it.accessor)
+                    .addModifiers(Modifier.PUBLIC)
+                    .addStatement("return \$L", it.snapshotFieldName)
+                    .returns(it.toEqualsMatcherParameterType())
+                    .build()
+            }
+
+    // The item may be an instance of a subtype, so the type is taken from the item instead of the base type
+    private fun getSnapshotTypeMethod() = methodBuilder("getSnapshotType")
+        .addModifiers(Modifier.PUBLIC)
+        .addAnnotation(Override::class.java)
+        .addStatement("return snapshotType")
+        .returns(snapshotTypeTypeName)
+        .build()
+
+    private val snapshotTypeTypeName =
+        ParameterizedTypeName.get(ClassName.get(Class::class.java), WildcardTypeName.subtypeOf(OBJECT))
+
+    private fun getSnapshotPropertyValueMethod() = methodBuilder("getPropertyValue")
+        .addModifiers(Modifier.PUBLIC)
+        .addAnnotation(Override::class.java)
+        .addParameter(String::class.java, "propertyName", Modifier.FINAL)
+        .beginControlFlow("switch (propertyName)")
+        .apply {
+            snapshotProperties.forEach {
+                addCode("case \$S:\n", it.name)
+                addStatement("\$>return this.\$L\$<", it.snapshotFieldName)
+            }
+        }
+        .addCode("default:\n")
+        .addStatement(
+            "\$>throw new \$T(\$S + propertyName + \$S)\$<",
+            IllegalArgumentException::class.java,
+            "No property \"",
+            "\""
+        )
+        .endControlFlow()
+        .returns(OBJECT)
+        .build()
+
+    private fun getSnapshotEqualsMethod() = methodBuilder("equals")
+        .addModifiers(Modifier.PUBLIC)
+        .addAnnotation(Override::class.java)
+        .addParameter(OBJECT, "other", Modifier.FINAL)
+        .beginControlFlow("if (this == other)")
+        .addStatement("return true")
+        .endControlFlow()
+        .beginControlFlow("if (other == null || getClass() != other.getClass())")
+        .addStatement("return false")
+        .endControlFlow()
+        .apply {
+            if (snapshotProperties.isEmpty())
+                addStatement("return true")
+            else
+                addStatement("final \$T snapshot = (\$T) other", getSnapshotTypeName(), getSnapshotTypeName())
+                    .addStatement(
+                        "return \$L",
+                        snapshotProperties
+                            .map {
+                                CodeBlock.of(
+                                    "\$T.equals(this.\$L, snapshot.\$L)",
+                                    Objects::class.java,
+                                    it.snapshotFieldName,
+                                    it.snapshotFieldName
+                                )
+                            }
+                            .let { CodeBlock.join(it, " && ") }
+                    )
+        }
+        .returns(BOOLEAN)
+        .build()
+
+    private fun getSnapshotHashCodeMethod() = methodBuilder("hashCode")
+        .addModifiers(Modifier.PUBLIC)
+        .addAnnotation(Override::class.java)
+        .addStatement(
+            "return \$T.hash(\$L)",
+            Objects::class.java,
+            snapshotProperties.joinToString(", ") { it.snapshotFieldName }
+        )
+        .returns(INT)
+        .build()
+
+    private fun getSnapshotToStringMethod() = methodBuilder("toString")
+        .addModifiers(Modifier.PUBLIC)
+        .addAnnotation(Override::class.java)
+        .addStatement(
+            "return \$S\$L + \$S",
+            "$simpleSnapshotName[",
+            snapshotProperties
+                .mapIndexed { index, it ->
+                    CodeBlock.of(
+                        " + \$S + \$L",
+                        (if (index == 0) "" else ", ") + "${it.name}=",
+                        it.snapshotFieldName
+                    )
+                }
+                .let { CodeBlock.join(it, "") },
+            "]"
+        )
+        .returns(String::class.java)
+        .build()
+
+    private fun getDirectSuperClass() = ParameterizedTypeName.get(
+        ClassName.get(DirectPropertyMatcher::class.java),
+        baseType.typeNameWithWildCards
+    )
+
+    private fun getDirectConstructor() = MethodSpec.constructorBuilder()
+        .addModifiers(Modifier.PUBLIC)
+        .addStatement(
+            "super(\$T.class)",
+            processingEnv.typeUtils.getDeclaredType(baseType),
+        )
+        .addRuntimeConfigurationStatements(CodeBlock.of(""))
+        .build()
 
     private fun getMatcherMethods() = listOf(
         getDescribeToMethod(),
         getMatchesSafelyMethod(),
-        getDescribeMissmatchSafelyMethod()
+        getDescribeMissmatchSafelyMethod(),
+        getExpectedClassMethod()
     )
 
     private fun getDescribeToMethod() = methodBuilder("describeTo")
@@ -233,6 +774,18 @@ class MatcherGenerator(
             .addModifiers(Modifier.PROTECTED).build()
 
 
+    private fun getExpectedClassMethod() = methodBuilder("getExpectedClass")
+        .addAnnotation(Override::class.java)
+        .addModifiers(Modifier.PUBLIC)
+        .addStatement("return \$L.getExpectedClass()", builderFieldName)
+        .returns(
+            ParameterizedTypeName.get(
+                ClassName.get(Class::class.java),
+                WildcardTypeName.supertypeOf(baseType.typeNameWithWildCards)
+            )
+        )
+        .build()
+
     private fun getFields() = listOf(
         FieldSpec.builder(
             getBuilderFieldType(),
@@ -254,6 +807,11 @@ class MatcherGenerator(
         baseType.typeNameWithWildCards
     )
 
+    private fun getSuperInterface() = ParameterizedTypeName.get(
+        ClassName.get(TypedMatcher::class.java),
+        baseType.typeNameWithWildCards
+    )
+
     private fun getInnerMatchers(): List<TypeSpec> {
         val innerMatcherBases = baseType.enclosedElements
             .filterIsInstance(TypeElement::class.java)
@@ -270,7 +828,8 @@ class MatcherGenerator(
                     generationMarker,
                     listOf<Element>(baseType) + additionalOriginationElements,
                     matcherConfigurationMirror,
-                    matcherConfiguration
+                    matcherConfiguration,
+                    generatedTypes
                 ).getPreparedTypeSpecBuilder()
                     .addModifiers(Modifier.STATIC)
                     .build()
@@ -287,18 +846,38 @@ class MatcherGenerator(
     }
 
     private val TypeElement.properties: List<Property>
-        get() = transitiveInheritedElements
+        get() = recordComponentAccessors
+            .map {
+                Property(
+                    name = it.simpleName.toString(),
+                    type = it.returnType,
+                    accessor = it.simpleName.toString()
+                )
+            } + transitiveInheritedElements
             .filter { it.isProperty }
             .distinctBy { it.simpleName }
             .map { it as ExecutableElement }
+            .filter { it !in recordComponentAccessors }
             .map {
                 Property(
                     name = it.simpleName.withoutPropertyPrefix(),
                     type = it.returnType,
-                    accessor = it.toString()
+                    accessor = it.simpleName.toString()
                 )
             }
 
+    private val TypeElement.isRecord
+        get() = kind.name == "RECORD"
+
+    private val TypeElement.recordComponentAccessors: List<ExecutableElement>
+        get() = enclosedElements
+            .filter { it.kind.name == "RECORD_COMPONENT" }
+            .map { component ->
+                enclosedElements
+                    .filterIsInstance(ExecutableElement::class.java)
+                    .single { it.simpleName.contentEquals(component.simpleName) && it.hasNoParameters() }
+            }
+
     private val TypeElement.transitiveInheritedElements: List<Element>
         get() = if (superclass.kind != TypeKind.NONE)
             enclosedElements +
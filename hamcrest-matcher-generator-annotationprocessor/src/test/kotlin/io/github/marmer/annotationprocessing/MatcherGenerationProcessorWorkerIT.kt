@@ -6,6 +6,8 @@ import com.google.testing.compile.JavaSourcesSubjectFactory
 import org.intellij.lang.annotations.Language
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.condition.EnabledForJreRange
+import org.junit.jupiter.api.condition.JRE
 import java.time.LocalDateTime
 import java.util.*
 
@@ -84,6 +86,7 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Boolean;
             import java.lang.Class;
             import java.lang.Override;
@@ -95,7 +98,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
+            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> implements TypedMatcher<SimplePojo> {
                 private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
             
                 public SimplePojoMatcher() {
@@ -157,12 +160,17 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SimplePojo> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class InnerStaticPojoMatcher extends TypeSafeMatcher<SimplePojo.InnerStaticPojo> {
+                public static class InnerStaticPojoMatcher extends TypeSafeMatcher<SimplePojo.InnerStaticPojo> implements TypedMatcher<SimplePojo.InnerStaticPojo> {
                     private final BeanPropertyMatcher<SimplePojo.InnerStaticPojo> beanPropertyMatcher;
             
                     public InnerStaticPojoMatcher() {
@@ -204,11 +212,16 @@ internal class MatcherGenerationProcessorIT {
                         beanPropertyMatcher.describeMismatch(item, description);
                     }
             
+                    @Override
+                    public Class<? super SimplePojo.InnerStaticPojo> getExpectedClass() {
+                        return beanPropertyMatcher.getExpectedClass();
+                    }
+            
                     public static InnerStaticPojoMatcher isInnerStaticPojo() {
                         return new InnerStaticPojoMatcher();
                     }
                     @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                    public static class InnerInnerStaticPojoMatcher extends TypeSafeMatcher<SimplePojo.InnerStaticPojo.InnerInnerStaticPojo> {
+                    public static class InnerInnerStaticPojoMatcher extends TypeSafeMatcher<SimplePojo.InnerStaticPojo.InnerInnerStaticPojo> implements TypedMatcher<SimplePojo.InnerStaticPojo.InnerInnerStaticPojo> {
                         private final BeanPropertyMatcher<SimplePojo.InnerStaticPojo.InnerInnerStaticPojo> beanPropertyMatcher;
             
                         public InnerInnerStaticPojoMatcher() {
@@ -240,6 +253,11 @@ internal class MatcherGenerationProcessorIT {
                             beanPropertyMatcher.describeMismatch(item, description);
                         }
             
+                        @Override
+                        public Class<? super SimplePojo.InnerStaticPojo.InnerInnerStaticPojo> getExpectedClass() {
+                            return beanPropertyMatcher.getExpectedClass();
+                        }
+            
                         public static InnerInnerStaticPojoMatcher isInnerInnerStaticPojo() {
                             return new InnerInnerStaticPojoMatcher();
                         }
@@ -286,6 +304,8 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
+            import java.lang.Class;
             import java.lang.Override;
             import java.lang.String;
             import javax.annotation.processing.Generated;
@@ -295,7 +315,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> {
+            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> implements TypedMatcher<SimplePojoInterface> {
                 private final BeanPropertyMatcher<SimplePojoInterface> beanPropertyMatcher;
             
                 public SimplePojoInterfaceMatcher() {
@@ -327,6 +347,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
                 
+                @Override
+                public Class<? super SimplePojoInterface> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+                
                 public static SimplePojoInterfaceMatcher isSimplePojoInterface() {
                     return new SimplePojoInterfaceMatcher();
                 }
@@ -372,6 +397,8 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
+            import java.lang.Class;
             import java.lang.Override;
             import java.lang.String;
             import javax.annotation.processing.Generated;
@@ -381,7 +408,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> {
+            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> implements TypedMatcher<SimplePojoInterface> {
                 private final BeanPropertyMatcher<SimplePojoInterface> beanPropertyMatcher;
             
                 public SimplePojoInterfaceMatcher() {
@@ -418,6 +445,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
                 
+                @Override
+                public Class<? super SimplePojoInterface> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+                
                 public static SimplePojoInterfaceMatcher isSimplePojoInterface() {
                     return new SimplePojoInterfaceMatcher();
                 }
@@ -493,6 +525,8 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
+            import java.lang.Class;
             import java.lang.Override;
             import java.lang.String;
             import javax.annotation.processing.Generated;
@@ -502,7 +536,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> {
+            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> implements TypedMatcher<SimplePojoInterface> {
                 private final BeanPropertyMatcher<SimplePojoInterface> beanPropertyMatcher;
             
                 public SimplePojoInterfaceMatcher() {
@@ -534,6 +568,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
                 
+                @Override
+                public Class<? super SimplePojoInterface> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+                
                 public static SimplePojoInterfaceMatcher isSimplePojoInterface() {
                     return new SimplePojoInterfaceMatcher();
                 }
@@ -582,6 +621,8 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
+            import java.lang.Class;
             import java.lang.Override;
             import java.lang.String;
             import javax.annotation.processing.Generated;
@@ -591,7 +632,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> {
+            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> implements TypedMatcher<SimplePojoInterface> {
                 private final BeanPropertyMatcher<SimplePojoInterface> beanPropertyMatcher;
             
                 public SimplePojoInterfaceMatcher() {
@@ -623,6 +664,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
                 
+                @Override
+                public Class<? super SimplePojoInterface> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+                
                 public static SimplePojoInterfaceMatcher isSimplePojoInterface() {
                     return new SimplePojoInterfaceMatcher();
                 }
@@ -681,17 +727,19 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.OutputClass", """
             package some.other.pck;
             
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.ArrayEqualityMatcher;
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
+            import java.lang.Class;
             import java.lang.Override;
             import java.lang.String;
             import javax.annotation.processing.Generated;
             import org.hamcrest.Description;
             import org.hamcrest.Matcher;
-            import org.hamcrest.Matchers;
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> {
+            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> implements TypedMatcher<SimplePojoInterface> {
                 private final BeanPropertyMatcher<SimplePojoInterface> beanPropertyMatcher;
             
                 public SimplePojoInterfaceMatcher() {
@@ -724,27 +772,27 @@ internal class MatcherGenerationProcessorIT {
                 }
             
                 public SimplePojoInterfaceMatcher withSomeStringArray(final String[] value) {
-                    beanPropertyMatcher.with("someStringArray", Matchers.equalTo(value));
+                    beanPropertyMatcher.with("someStringArray", ArrayEqualityMatcher.arrayEqualTo(value));
                     return this;
                 }
             
                 public SimplePojoInterfaceMatcher withSomeMultidimensionalStringArray(final String[][] value) {
-                    beanPropertyMatcher.with("someMultidimensionalStringArray", Matchers.equalTo(value));
+                    beanPropertyMatcher.with("someMultidimensionalStringArray", ArrayEqualityMatcher.arrayEqualTo(value));
                     return this;
                 }
             
                 public SimplePojoInterfaceMatcher withSomeInnerTypeArray(final AnotherComplexType.SomeInnerType[] value) {
-                    beanPropertyMatcher.with("someInnerTypeArray", Matchers.equalTo(value));
+                    beanPropertyMatcher.with("someInnerTypeArray", ArrayEqualityMatcher.arrayEqualTo(value));
                     return this;
                 }
             
                 public SimplePojoInterfaceMatcher withSomePrimitiveArray(final byte[] value) {
-                    beanPropertyMatcher.with("somePrimitiveArray", Matchers.equalTo(value));
+                    beanPropertyMatcher.with("somePrimitiveArray", ArrayEqualityMatcher.arrayEqualTo(value));
                     return this;
                 }
             
                 public SimplePojoInterfaceMatcher withSomeMultidimensionalPrimitiveArray(final byte[][] value) {
-                    beanPropertyMatcher.with("someMultidimensionalPrimitiveArray", Matchers.equalTo(value));
+                    beanPropertyMatcher.with("someMultidimensionalPrimitiveArray", ArrayEqualityMatcher.arrayEqualTo(value));
                     return this;
                 }
             
@@ -763,6 +811,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SimplePojoInterface> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SimplePojoInterfaceMatcher isSimplePojoInterface() {
                     return new SimplePojoInterfaceMatcher();
                 }
@@ -809,6 +862,7 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Class;
             import java.lang.Override;
             import javax.annotation.processing.Generated;
@@ -818,7 +872,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SomeClassMatcher extends TypeSafeMatcher<SomeClass> {
+            public class SomeClassMatcher extends TypeSafeMatcher<SomeClass> implements TypedMatcher<SomeClass> {
                 private final BeanPropertyMatcher<SomeClass> beanPropertyMatcher;
             
                 public SomeClassMatcher() {
@@ -850,12 +904,17 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
                 
+                @Override
+                public Class<? super SomeClass> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+                
                 public static SomeClassMatcher isSomeClass() {
                     return new SomeClassMatcher();
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class SomeNonStaticInnerClassMatcher extends TypeSafeMatcher<SomeClass.SomeNonStaticInnerClass> {
+                public static class SomeNonStaticInnerClassMatcher extends TypeSafeMatcher<SomeClass.SomeNonStaticInnerClass> implements TypedMatcher<SomeClass.SomeNonStaticInnerClass> {
                     private final BeanPropertyMatcher<SomeClass.SomeNonStaticInnerClass> beanPropertyMatcher;
             
                     public SomeNonStaticInnerClassMatcher() {
@@ -887,6 +946,11 @@ internal class MatcherGenerationProcessorIT {
                         beanPropertyMatcher.describeMismatch(item, description);
                     }
             
+                    @Override
+                    public Class<? super SomeClass.SomeNonStaticInnerClass> getExpectedClass() {
+                        return beanPropertyMatcher.getExpectedClass();
+                    }
+            
                     public static SomeNonStaticInnerClassMatcher isSomeNonStaticInnerClass() {
                         return new SomeNonStaticInnerClassMatcher();
                     }
@@ -933,6 +997,7 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Class;
             import java.lang.Override;
             import javax.annotation.processing.Generated;
@@ -942,7 +1007,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SomePojoMatcher extends TypeSafeMatcher<SomePojo> {
+            public class SomePojoMatcher extends TypeSafeMatcher<SomePojo> implements TypedMatcher<SomePojo> {
                 private final BeanPropertyMatcher<SomePojo> beanPropertyMatcher;
             
                 public SomePojoMatcher() {
@@ -974,12 +1039,17 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SomePojo> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SomePojoMatcher isSomePojo() {
                     return new SomePojoMatcher();
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class InnerInterfaceMatcher extends TypeSafeMatcher<SomePojo.InnerInterface> {
+                public static class InnerInterfaceMatcher extends TypeSafeMatcher<SomePojo.InnerInterface> implements TypedMatcher<SomePojo.InnerInterface> {
                     private final BeanPropertyMatcher<SomePojo.InnerInterface> beanPropertyMatcher;
             
                     public InnerInterfaceMatcher() {
@@ -1001,6 +1071,11 @@ internal class MatcherGenerationProcessorIT {
                         beanPropertyMatcher.describeMismatch(item, description);
                     }
             
+                    @Override
+                    public Class<? super SomePojo.InnerInterface> getExpectedClass() {
+                        return beanPropertyMatcher.getExpectedClass();
+                    }
+            
                     public static InnerInterfaceMatcher isInnerInterface() {
                         return new InnerInterfaceMatcher();
                     }
@@ -1049,6 +1124,7 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Class;
             import java.lang.Override;
             import java.lang.String;
@@ -1059,7 +1135,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoEnumMatcher extends TypeSafeMatcher<SimplePojoEnum> {
+            public class SimplePojoEnumMatcher extends TypeSafeMatcher<SimplePojoEnum> implements TypedMatcher<SimplePojoEnum> {
                 private final BeanPropertyMatcher<SimplePojoEnum> beanPropertyMatcher;
             
                 public SimplePojoEnumMatcher() {
@@ -1111,6 +1187,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
                 
+                @Override
+                public Class<? super SimplePojoEnum> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+                
                 public static SimplePojoEnumMatcher isSimplePojoEnum() {
                     return new SimplePojoEnumMatcher();
                 }
@@ -1171,6 +1252,7 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Class;
             import java.lang.Object;
             import java.lang.Override;
@@ -1182,7 +1264,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
+            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> implements TypedMatcher<SimplePojo> {
                 private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
             
                 public SimplePojoMatcher() {
@@ -1234,6 +1316,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
                 
+                @Override
+                public Class<? super SimplePojo> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+                
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -1294,6 +1381,7 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Class;
             import java.lang.Override;
             import javax.annotation.processing.Generated;
@@ -1303,7 +1391,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
+            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> implements TypedMatcher<SimplePojo> {
                 private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
             
                 public SimplePojoMatcher() {
@@ -1335,6 +1423,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SimplePojo> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -1380,6 +1473,7 @@ internal class MatcherGenerationProcessorIT {
             package org.mockito;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Class;
             import java.lang.Override;
             import javax.annotation.processing.Generated;
@@ -1389,7 +1483,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class ArgumentMatchersMatcher extends TypeSafeMatcher<ArgumentMatchers> {
+            public class ArgumentMatchersMatcher extends TypeSafeMatcher<ArgumentMatchers> implements TypedMatcher<ArgumentMatchers> {
                 private final BeanPropertyMatcher<ArgumentMatchers> beanPropertyMatcher;
             
                 public ArgumentMatchersMatcher() {
@@ -1421,6 +1515,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super ArgumentMatchers> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static ArgumentMatchersMatcher isArgumentMatchers() {
                     return new ArgumentMatchersMatcher();
                 }
@@ -1473,6 +1572,7 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Class;
             import java.lang.Override;
             import javax.annotation.processing.Generated;
@@ -1482,7 +1582,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojo1Matcher extends TypeSafeMatcher<SimplePojo1> {
+            public class SimplePojo1Matcher extends TypeSafeMatcher<SimplePojo1> implements TypedMatcher<SimplePojo1> {
                 private final BeanPropertyMatcher<SimplePojo1> beanPropertyMatcher;
             
                 public SimplePojo1Matcher() {
@@ -1514,6 +1614,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SimplePojo1> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SimplePojo1Matcher isSimplePojo1() {
                     return new SimplePojo1Matcher();
                 }
@@ -1524,6 +1629,7 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Class;
             import java.lang.Override;
             import javax.annotation.processing.Generated;
@@ -1533,7 +1639,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojo2Matcher extends TypeSafeMatcher<SimplePojo2> {
+            public class SimplePojo2Matcher extends TypeSafeMatcher<SimplePojo2> implements TypedMatcher<SimplePojo2> {
                 private final BeanPropertyMatcher<SimplePojo2> beanPropertyMatcher;
             
                 public SimplePojo2Matcher() {
@@ -1565,6 +1671,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SimplePojo2> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SimplePojo2Matcher isSimplePojo2() {
                     return new SimplePojo2Matcher();
                 }
@@ -1645,6 +1756,7 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Class;
             import java.lang.Override;
             import javax.annotation.processing.Generated;
@@ -1654,7 +1766,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
+            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> implements TypedMatcher<SimplePojo> {
                 private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
             
                 public SimplePojoMatcher() {
@@ -1686,6 +1798,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SimplePojo> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -1735,6 +1852,7 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Class;
             import java.lang.Override;
             import javax.annotation.processing.Generated;
@@ -1744,7 +1862,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
+            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> implements TypedMatcher<SimplePojo> {
                 private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
             
                 public SimplePojoMatcher() {
@@ -1756,6 +1874,16 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
+                /**
+                 * Only the property itself is read by a direct getter call. The given matcher reads the
+                 * properties of the nested bean reflectively, unless it is generated with direct
+                 * property access as well.
+                 */
+                public SimplePojoMatcher withSomeProperty(final InnerTypeMatcher.InnerEnumMatcher matcher) {
+                    beanPropertyMatcher.with("someProperty", SimplePojo::getSomeProperty, matcher);
+                    return this;
+                }
+            
                 public SimplePojoMatcher withSomeProperty(final SimplePojo.InnerType.InnerEnum value) {
                     beanPropertyMatcher.with("someProperty", Matchers.equalTo(value));
                     return this;
@@ -1776,12 +1904,17 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SimplePojo> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class InnerTypeMatcher extends TypeSafeMatcher<SimplePojo.InnerType> {
+                public static class InnerTypeMatcher extends TypeSafeMatcher<SimplePojo.InnerType> implements TypedMatcher<SimplePojo.InnerType> {
                     private final BeanPropertyMatcher<SimplePojo.InnerType> beanPropertyMatcher;
             
                     public InnerTypeMatcher() {
@@ -1804,12 +1937,17 @@ internal class MatcherGenerationProcessorIT {
                         beanPropertyMatcher.describeMismatch(item, description);
                     }
             
+                    @Override
+                    public Class<? super SimplePojo.InnerType> getExpectedClass() {
+                        return beanPropertyMatcher.getExpectedClass();
+                    }
+            
                     public static InnerTypeMatcher isInnerType() {
                         return new InnerTypeMatcher();
                     }
             
                     @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                    public static class InnerEnumMatcher extends TypeSafeMatcher<SimplePojo.InnerType.InnerEnum> {
+                    public static class InnerEnumMatcher extends TypeSafeMatcher<SimplePojo.InnerType.InnerEnum> implements TypedMatcher<SimplePojo.InnerType.InnerEnum> {
                         private final BeanPropertyMatcher<SimplePojo.InnerType.InnerEnum> beanPropertyMatcher;
             
                         public InnerEnumMatcher() {
@@ -1852,6 +1990,11 @@ internal class MatcherGenerationProcessorIT {
                             beanPropertyMatcher.describeMismatch(item, description);
                         }
             
+                        @Override
+                        public Class<? super SimplePojo.InnerType.InnerEnum> getExpectedClass() {
+                            return beanPropertyMatcher.getExpectedClass();
+                        }
+            
                         public static InnerEnumMatcher isInnerEnum() {
                             return new InnerEnumMatcher();
                         }
@@ -1900,13 +2043,15 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
+            import java.lang.Class;
             import java.lang.Override;
             import javax.annotation.processing.Generated;
             import org.hamcrest.Description;
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
+            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> implements TypedMatcher<SimplePojo> {
                 private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
             
                 public SimplePojoMatcher() {
@@ -1928,12 +2073,17 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SimplePojo> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class InnerTypeMatcher extends TypeSafeMatcher<SimplePojo.InnerType> {
+                public static class InnerTypeMatcher extends TypeSafeMatcher<SimplePojo.InnerType> implements TypedMatcher<SimplePojo.InnerType> {
                     private final BeanPropertyMatcher<SimplePojo.InnerType> beanPropertyMatcher;
             
                     public InnerTypeMatcher() {
@@ -1956,12 +2106,17 @@ internal class MatcherGenerationProcessorIT {
                         beanPropertyMatcher.describeMismatch(item, description);
                     }
             
+                    @Override
+                    public Class<? super SimplePojo.InnerType> getExpectedClass() {
+                        return beanPropertyMatcher.getExpectedClass();
+                    }
+            
                     public static InnerTypeMatcher isInnerType() {
                         return new InnerTypeMatcher();
                     }
             
                     @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                    public static class InnerInnerTypeMatcher extends TypeSafeMatcher<SimplePojo.InnerType.InnerInnerType> {
+                    public static class InnerInnerTypeMatcher extends TypeSafeMatcher<SimplePojo.InnerType.InnerInnerType> implements TypedMatcher<SimplePojo.InnerType.InnerInnerType> {
                         private final BeanPropertyMatcher<SimplePojo.InnerType.InnerInnerType> beanPropertyMatcher;
             
                         public InnerInnerTypeMatcher() {
@@ -1984,6 +2139,11 @@ internal class MatcherGenerationProcessorIT {
                             beanPropertyMatcher.describeMismatch(item, description);
                         }
             
+                        @Override
+                        public Class<? super SimplePojo.InnerType.InnerInnerType> getExpectedClass() {
+                            return beanPropertyMatcher.getExpectedClass();
+                        }
+            
                         public static InnerInnerTypeMatcher isInnerInnerType() {
                             return new InnerInnerTypeMatcher();
                         }
@@ -2031,6 +2191,8 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
+            import java.lang.Class;
             import java.lang.Override;
             import java.lang.String;
             import javax.annotation.processing.Generated;
@@ -2040,7 +2202,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
+            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> implements TypedMatcher<SimplePojo> {
                 private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
             
                 public SimplePojoMatcher() {
@@ -2067,6 +2229,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SimplePojo> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -2118,8 +2285,12 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.SizeFirstMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
+            import java.lang.Class;
             import java.lang.Object;
             import java.lang.Override;
+            import java.util.Collection;
             import java.util.List;
             import java.util.Map;
             import java.util.function.Consumer;
@@ -2132,7 +2303,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo<?, ?>> {
+            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo<?, ?>> implements TypedMatcher<SimplePojo<?, ?>> {
                 private final BeanPropertyMatcher<SimplePojo<?, ?>> beanPropertyMatcher;
             
                 public SimplePojoMatcher() {
@@ -2169,6 +2340,31 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
+                public SimplePojoMatcher withNestedGenericPropertyContainingKeys(final Collection<?> keys) {
+                    beanPropertyMatcher.with("nestedGenericProperty", SizeFirstMatcher.containingKeys(keys));
+                    return this;
+                }
+            
+                public SimplePojoMatcher withNestedGenericPropertyOfSize(final int size) {
+                    beanPropertyMatcher.with("nestedGenericProperty", SizeFirstMatcher.ofSize(size));
+                    return this;
+                }
+            
+                public SimplePojoMatcher withWildcardPropertyContainingExactly(final Collection<? extends Function<?, ? super Consumer<?>>> elements) {
+                    beanPropertyMatcher.with("wildcardProperty", SizeFirstMatcher.containingExactly(elements));
+                    return this;
+                }
+            
+                public SimplePojoMatcher withWildcardPropertyContainingInAnyOrder(final Collection<? extends Function<?, ? super Consumer<?>>> elements) {
+                    beanPropertyMatcher.with("wildcardProperty", SizeFirstMatcher.containingInAnyOrder(elements));
+                    return this;
+                }
+            
+                public SimplePojoMatcher withWildcardPropertyOfSize(final int size) {
+                    beanPropertyMatcher.with("wildcardProperty", SizeFirstMatcher.ofSize(size));
+                    return this;
+                }
+            
                 @Override
                 public void describeTo(final Description description) {
                     beanPropertyMatcher.describeTo(description);
@@ -2184,6 +2380,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SimplePojo<?, ?>> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -2250,6 +2451,7 @@ internal class MatcherGenerationProcessorIT {
             package some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
             import java.lang.Boolean;
             import java.lang.Byte;
             import java.lang.Character;
@@ -2267,7 +2469,7 @@ internal class MatcherGenerationProcessorIT {
             import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
+            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> implements TypedMatcher<SimplePojo> {
                 private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
             
                 public SimplePojoMatcher() {
@@ -2379,6 +2581,11 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SimplePojo> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -2469,6 +2676,8 @@ internal class MatcherGenerationProcessorIT {
             package my.base.pck.some.other.pck;
             
             import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
+            import java.lang.Class;
             import java.lang.Override;
             import javax.annotation.processing.Generated;
             import org.hamcrest.Description;
@@ -2476,7 +2685,7 @@ internal class MatcherGenerationProcessorIT {
             import some.other.pck.SomePojo;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SomePojoMatcher extends TypeSafeMatcher<SomePojo> {
+            public class SomePojoMatcher extends TypeSafeMatcher<SomePojo> implements TypedMatcher<SomePojo> {
                 private final BeanPropertyMatcher<SomePojo> beanPropertyMatcher;
             
                 public SomePojoMatcher() {
@@ -2499,12 +2708,17 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.describeMismatch(item, description);
                 }
             
+                @Override
+                public Class<? super SomePojo> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
                 public static SomePojoMatcher isSomePojo() {
                     return new SomePojoMatcher();
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class InnerInterfaceMatcher extends TypeSafeMatcher<SomePojo.InnerInterface> {
+                public static class InnerInterfaceMatcher extends TypeSafeMatcher<SomePojo.InnerInterface> implements TypedMatcher<SomePojo.InnerInterface> {
                     private final BeanPropertyMatcher<SomePojo.InnerInterface> beanPropertyMatcher;
             
                     public InnerInterfaceMatcher() {
@@ -2526,6 +2740,11 @@ internal class MatcherGenerationProcessorIT {
                         beanPropertyMatcher.describeMismatch(item, description);
                     }
             
+                    @Override
+                    public Class<? super SomePojo.InnerInterface> getExpectedClass() {
+                        return beanPropertyMatcher.getExpectedClass();
+                    }
+            
                     public static InnerInterfaceMatcher isInnerInterface() {
                         return new InnerInterfaceMatcher();
                     }
@@ -2542,4 +2761,1460 @@ internal class MatcherGenerationProcessorIT {
             .and()
             .generatesSources(expectedOutput)
     }
+
+    @Test
+    fun `Matchers should call property accessors directly if configured`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+            
+            @MatcherConfiguration(value = "some.other.pck.SimplePojo", generation = @GenerationConfiguration(propertyAccess = PropertyAccess.DIRECT))
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.SimplePojo", """
+            package some.other.pck;
+            
+            import java.util.List;
+            
+            public class SimplePojo<T>{
+                public String getSomeStringProperty(){
+                    return "someValue";
+                }
+                
+                public boolean isSomePrimitiveBooleanProperty(){
+                    return true;
+                }
+                
+                public List<T> getGenericProperty(){
+                    return null;
+                }
+                
+                public static class InnerStaticPojo{
+                    public String getInnerStaticPojoProperty(){
+                        return "an inner pojo property value";
+                    }
+                }
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SimplePojoMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.SizeFirstMatcher;
+            import java.lang.Boolean;
+            import java.lang.Class;
+            import java.lang.String;
+            import java.util.Collection;
+            import java.util.List;
+            import javax.annotation.processing.Generated;
+            import org.hamcrest.Matcher;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class SimplePojoMatcher extends DirectPropertyMatcher<SimplePojo<?>> {
+                public SimplePojoMatcher() {
+                    super(SimplePojo.class);
+                }
+            
+                public SimplePojoMatcher withSomeStringProperty(final Matcher<? super String> matcher) {
+                    addPropertyCheck("someStringProperty", SimplePojo::getSomeStringProperty, matcher);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withSomePrimitiveBooleanProperty(final Matcher<? super Boolean> matcher) {
+                    addBooleanPropertyCheck("somePrimitiveBooleanProperty", SimplePojo::isSomePrimitiveBooleanProperty, matcher);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withGenericProperty(final Matcher<? super List<?>> matcher) {
+                    addPropertyCheck("genericProperty", SimplePojo::getGenericProperty, matcher);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withClass(final Matcher<? super Class<?>> matcher) {
+                    addPropertyCheck("class", SimplePojo::getClass, matcher);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withSomeStringProperty(final String value) {
+                    addEqualityPropertyCheck("someStringProperty", SimplePojo::getSomeStringProperty, value);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withSomePrimitiveBooleanProperty(final boolean value) {
+                    addBooleanPropertyCheck("somePrimitiveBooleanProperty", SimplePojo::isSomePrimitiveBooleanProperty, value);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withGenericProperty(final List<?> value) {
+                    addEqualityPropertyCheck("genericProperty", SimplePojo::getGenericProperty, value);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withClass(final Class<?> value) {
+                    addEqualityPropertyCheck("class", SimplePojo::getClass, value);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withGenericPropertyContainingExactly(final Collection<?> elements) {
+                    addPropertyCheck("genericProperty", SimplePojo::getGenericProperty, SizeFirstMatcher.containingExactly(elements));
+                    return this;
+                }
+            
+                public SimplePojoMatcher withGenericPropertyContainingInAnyOrder(final Collection<?> elements) {
+                    addPropertyCheck("genericProperty", SimplePojo::getGenericProperty, SizeFirstMatcher.containingInAnyOrder(elements));
+                    return this;
+                }
+            
+                public SimplePojoMatcher withGenericPropertyOfSize(final int size) {
+                    addPropertyCheck("genericProperty", SimplePojo::getGenericProperty, SizeFirstMatcher.ofSize(size));
+                    return this;
+                }
+            
+                public static SimplePojoMatcher isSimplePojo() {
+                    return new SimplePojoMatcher();
+                }
+            
+                @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+                public static class InnerStaticPojoMatcher extends DirectPropertyMatcher<SimplePojo.InnerStaticPojo> {
+                    public InnerStaticPojoMatcher() {
+                        super(SimplePojo.InnerStaticPojo.class);
+                    }
+            
+                    public InnerStaticPojoMatcher withInnerStaticPojoProperty(final Matcher<? super String> matcher) {
+                        addPropertyCheck("innerStaticPojoProperty", SimplePojo.InnerStaticPojo::getInnerStaticPojoProperty, matcher);
+                        return this;
+                    }
+            
+                    public InnerStaticPojoMatcher withClass(final Matcher<? super Class<?>> matcher) {
+                        addPropertyCheck("class", SimplePojo.InnerStaticPojo::getClass, matcher);
+                        return this;
+                    }
+            
+                    public InnerStaticPojoMatcher withInnerStaticPojoProperty(final String value) {
+                        addEqualityPropertyCheck("innerStaticPojoProperty", SimplePojo.InnerStaticPojo::getInnerStaticPojoProperty, value);
+                        return this;
+                    }
+            
+                    public InnerStaticPojoMatcher withClass(final Class<?> value) {
+                        addEqualityPropertyCheck("class", SimplePojo.InnerStaticPojo::getClass, value);
+                        return this;
+                    }
+            
+                    public static InnerStaticPojoMatcher isInnerStaticPojo() {
+                        return new InnerStaticPojoMatcher();
+                    }
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    fun `Matchers should be evaluated in the configured order`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.EvaluationOrder;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+            
+            @MatcherConfiguration(value = "some.other.pck.SomePojo", generation = @GenerationConfiguration(evaluationOrder = EvaluationOrder.COST_BASED))
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.SomePojo", """
+            package some.other.pck;
+            
+            public interface SomePojo{
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SomePojoMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.EvaluationOrder;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
+            import java.lang.Class;
+            import java.lang.Override;
+            import javax.annotation.processing.Generated;
+            import org.hamcrest.Description;
+            import org.hamcrest.TypeSafeMatcher;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class SomePojoMatcher extends TypeSafeMatcher<SomePojo> implements TypedMatcher<SomePojo> {
+                private final BeanPropertyMatcher<SomePojo> beanPropertyMatcher;
+            
+                public SomePojoMatcher() {
+                    beanPropertyMatcher = new BeanPropertyMatcher<SomePojo>(SomePojo.class);
+                    beanPropertyMatcher.inEvaluationOrder(EvaluationOrder.COST_BASED);
+                }
+            
+                @Override
+                public void describeTo(final Description description) {
+                    beanPropertyMatcher.describeTo(description);
+                }
+            
+                @Override
+                protected boolean matchesSafely(final SomePojo item) {
+                    return beanPropertyMatcher.matches(item);
+                }
+            
+                @Override
+                protected void describeMismatchSafely(final SomePojo item, final Description description) {
+                    beanPropertyMatcher.describeMismatch(item, description);
+                }
+            
+                @Override
+                public Class<? super SomePojo> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
+                public static SomePojoMatcher isSomePojo() {
+                    return new SomePojoMatcher();
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    fun `Matchers with direct property access should be evaluated in the configured order`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.EvaluationOrder;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+            
+            @MatcherConfiguration(value = "some.other.pck.SomePojo", generation = @GenerationConfiguration(propertyAccess = PropertyAccess.DIRECT, evaluationOrder = EvaluationOrder.ADAPTIVE))
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.SomePojo", """
+            package some.other.pck;
+            
+            public interface SomePojo{
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SomePojoMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.EvaluationOrder;
+            import javax.annotation.processing.Generated;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class SomePojoMatcher extends DirectPropertyMatcher<SomePojo> {
+                public SomePojoMatcher() {
+                    super(SomePojo.class);
+                    inEvaluationOrder(EvaluationOrder.ADAPTIVE);
+                }
+            
+                public static SomePojoMatcher isSomePojo() {
+                    return new SomePojoMatcher();
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    fun `Matchers with direct property access should read properties concurrently if configured`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+            
+            @MatcherConfiguration(value = "some.other.pck.SomePojo", generation = @GenerationConfiguration(propertyAccess = PropertyAccess.DIRECT, concurrentPropertyReadTimeoutMillis = 5000))
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.SomePojo", """
+            package some.other.pck;
+            
+            public interface SomePojo{
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SomePojoMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+            import java.time.Duration;
+            import javax.annotation.processing.Generated;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class SomePojoMatcher extends DirectPropertyMatcher<SomePojo> {
+                public SomePojoMatcher() {
+                    super(SomePojo.class);
+                    readingPropertiesConcurrently(Duration.ofMillis(5000L));
+                }
+            
+                public static SomePojoMatcher isSomePojo() {
+                    return new SomePojoMatcher();
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    fun `Matchers with direct property access should compare primitive properties unboxed`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+            
+            @MatcherConfiguration(value = "some.other.pck.PrimitivePojo", generation = @GenerationConfiguration(propertyAccess = PropertyAccess.DIRECT))
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.PrimitivePojo", """
+            package some.other.pck;
+            
+            public class PrimitivePojo{
+                public boolean isBooleanProperty(){
+                    return true;
+                }
+                
+                public byte getByteProperty(){
+                    return 1;
+                }
+                
+                public short getShortProperty(){
+                    return 2;
+                }
+                
+                public char getCharProperty(){
+                    return 'c';
+                }
+                
+                public int getIntProperty(){
+                    return 4;
+                }
+                
+                public long getLongProperty(){
+                    return 5L;
+                }
+                
+                public float getFloatProperty(){
+                    return 6.0f;
+                }
+                
+                public double getDoubleProperty(){
+                    return 7.0;
+                }
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.PrimitivePojoMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+            import java.lang.Boolean;
+            import java.lang.Byte;
+            import java.lang.Character;
+            import java.lang.Class;
+            import java.lang.Double;
+            import java.lang.Float;
+            import java.lang.Integer;
+            import java.lang.Long;
+            import java.lang.Short;
+            import javax.annotation.processing.Generated;
+            import org.hamcrest.Matcher;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class PrimitivePojoMatcher extends DirectPropertyMatcher<PrimitivePojo> {
+                public PrimitivePojoMatcher() {
+                    super(PrimitivePojo.class);
+                }
+            
+                public PrimitivePojoMatcher withBooleanProperty(final Matcher<? super Boolean> matcher) {
+                    addBooleanPropertyCheck("booleanProperty", PrimitivePojo::isBooleanProperty, matcher);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withByteProperty(final Matcher<? super Byte> matcher) {
+                    addBytePropertyCheck("byteProperty", PrimitivePojo::getByteProperty, matcher);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withShortProperty(final Matcher<? super Short> matcher) {
+                    addShortPropertyCheck("shortProperty", PrimitivePojo::getShortProperty, matcher);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withCharProperty(final Matcher<? super Character> matcher) {
+                    addCharPropertyCheck("charProperty", PrimitivePojo::getCharProperty, matcher);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withIntProperty(final Matcher<? super Integer> matcher) {
+                    addIntPropertyCheck("intProperty", PrimitivePojo::getIntProperty, matcher);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withLongProperty(final Matcher<? super Long> matcher) {
+                    addLongPropertyCheck("longProperty", PrimitivePojo::getLongProperty, matcher);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withFloatProperty(final Matcher<? super Float> matcher) {
+                    addFloatPropertyCheck("floatProperty", PrimitivePojo::getFloatProperty, matcher);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withDoubleProperty(final Matcher<? super Double> matcher) {
+                    addDoublePropertyCheck("doubleProperty", PrimitivePojo::getDoubleProperty, matcher);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withClass(final Matcher<? super Class<?>> matcher) {
+                    addPropertyCheck("class", PrimitivePojo::getClass, matcher);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withBooleanProperty(final boolean value) {
+                    addBooleanPropertyCheck("booleanProperty", PrimitivePojo::isBooleanProperty, value);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withByteProperty(final byte value) {
+                    addBytePropertyCheck("byteProperty", PrimitivePojo::getByteProperty, value);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withShortProperty(final short value) {
+                    addShortPropertyCheck("shortProperty", PrimitivePojo::getShortProperty, value);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withCharProperty(final char value) {
+                    addCharPropertyCheck("charProperty", PrimitivePojo::getCharProperty, value);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withIntProperty(final int value) {
+                    addIntPropertyCheck("intProperty", PrimitivePojo::getIntProperty, value);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withLongProperty(final long value) {
+                    addLongPropertyCheck("longProperty", PrimitivePojo::getLongProperty, value);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withFloatProperty(final float value) {
+                    addFloatPropertyCheck("floatProperty", PrimitivePojo::getFloatProperty, value);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withDoubleProperty(final double value) {
+                    addDoublePropertyCheck("doubleProperty", PrimitivePojo::getDoubleProperty, value);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withClass(final Class<?> value) {
+                    addEqualityPropertyCheck("class", PrimitivePojo::getClass, value);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withBytePropertyBetween(final byte min, final byte max) {
+                    addIntRangePropertyCheck("byteProperty", PrimitivePojo::getByteProperty, min, max);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withShortPropertyBetween(final short min, final short max) {
+                    addIntRangePropertyCheck("shortProperty", PrimitivePojo::getShortProperty, min, max);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withCharPropertyBetween(final char min, final char max) {
+                    addCharRangePropertyCheck("charProperty", PrimitivePojo::getCharProperty, min, max);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withIntPropertyBetween(final int min, final int max) {
+                    addIntRangePropertyCheck("intProperty", PrimitivePojo::getIntProperty, min, max);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withLongPropertyBetween(final long min, final long max) {
+                    addLongRangePropertyCheck("longProperty", PrimitivePojo::getLongProperty, min, max);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withFloatPropertyBetween(final float min, final float max) {
+                    addDoubleRangePropertyCheck("floatProperty", PrimitivePojo::getFloatProperty, min, max);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withFloatPropertyCloseTo(final float value, final float error) {
+                    addCloseToPropertyCheck("floatProperty", PrimitivePojo::getFloatProperty, value, error);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withDoublePropertyBetween(final double min, final double max) {
+                    addDoubleRangePropertyCheck("doubleProperty", PrimitivePojo::getDoubleProperty, min, max);
+                    return this;
+                }
+            
+                public PrimitivePojoMatcher withDoublePropertyCloseTo(final double value, final double error) {
+                    addCloseToPropertyCheck("doubleProperty", PrimitivePojo::getDoubleProperty, value, error);
+                    return this;
+                }
+            
+                public static PrimitivePojoMatcher isPrimitivePojo() {
+                    return new PrimitivePojoMatcher();
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    fun `Matchers with direct property access should match collection and map properties size first`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+            
+            @MatcherConfiguration(value = "some.other.pck.SomeAggregate", generation = @GenerationConfiguration(propertyAccess = PropertyAccess.DIRECT))
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.SomeAggregate", """
+            package some.other.pck;
+            
+            import java.util.List;
+            import java.util.Map;
+            import java.util.Set;
+            
+            public class SomeAggregate{
+                public List<String> getNames(){
+                    return null;
+                }
+                
+                public Set<? extends Number> getNumbers(){
+                    return null;
+                }
+                
+                public Map<String, Integer> getCounts(){
+                    return null;
+                }
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SomeAggregateMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.SizeFirstMatcher;
+            import java.lang.Class;
+            import java.lang.Integer;
+            import java.lang.Number;
+            import java.lang.String;
+            import java.util.Collection;
+            import java.util.List;
+            import java.util.Map;
+            import java.util.Set;
+            import javax.annotation.processing.Generated;
+            import org.hamcrest.Matcher;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class SomeAggregateMatcher extends DirectPropertyMatcher<SomeAggregate> {
+                public SomeAggregateMatcher() {
+                    super(SomeAggregate.class);
+                }
+            
+                public SomeAggregateMatcher withNames(final Matcher<? super List<? extends String>> matcher) {
+                    addPropertyCheck("names", SomeAggregate::getNames, matcher);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNumbers(final Matcher<? super Set<? extends Number>> matcher) {
+                    addPropertyCheck("numbers", SomeAggregate::getNumbers, matcher);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withCounts(final Matcher<? super Map<? extends String, ? extends Integer>> matcher) {
+                    addPropertyCheck("counts", SomeAggregate::getCounts, matcher);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withClass(final Matcher<? super Class<?>> matcher) {
+                    addPropertyCheck("class", SomeAggregate::getClass, matcher);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNames(final List<? extends String> value) {
+                    addEqualityPropertyCheck("names", SomeAggregate::getNames, value);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNumbers(final Set<? extends Number> value) {
+                    addEqualityPropertyCheck("numbers", SomeAggregate::getNumbers, value);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withCounts(final Map<? extends String, ? extends Integer> value) {
+                    addEqualityPropertyCheck("counts", SomeAggregate::getCounts, value);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withClass(final Class<?> value) {
+                    addEqualityPropertyCheck("class", SomeAggregate::getClass, value);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNamesContainingExactly(final Collection<? extends String> elements) {
+                    addPropertyCheck("names", SomeAggregate::getNames, SizeFirstMatcher.containingExactly(elements));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNamesContainingInAnyOrder(final Collection<? extends String> elements) {
+                    addPropertyCheck("names", SomeAggregate::getNames, SizeFirstMatcher.containingInAnyOrder(elements));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNamesOfSize(final int size) {
+                    addPropertyCheck("names", SomeAggregate::getNames, SizeFirstMatcher.ofSize(size));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNumbersContainingExactly(final Collection<? extends Number> elements) {
+                    addPropertyCheck("numbers", SomeAggregate::getNumbers, SizeFirstMatcher.containingExactly(elements));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNumbersContainingInAnyOrder(final Collection<? extends Number> elements) {
+                    addPropertyCheck("numbers", SomeAggregate::getNumbers, SizeFirstMatcher.containingInAnyOrder(elements));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNumbersOfSize(final int size) {
+                    addPropertyCheck("numbers", SomeAggregate::getNumbers, SizeFirstMatcher.ofSize(size));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withCountsContainingKeys(final Collection<? extends String> keys) {
+                    addPropertyCheck("counts", SomeAggregate::getCounts, SizeFirstMatcher.containingKeys(keys));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withCountsOfSize(final int size) {
+                    addPropertyCheck("counts", SomeAggregate::getCounts, SizeFirstMatcher.ofSize(size));
+                    return this;
+                }
+            
+                public static SomeAggregateMatcher isSomeAggregate() {
+                    return new SomeAggregateMatcher();
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    fun `Matchers with reflective property access should match collection and map properties size first`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            
+            @MatcherConfiguration("some.other.pck.SomeAggregate")
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.SomeAggregate", """
+            package some.other.pck;
+            
+            import java.util.List;
+            import java.util.Map;
+            import java.util.Set;
+            
+            public class SomeAggregate{
+                public List<String> getNames(){
+                    return null;
+                }
+                
+                public Set<? extends Number> getNumbers(){
+                    return null;
+                }
+                
+                public Map<String, Integer> getCounts(){
+                    return null;
+                }
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SomeAggregateMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.SizeFirstMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.TypedMatcher;
+            import java.lang.Class;
+            import java.lang.Integer;
+            import java.lang.Number;
+            import java.lang.Override;
+            import java.lang.String;
+            import java.util.Collection;
+            import java.util.List;
+            import java.util.Map;
+            import java.util.Set;
+            import javax.annotation.processing.Generated;
+            import org.hamcrest.Description;
+            import org.hamcrest.Matcher;
+            import org.hamcrest.Matchers;
+            import org.hamcrest.TypeSafeMatcher;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class SomeAggregateMatcher extends TypeSafeMatcher<SomeAggregate> implements TypedMatcher<SomeAggregate> {
+                private final BeanPropertyMatcher<SomeAggregate> beanPropertyMatcher;
+            
+                public SomeAggregateMatcher() {
+                    beanPropertyMatcher = new BeanPropertyMatcher<SomeAggregate>(SomeAggregate.class);
+                }
+            
+                public SomeAggregateMatcher withNames(final Matcher<? super List<? extends String>> matcher) {
+                    beanPropertyMatcher.with("names", matcher);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNumbers(final Matcher<? super Set<? extends Number>> matcher) {
+                    beanPropertyMatcher.with("numbers", matcher);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withCounts(final Matcher<? super Map<? extends String, ? extends Integer>> matcher) {
+                    beanPropertyMatcher.with("counts", matcher);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withClass(final Matcher<? super Class<?>> matcher) {
+                    beanPropertyMatcher.with("class", matcher);
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNames(final List<? extends String> value) {
+                    beanPropertyMatcher.with("names", Matchers.equalTo(value));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNumbers(final Set<? extends Number> value) {
+                    beanPropertyMatcher.with("numbers", Matchers.equalTo(value));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withCounts(final Map<? extends String, ? extends Integer> value) {
+                    beanPropertyMatcher.with("counts", Matchers.equalTo(value));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withClass(final Class<?> value) {
+                    beanPropertyMatcher.with("class", Matchers.equalTo(value));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNamesContainingExactly(final Collection<? extends String> elements) {
+                    beanPropertyMatcher.with("names", SizeFirstMatcher.containingExactly(elements));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNamesContainingInAnyOrder(final Collection<? extends String> elements) {
+                    beanPropertyMatcher.with("names", SizeFirstMatcher.containingInAnyOrder(elements));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNamesOfSize(final int size) {
+                    beanPropertyMatcher.with("names", SizeFirstMatcher.ofSize(size));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNumbersContainingExactly(final Collection<? extends Number> elements) {
+                    beanPropertyMatcher.with("numbers", SizeFirstMatcher.containingExactly(elements));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNumbersContainingInAnyOrder(final Collection<? extends Number> elements) {
+                    beanPropertyMatcher.with("numbers", SizeFirstMatcher.containingInAnyOrder(elements));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withNumbersOfSize(final int size) {
+                    beanPropertyMatcher.with("numbers", SizeFirstMatcher.ofSize(size));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withCountsContainingKeys(final Collection<? extends String> keys) {
+                    beanPropertyMatcher.with("counts", SizeFirstMatcher.containingKeys(keys));
+                    return this;
+                }
+            
+                public SomeAggregateMatcher withCountsOfSize(final int size) {
+                    beanPropertyMatcher.with("counts", SizeFirstMatcher.ofSize(size));
+                    return this;
+                }
+            
+                @Override
+                public void describeTo(final Description description) {
+                    beanPropertyMatcher.describeTo(description);
+                }
+            
+                @Override
+                protected boolean matchesSafely(final SomeAggregate item) {
+                    return beanPropertyMatcher.matches(item);
+                }
+            
+                @Override
+                protected void describeMismatchSafely(final SomeAggregate item, final Description description) {
+                    beanPropertyMatcher.describeMismatch(item, description);
+                }
+            
+                @Override
+                public Class<? super SomeAggregate> getExpectedClass() {
+                    return beanPropertyMatcher.getExpectedClass();
+                }
+            
+                public static SomeAggregateMatcher isSomeAggregate() {
+                    return new SomeAggregateMatcher();
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    fun `Matchers should be limited to the configured description budget`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.DescriptionBudgetConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+            
+            @MatcherConfiguration(value = "some.other.pck.SomePojo", generation = @GenerationConfiguration(propertyAccess = PropertyAccess.DIRECT, descriptionBudget = @DescriptionBudgetConfiguration(maxLength = 10000, maxElements = 20)))
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.SomePojo", """
+            package some.other.pck;
+            
+            public interface SomePojo{
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SomePojoMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.DescriptionBudget;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+            import javax.annotation.processing.Generated;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class SomePojoMatcher extends DirectPropertyMatcher<SomePojo> {
+                public SomePojoMatcher() {
+                    super(SomePojo.class);
+                    withinDescriptionBudget(DescriptionBudget.of(10000, 20, DescriptionBudget.UNLIMITED));
+                }
+            
+                public static SomePojoMatcher isSomePojo() {
+                    return new SomePojoMatcher();
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_16)
+    fun `Matchers for records should call the record component accessors directly`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            
+            @MatcherConfiguration("some.other.pck.SomeRecord")
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.SomeRecord", """
+            package some.other.pck;
+            
+            public record SomeRecord(String name, int count){
+                public String getDisplayName(){
+                    return name + " (" + count + ")";
+                }
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SomeRecordMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+            import java.lang.Class;
+            import java.lang.Integer;
+            import java.lang.String;
+            import javax.annotation.processing.Generated;
+            import org.hamcrest.Matcher;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class SomeRecordMatcher extends DirectPropertyMatcher<SomeRecord> {
+                public SomeRecordMatcher() {
+                    super(SomeRecord.class);
+                }
+            
+                public SomeRecordMatcher withName(final Matcher<? super String> matcher) {
+                    addPropertyCheck("name", SomeRecord::name, matcher);
+                    return this;
+                }
+            
+                public SomeRecordMatcher withCount(final Matcher<? super Integer> matcher) {
+                    addIntPropertyCheck("count", SomeRecord::count, matcher);
+                    return this;
+                }
+            
+                public SomeRecordMatcher withDisplayName(final Matcher<? super String> matcher) {
+                    addPropertyCheck("displayName", SomeRecord::getDisplayName, matcher);
+                    return this;
+                }
+            
+                public SomeRecordMatcher withClass(final Matcher<? super Class<?>> matcher) {
+                    addPropertyCheck("class", SomeRecord::getClass, matcher);
+                    return this;
+                }
+            
+                public SomeRecordMatcher withName(final String value) {
+                    addEqualityPropertyCheck("name", SomeRecord::name, value);
+                    return this;
+                }
+            
+                public SomeRecordMatcher withCount(final int value) {
+                    addIntPropertyCheck("count", SomeRecord::count, value);
+                    return this;
+                }
+            
+                public SomeRecordMatcher withDisplayName(final String value) {
+                    addEqualityPropertyCheck("displayName", SomeRecord::getDisplayName, value);
+                    return this;
+                }
+            
+                public SomeRecordMatcher withClass(final Class<?> value) {
+                    addEqualityPropertyCheck("class", SomeRecord::getClass, value);
+                    return this;
+                }
+            
+                public SomeRecordMatcher withCountBetween(final int min, final int max) {
+                    addIntRangePropertyCheck("count", SomeRecord::count, min, max);
+                    return this;
+                }
+            
+                public static SomeRecordMatcher isSomeRecord() {
+                    return new SomeRecordMatcher();
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    fun `Matchers with direct property access should accept generated matchers of nested beans`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+            
+            @MatcherConfiguration(value = {"some.other.pck.SomePojo", "some.other.pck.OtherPojo"}, generation = @GenerationConfiguration(propertyAccess = PropertyAccess.DIRECT))
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val somePojo = JavaFileObjects.forSourceLines(
+            "some.other.pck.SomePojo", """
+            package some.other.pck;
+            
+            public interface SomePojo{
+                OtherPojo getOther();
+            }""".trimIndent()
+        )
+        @Language("JAVA") val otherPojo = JavaFileObjects.forSourceLines(
+            "some.other.pck.OtherPojo", """
+            package some.other.pck;
+            
+            public interface OtherPojo{
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SomePojoMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+            import javax.annotation.processing.Generated;
+            import org.hamcrest.Matcher;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class SomePojoMatcher extends DirectPropertyMatcher<SomePojo> {
+                public SomePojoMatcher() {
+                    super(SomePojo.class);
+                }
+            
+                public SomePojoMatcher withOther(final Matcher<? super OtherPojo> matcher) {
+                    addPropertyCheck("other", SomePojo::getOther, matcher);
+                    return this;
+                }
+            
+                public SomePojoMatcher withOther(final OtherPojoMatcher matcher) {
+                    addPropertyCheck("other", SomePojo::getOther, matcher);
+                    return this;
+                }
+            
+                public SomePojoMatcher withOther(final OtherPojo value) {
+                    addEqualityPropertyCheck("other", SomePojo::getOther, value);
+                    return this;
+                }
+            
+                public static SomePojoMatcher isSomePojo() {
+                    return new SomePojoMatcher();
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, somePojo, otherPojo))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    fun `Snapshot types should be generated if configured`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+            
+            @MatcherConfiguration(value = "some.other.pck.SimplePojo", generation = @GenerationConfiguration(propertyAccess = PropertyAccess.DIRECT, snapshots = true))
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.SimplePojo", """
+            package some.other.pck;
+            
+            public class SimplePojo{
+                public String getName(){
+                    return "someName";
+                }
+                
+                public int getCount(){
+                    return 42;
+                }
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SimplePojoMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertySnapshot;
+            import java.lang.Class;
+            import java.lang.IllegalArgumentException;
+            import java.lang.Integer;
+            import java.lang.Object;
+            import java.lang.Override;
+            import java.lang.String;
+            import java.util.Objects;
+            import javax.annotation.processing.Generated;
+            import org.hamcrest.Matcher;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class SimplePojoMatcher extends DirectPropertyMatcher<SimplePojo> {
+                public SimplePojoMatcher() {
+                    super(SimplePojo.class);
+                }
+            
+                public SimplePojoMatcher withName(final Matcher<? super String> matcher) {
+                    addPropertyCheck("name", SimplePojo::getName, matcher);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withCount(final Matcher<? super Integer> matcher) {
+                    addIntPropertyCheck("count", SimplePojo::getCount, matcher);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withClass(final Matcher<? super Class<?>> matcher) {
+                    addPropertyCheck("class", SimplePojo::getClass, matcher);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withName(final String value) {
+                    addEqualityPropertyCheck("name", SimplePojo::getName, value);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withCount(final int value) {
+                    addIntPropertyCheck("count", SimplePojo::getCount, value);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withClass(final Class<?> value) {
+                    addEqualityPropertyCheck("class", SimplePojo::getClass, value);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withCountBetween(final int min, final int max) {
+                    addIntRangePropertyCheck("count", SimplePojo::getCount, min, max);
+                    return this;
+                }
+            
+                public static SimplePojoMatcher isSimplePojo() {
+                    return new SimplePojoMatcher();
+                }
+            
+                public static SimplePojoSnapshot snapshot(final SimplePojo item) {
+                    return new SimplePojoSnapshot(item);
+                }
+            
+                public static final class SimplePojoSnapshot implements PropertySnapshot {
+                    private final Class<?> snapshotType;
+            
+                    private final String name;
+            
+                    private final int count;
+            
+                    private final Class<?> classValue;
+            
+                    private SimplePojoSnapshot(final SimplePojo item) {
+                        this.snapshotType = item.getClass();
+                        this.name = item.getName();
+                        this.count = item.getCount();
+                        this.classValue = item.getClass();
+                    }
+            
+                    public String getName() {
+                        return name;
+                    }
+            
+                    public int getCount() {
+                        return count;
+                    }
+            
+                    @Override
+                    public Class<?> getSnapshotType() {
+                        return snapshotType;
+                    }
+            
+                    @Override
+                    public Object getPropertyValue(final String propertyName) {
+                        switch (propertyName) {
+                            case "name":
+                                return this.name;
+                            case "count":
+                                return this.count;
+                            case "class":
+                                return this.classValue;
+                            default:
+                                throw new IllegalArgumentException("No property \"" + propertyName + "\"");
+                        }
+                    }
+            
+                    @Override
+                    public boolean equals(final Object other) {
+                        if (this == other) {
+                            return true;
+                        }
+                        if (other == null || getClass() != other.getClass()) {
+                            return false;
+                        }
+                        final SimplePojoSnapshot snapshot = (SimplePojoSnapshot) other;
+                        return Objects.equals(this.name, snapshot.name) && Objects.equals(this.count, snapshot.count) && Objects.equals(this.classValue, snapshot.classValue);
+                    }
+            
+                    @Override
+                    public int hashCode() {
+                        return Objects.hash(name, count, classValue);
+                    }
+            
+                    @Override
+                    public String toString() {
+                        return "SimplePojoSnapshot[" + "name=" + name + ", count=" + count + ", class=" + classValue + "]";
+                    }
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    fun `Property constants should be generated if configured`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+            
+            @MatcherConfiguration(value = "some.other.pck.SimplePojo", generation = @GenerationConfiguration(propertyConstants = true))
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.SimplePojo", """
+            package some.other.pck;
+            
+            public class SimplePojo{
+                public String getSomeURLValue(){
+                    return "someValue";
+                }
+                
+                public int getCount(){
+                    return 42;
+                }
+                
+                public boolean isActive(){
+                    return true;
+                }
+                
+                public static class InnerPojo{
+                    public String getInnerValue(){
+                        return "innerValue";
+                    }
+                }
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SimplePojoProperties", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertyExtractor;
+            import java.lang.Boolean;
+            import java.lang.Class;
+            import java.lang.Integer;
+            import java.lang.Override;
+            import java.lang.String;
+            import javax.annotation.processing.Generated;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public final class SimplePojoProperties {
+                public static final PropertyExtractor<SimplePojo, String> SOME_URL_VALUE = new PropertyExtractor<SimplePojo, String>("someURLValue") {
+                    @Override
+                    public String apply(final SimplePojo item) {
+                        return item.getSomeURLValue();
+                    }
+                };
+            
+                public static final PropertyExtractor<SimplePojo, Integer> COUNT = new PropertyExtractor<SimplePojo, Integer>("count") {
+                    @Override
+                    public Integer apply(final SimplePojo item) {
+                        return item.getCount();
+                    }
+                };
+            
+                public static final PropertyExtractor<SimplePojo, Boolean> ACTIVE = new PropertyExtractor<SimplePojo, Boolean>("active") {
+                    @Override
+                    public Boolean apply(final SimplePojo item) {
+                        return item.isActive();
+                    }
+                };
+            
+                public static final PropertyExtractor<SimplePojo, Class<?>> CLASS = new PropertyExtractor<SimplePojo, Class<?>>("class") {
+                    @Override
+                    public Class<?> apply(final SimplePojo item) {
+                        return item.getClass();
+                    }
+                };
+            
+                private SimplePojoProperties() {
+                }
+            
+                @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+                public static final class InnerPojoProperties {
+                    public static final PropertyExtractor<SimplePojo.InnerPojo, String> INNER_VALUE = new PropertyExtractor<SimplePojo.InnerPojo, String>("innerValue") {
+                        @Override
+                        public String apply(final SimplePojo.InnerPojo item) {
+                            return item.getInnerValue();
+                        }
+                    };
+            
+                    public static final PropertyExtractor<SimplePojo.InnerPojo, Class<?>> CLASS = new PropertyExtractor<SimplePojo.InnerPojo, Class<?>>("class") {
+                        @Override
+                        public Class<?> apply(final SimplePojo.InnerPojo item) {
+                            return item.getClass();
+                        }
+                    };
+            
+                    private InnerPojoProperties() {
+                    }
+                }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
 }
@@ -0,0 +1,225 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+
+/**
+ * Matcher for arrays equal to an expected array. It matches like Hamcrest's
+ * {@link org.hamcrest.Matchers#equalTo(Object) equalTo}, but compares primitive arrays of the same type with
+ * {@link Arrays#mismatch(int[], int[])} (without boxing a single element) and describes a mismatch only by the first
+ * differing index or the differing length instead of the whole array. Arrays of different component types (e.g.
+ * {@code int[]} and {@code Integer[]}) and nested arrays are compared element by element like {@code equalTo} does.
+ * <p>
+ * Instances are immutable and can safely be shared between threads.
+ * </p>
+ *
+ * @param <T> Type of the array.
+ */
+public final class ArrayEqualityMatcher<T> extends BaseMatcher<T> {
+
+    private static final int EQUAL = -1;
+    private static final int INCOMPARABLE = -2;
+
+    private final Object expected;
+
+    private ArrayEqualityMatcher(final Object expected) {
+        this.expected = expected;
+    }
+
+    /**
+     * @param expected Array the value has to be equal to.
+     * @return A matcher for arrays with the same elements as the given one.
+     */
+    public static ArrayEqualityMatcher<boolean[]> arrayEqualTo(final boolean[] expected) {
+        return new ArrayEqualityMatcher<>(expected);
+    }
+
+    /**
+     * @param expected Array the value has to be equal to.
+     * @return A matcher for arrays with the same elements as the given one.
+     */
+    public static ArrayEqualityMatcher<byte[]> arrayEqualTo(final byte[] expected) {
+        return new ArrayEqualityMatcher<>(expected);
+    }
+
+    /**
+     * @param expected Array the value has to be equal to.
+     * @return A matcher for arrays with the same elements as the given one.
+     */
+    public static ArrayEqualityMatcher<short[]> arrayEqualTo(final short[] expected) {
+        return new ArrayEqualityMatcher<>(expected);
+    }
+
+    /**
+     * @param expected Array the value has to be equal to.
+     * @return A matcher for arrays with the same elements as the given one.
+     */
+    public static ArrayEqualityMatcher<char[]> arrayEqualTo(final char[] expected) {
+        return new ArrayEqualityMatcher<>(expected);
+    }
+
+    /**
+     * @param expected Array the value has to be equal to.
+     * @return A matcher for arrays with the same elements as the given one.
+     */
+    public static ArrayEqualityMatcher<int[]> arrayEqualTo(final int[] expected) {
+        return new ArrayEqualityMatcher<>(expected);
+    }
+
+    /**
+     * @param expected Array the value has to be equal to.
+     * @return A matcher for arrays with the same elements as the given one.
+     */
+    public static ArrayEqualityMatcher<long[]> arrayEqualTo(final long[] expected) {
+        return new ArrayEqualityMatcher<>(expected);
+    }
+
+    /**
+     * @param expected Array the value has to be equal to.
+     * @return A matcher for arrays with the same elements as the given one. Elements are compared like
+     * {@link Float#equals(Object)}.
+     */
+    public static ArrayEqualityMatcher<float[]> arrayEqualTo(final float[] expected) {
+        return new ArrayEqualityMatcher<>(expected);
+    }
+
+    /**
+     * @param expected Array the value has to be equal to.
+     * @return A matcher for arrays with the same elements as the given one. Elements are compared like
+     * {@link Double#equals(Object)}.
+     */
+    public static ArrayEqualityMatcher<double[]> arrayEqualTo(final double[] expected) {
+        return new ArrayEqualityMatcher<>(expected);
+    }
+
+    /**
+     * @param expected Array the value has to be equal to.
+     * @param <E>      Type of the elements.
+     * @return A matcher for arrays with elements deeply equal to the ones of the given array.
+     */
+    public static <E> ArrayEqualityMatcher<E[]> arrayEqualTo(final E[] expected) {
+        return new ArrayEqualityMatcher<>(expected);
+    }
+
+    /**
+     * @param expected Array of any type the value has to be equal to.
+     * @return A matcher for arrays with the same elements as the given one.
+     */
+    static ArrayEqualityMatcher<Object> ofArray(final Object expected) {
+        return new ArrayEqualityMatcher<>(expected);
+    }
+
+    @Override
+    public boolean matches(final Object actual) {
+        if (expected == null || actual == null) {
+            return expected == actual;
+        }
+        return mismatch(expected, actual) == EQUAL;
+    }
+
+    /**
+     * @return {@link #EQUAL} if the arrays are equal, {@link #INCOMPARABLE} if the actual value is no array and the
+     * first differing index otherwise. If all elements of the shorter array are equal to the ones of the
+     * other one, the index is the length of the shorter one.
+     */
+    private static int mismatch(final Object expected, final Object actual) {
+        if (expected == actual) {
+            return EQUAL;
+        }
+        if (!actual.getClass().isArray()) {
+            return INCOMPARABLE;
+        }
+        if (expected instanceof Object[] && actual instanceof Object[]) {
+            return mismatch((Object[]) expected, (Object[]) actual);
+        }
+        if (expected.getClass() != actual.getClass()) {
+            return elementMismatch(expected, actual);
+        }
+        if (expected instanceof byte[]) {
+            return Arrays.mismatch((byte[]) expected, (byte[]) actual);
+        }
+        if (expected instanceof int[]) {
+            return Arrays.mismatch((int[]) expected, (int[]) actual);
+        }
+        if (expected instanceof long[]) {
+            return Arrays.mismatch((long[]) expected, (long[]) actual);
+        }
+        if (expected instanceof char[]) {
+            return Arrays.mismatch((char[]) expected, (char[]) actual);
+        }
+        if (expected instanceof double[]) {
+            return Arrays.mismatch((double[]) expected, (double[]) actual);
+        }
+        if (expected instanceof float[]) {
+            return Arrays.mismatch((float[]) expected, (float[]) actual);
+        }
+        if (expected instanceof short[]) {
+            return Arrays.mismatch((short[]) expected, (short[]) actual);
+        }
+        return Arrays.mismatch((boolean[]) expected, (boolean[]) actual);
+    }
+
+    private static int mismatch(final Object[] expected, final Object[] actual) {
+        final int length = Math.min(expected.length, actual.length);
+        for (int i = 0; i < length; i++) {
+            if (!areEqual(expected[i], actual[i])) {
+                return i;
+            }
+        }
+        return expected.length == actual.length ? EQUAL : length;
+    }
+
+    /**
+     * Compares arrays of different component types with their boxed elements.
+     */
+    private static int elementMismatch(final Object expected, final Object actual) {
+        final int expectedLength = Array.getLength(expected);
+        final int actualLength = Array.getLength(actual);
+        final int length = Math.min(expectedLength, actualLength);
+        for (int i = 0; i < length; i++) {
+            if (!areEqual(Array.get(expected, i), Array.get(actual, i))) {
+                return i;
+            }
+        }
+        return expectedLength == actualLength ? EQUAL : length;
+    }
+
+    // Same equality as the one of Hamcrest's equalTo
+    private static boolean areEqual(final Object expected, final Object actual) {
+        if (expected == null || actual == null) {
+            return expected == actual;
+        }
+        if (expected.getClass().isArray()) {
+            return mismatch(expected, actual) == EQUAL;
+        }
+        return !actual.getClass().isArray() && expected.equals(actual);
+    }
+
+    @Override
+    public void describeMismatch(final Object actual, final Description mismatchDescription) {
+        final int index = expected == null || actual == null ? INCOMPARABLE : mismatch(expected, actual);
+        if (index == INCOMPARABLE || index == EQUAL) {
+            super.describeMismatch(actual, mismatchDescription);
+            return;
+        }
+
+        final int actualLength = Array.getLength(actual);
+        final int expectedLength = Array.getLength(expected);
+        if (index < Math.min(actualLength, expectedLength)) {
+            mismatchDescription.appendText("differed first at index " + index + " with ")
+                    .appendValue(Array.get(actual, index))
+                    .appendText(" instead of ")
+                    .appendValue(Array.get(expected, index));
+        } else {
+            mismatchDescription.appendText("had length " + actualLength + " instead of " + expectedLength);
+        }
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        // Same description as the one of Hamcrest's equalTo
+        description.appendValue(expected);
+    }
+}
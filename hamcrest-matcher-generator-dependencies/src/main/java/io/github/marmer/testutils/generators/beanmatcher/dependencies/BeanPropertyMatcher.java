@@ -1,9 +1,10 @@
 package io.github.marmer.testutils.generators.beanmatcher.dependencies;
 
-import static org.hamcrest.Matchers.allOf;
-
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
@@ -11,70 +12,218 @@ import org.hamcrest.TypeSafeMatcher;
 
 /**
  * Matcher for beans.
+ * <p>
+ * The matcher gets frozen with its first use or by calling {@link #freeze()}. A frozen matcher can not be changed
+ * anymore and can safely be shared between threads.
+ * </p>
+ * <p>
+ * The mismatch description of an item which has just not matched is built from the property values read while
+ * matching, so no property is read twice. Several checks of the same property share the value as well, so each
+ * property is read at most once per matched item.
+ * </p>
+ * <p>
+ * {@link PropertySnapshot}s of the matched beans are matched with the values of the snapshot.
+ * </p>
  *
  * @param <T> Type of the bean.
  * @author marmer
  * @since 13.06.2017
  */
-public class BeanPropertyMatcher<T> extends TypeSafeMatcher<T> {
+public class BeanPropertyMatcher<T> extends TypeSafeMatcher<T> implements TypedMatcher<T> {
 
     @SuppressWarnings("squid:S2293")
-    private final List<Matcher<?>> hasPropertyMatcher = new ArrayList<>();
+    private final List<PropertyCheck<Object>> propertyChecks = new ArrayList<>();
+    private final Class<? super T> expectedClass;
     private final Matcher<?> instanceOfMatcher;
+    private EvaluationOrder evaluationOrder = EvaluationOrder.DECLARED;
+    private DescriptionBudget descriptionBudget = DescriptionBudget.unlimited();
+    private Executor readExecutor;
+    private Duration readTimeout;
+    private volatile PropertyChecks<Object> frozenPropertyChecks;
 
     public BeanPropertyMatcher(final Class<? super T> expectedClass) {
+        this.expectedClass = expectedClass;
         instanceOfMatcher = Matchers.instanceOf(expectedClass);
     }
 
     @Override
     public void describeTo(final Description description) {
-        getFullInnerMatcher().describeTo(description);
+        final PropertyChecks<Object> checks = getFrozenPropertyChecks();
+        final Description boundedDescription = descriptionBudget.bound(description);
+
+        boundedDescription.appendText("(")
+                .appendDescriptionOf(instanceOfMatcher);
+        checks.describeTo(boundedDescription);
+        boundedDescription.appendText(")");
     }
 
     @Override
     protected boolean matchesSafely(final T item) {
-        return getFullInnerMatcher().matches(item);
+        if (!PropertyChecks.isOfType(item, expectedClass)) {
+            return false;
+        }
+
+        final PropertyChecks<Object> checks = getFrozenPropertyChecks();
+        return readExecutor == null ?
+                checks.matches(item) :
+                checks.matchesConcurrently(item, readExecutor, readTimeout);
     }
 
+    /**
+     * This matcher accepts {@link PropertySnapshot}s of the matched beans as well. The returned matcher is this matcher
+     * typed for snapshots, e.g. for {@code assertThat(snapshot, isSomePojo().forSnapshots())}.
+     *
+     * @param <S> Type of the snapshots.
+     * @return this matcher
+     */
     @SuppressWarnings("unchecked")
-    private Matcher<?> getFullInnerMatcher() {
-        @SuppressWarnings("squid:S2293") final List<Matcher<?>> fullMatcher = new ArrayList<>();
-        fullMatcher.add(instanceOfMatcher);
-        fullMatcher.addAll(hasPropertyMatcher);
+    public <S extends PropertySnapshot> Matcher<S> forSnapshots() {
+        return (Matcher<S>) (Matcher<?>) this;
+    }
+
+    /**
+     * Composes the configured property matchers once. Further configuration is not possible afterwards.
+     *
+     * @return this frozen matcher
+     */
+    public BeanPropertyMatcher<T> freeze() {
+        getFrozenPropertyChecks();
+        return this;
+    }
+
+    @Override
+    public Class<? super T> getExpectedClass() {
+        return expectedClass;
+    }
+
+    private PropertyChecks<Object> getFrozenPropertyChecks() {
+        final PropertyChecks<Object> frozen = frozenPropertyChecks;
+        return frozen != null ? frozen : createFrozenPropertyChecks();
+    }
+
+    private synchronized PropertyChecks<Object> createFrozenPropertyChecks() {
+        if (frozenPropertyChecks == null) {
+            frozenPropertyChecks = new PropertyChecks<>(propertyChecks, expectedClass, evaluationOrder);
+        }
+        return frozenPropertyChecks;
+    }
+
+    public synchronized BeanPropertyMatcher<T> with(final String propertyName, final Matcher<?> matcher) {
+        assertNotFrozen();
+        propertyChecks.add(PropertyCheck.ofReflectiveAccess(propertyName, matcher));
+
+        return this;
+    }
 
-        return allOf(fullMatcher.toArray(new Matcher[0]));
+    /**
+     * Adds a check of a property which is read by calling the given accessor instead of looking it up by name.
+     *
+     * @param propertyName Name of the property.
+     * @param getter       Accessor of the property.
+     * @param matcher      Matcher the property value has to match.
+     * @return this matcher
+     */
+    public synchronized BeanPropertyMatcher<T> with(final String propertyName,
+                                                    final Function<? super T, ?> getter,
+                                                    final Matcher<?> matcher) {
+        assertNotFrozen();
+        propertyChecks.add(PropertyCheck.ofAccessor(propertyName, expectedClass, getter, matcher));
+
+        return this;
+    }
+
+    /**
+     * Adds a check of a property which is read with the given extractor instead of looking it up by name.
+     *
+     * @param property Extractor of the property.
+     * @param matcher  Matcher the property value has to match.
+     * @return this matcher
+     */
+    public BeanPropertyMatcher<T> with(final PropertyExtractor<? super T, ?> property, final Matcher<?> matcher) {
+        return with(property.getPropertyName(), property, matcher);
+    }
+
+    public synchronized BeanPropertyMatcher<T> with(final String propertyName) {
+        assertNotFrozen();
+        propertyChecks.add(PropertyCheck.ofExistence(propertyName));
+
+        return this;
+    }
+
+    /**
+     * @param evaluationOrder Order in which the property checks get evaluated. Descriptions keep the declared order.
+     * @return this matcher
+     */
+    public synchronized BeanPropertyMatcher<T> inEvaluationOrder(final EvaluationOrder evaluationOrder) {
+        assertNotFrozen();
+        this.evaluationOrder = evaluationOrder;
+
+        return this;
     }
 
-    public BeanPropertyMatcher<T> with(final String propertyName, final Matcher<?> matcher) {
-        hasPropertyMatcher.add(Matchers.hasProperty(propertyName, matcher));
+    /**
+     * @param descriptionBudget Limits of the descriptions and mismatch descriptions of this matcher.
+     * @return this matcher
+     */
+    public synchronized BeanPropertyMatcher<T> withinDescriptionBudget(final DescriptionBudget descriptionBudget) {
+        assertNotFrozen();
+        this.descriptionBudget = descriptionBudget;
 
         return this;
     }
 
-    public BeanPropertyMatcher<T> with(final String propertyName) {
-        hasPropertyMatcher.add(Matchers.hasProperty(propertyName));
+    /**
+     * Reads the values of all checked properties concurrently on virtual threads (or on a shared pool of daemon threads
+     * if the runtime does not support virtual threads) before any check gets evaluated. Matching an item with slow
+     * accessors (e.g. of proxies doing I/O) takes as long as the slowest accessor instead of the sum of all of them.
+     *
+     * @param timeout Time to wait for all property values of an item. Values not read in time do not match.
+     * @return this matcher
+     * @see #readingPropertiesConcurrently(Executor, Duration)
+     */
+    public BeanPropertyMatcher<T> readingPropertiesConcurrently(final Duration timeout) {
+        return readingPropertiesConcurrently(PropertyChecks.defaultReadExecutor(), timeout);
+    }
+
+    /**
+     * Reads the values of all checked properties concurrently with the given executor before any check gets evaluated.
+     * Each property is still read at most once per matched item. An exception thrown by an accessor fails the match
+     * like with sequential reads. {@link PropertySnapshot}s are matched without reading anything concurrently.
+     *
+     * @param executor Executor to read the property values with.
+     * @param timeout  Time to wait for all property values of an item. Values not read in time do not match.
+     * @return this matcher
+     */
+    public synchronized BeanPropertyMatcher<T> readingPropertiesConcurrently(final Executor executor,
+                                                                             final Duration timeout) {
+        assertNotFrozen();
+        this.readExecutor = executor;
+        this.readTimeout = timeout;
 
         return this;
     }
 
+    private void assertNotFrozen() {
+        if (frozenPropertyChecks != null) {
+            throw new IllegalStateException("The matcher is frozen because it has already been used and can not be changed anymore");
+        }
+    }
+
     @Override
     protected void describeMismatchSafely(final T item, final Description mismatchDescription) {
+        final PropertyChecks<Object> checks = getFrozenPropertyChecks();
+        final Description boundedMismatchDescription = descriptionBudget.bound(mismatchDescription);
         var missmatchDescriptionAllreadyAdded = false;
 
-        if (!instanceOfMatcher.matches(item)) {
-            mismatchDescription.appendText("Is an instance of " + item.getClass());
+        if (item instanceof PropertySnapshot && !PropertyChecks.isOfType(item, expectedClass)) {
+            boundedMismatchDescription.appendText(
+                    "Is a snapshot of " + ((PropertySnapshot) item).getSnapshotType());
+            missmatchDescriptionAllreadyAdded = true;
+        } else if (!instanceOfMatcher.matches(item)) {
+            boundedMismatchDescription.appendText("Is an instance of " + item.getClass());
             missmatchDescriptionAllreadyAdded = true;
         }
 
-        for (final Matcher<?> matcher : hasPropertyMatcher) {
-            if (!matcher.matches(item)) {
-                if (missmatchDescriptionAllreadyAdded) {
-                    mismatchDescription.appendText(" and ");
-                }
-
-                matcher.describeMismatch(item, mismatchDescription);
-                missmatchDescriptionAllreadyAdded = true;
-            }
-        }
+        checks.describeMismatch(item, boundedMismatchDescription, missmatchDescriptionAllreadyAdded);
     }
 }
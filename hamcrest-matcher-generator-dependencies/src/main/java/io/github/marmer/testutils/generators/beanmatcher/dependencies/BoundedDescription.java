@@ -0,0 +1,210 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import org.hamcrest.BaseDescription;
+import org.hamcrest.Description;
+
+/**
+ * Description which writes to another one within a {@link DescriptionBudget}. Once the budget is exhausted, a marker
+ * is written and everything else gets dropped without being rendered.
+ * <p>
+ * Collections, maps and arrays are rendered element by element, so iterating stops as soon as the budget is exhausted
+ * and containers nested deeper than the maximum depth are summarized without being iterated. Character sequences are
+ * only converted as far as they fit into the remaining budget. Any other element is rendered by its own
+ * {@code toString()}, which cannot be limited.
+ * </p>
+ */
+final class BoundedDescription extends BaseDescription {
+
+    static final String TRUNCATION_MARKER = "... (description truncated)";
+
+    private final Description target;
+    private final int maxElements;
+    private final int maxDepth;
+    private int remainingLength;
+    private boolean isTruncated;
+    private int depth;
+
+    BoundedDescription(final Description target, final DescriptionBudget budget) {
+        this.target = target;
+        this.maxElements = budget.getMaxElements();
+        this.maxDepth = budget.getMaxDepth();
+        this.remainingLength = budget.getMaxLength();
+    }
+
+    @Override
+    public Description appendValue(final Object value) {
+        if (isTruncated) {
+            return this;
+        }
+
+        if (value instanceof String && ((String) value).length() > remainingLength) {
+            // Never escapes more characters than can be written
+            return super.appendValue(((String) value).substring(0, remainingLength));
+        }
+        if (value instanceof CharSequence && !(value instanceof String)) {
+            append('<');
+            appendCharacters((CharSequence) value);
+            append('>');
+            return this;
+        }
+        if (value instanceof Collection || value instanceof Map) {
+            append('<');
+            appendContainer(value, depth);
+            append('>');
+            return this;
+        }
+        if (value != null && value.getClass().isArray()) {
+            appendArrayValue(value);
+            return this;
+        }
+        return super.appendValue(value);
+    }
+
+    /**
+     * Renders the elements like {@link BaseDescription#appendValue(Object)} does, one level deeper than the array.
+     */
+    private void appendArrayValue(final Object array) {
+        final int length = Array.getLength(array);
+        if (depth >= maxDepth) {
+            append("[" + formatted(length) + " elements]");
+            return;
+        }
+
+        append('[');
+        depth++;
+        try {
+            for (int i = 0; i < Math.min(length, maxElements) && !isTruncated; i++) {
+                if (i > 0) {
+                    append(", ");
+                }
+                appendValue(Array.get(array, i));
+            }
+        } finally {
+            depth--;
+        }
+        appendMoreElements(length, "elements", length > 0);
+        append(']');
+    }
+
+    private void appendContainer(final Object container, final int depth) {
+        if (container instanceof Map) {
+            appendMap((Map<?, ?>) container, depth);
+        } else {
+            appendCollection((Collection<?>) container, depth);
+        }
+    }
+
+    private void appendCollection(final Collection<?> collection, final int depth) {
+        if (depth >= maxDepth) {
+            append("[" + formatted(collection.size()) + " elements]");
+            return;
+        }
+
+        append('[');
+        final Iterator<?> iterator = collection.iterator();
+        for (int i = 0; i < maxElements && iterator.hasNext() && !isTruncated; i++) {
+            if (i > 0) {
+                append(", ");
+            }
+            final Object element = iterator.next();
+            appendElement(element == collection ? "(this Collection)" : element, depth);
+        }
+        appendMoreElements(collection.size(), "elements", !collection.isEmpty());
+        append(']');
+    }
+
+    private void appendMap(final Map<?, ?> map, final int depth) {
+        if (depth >= maxDepth) {
+            append("{" + formatted(map.size()) + " entries}");
+            return;
+        }
+
+        append('{');
+        final Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+        for (int i = 0; i < maxElements && iterator.hasNext() && !isTruncated; i++) {
+            if (i > 0) {
+                append(", ");
+            }
+            final Map.Entry<?, ?> entry = iterator.next();
+            appendElement(entry.getKey() == map ? "(this Map)" : entry.getKey(), depth);
+            append('=');
+            appendElement(entry.getValue() == map ? "(this Map)" : entry.getValue(), depth);
+        }
+        appendMoreElements(map.size(), "entries", !map.isEmpty());
+        append('}');
+    }
+
+    private void appendMoreElements(final int size, final String elementsName, final boolean hasRenderedElements) {
+        if (size > maxElements && !isTruncated) {
+            append((hasRenderedElements && maxElements > 0 ? ", " : "") +
+                    "... " + formatted(size - maxElements) + " more " + elementsName);
+        }
+    }
+
+    private void appendElement(final Object element, final int depth) {
+        if (isTruncated) {
+            return;
+        }
+
+        if (element instanceof Collection || element instanceof Map) {
+            appendContainer(element, depth + 1);
+        } else if (element instanceof CharSequence) {
+            appendCharacters((CharSequence) element);
+        } else {
+            append(String.valueOf(element));
+        }
+    }
+
+    /**
+     * Converts only as many characters as fit into the remaining budget.
+     */
+    private void appendCharacters(final CharSequence characters) {
+        append(characters.length() > remainingLength ?
+                characters.subSequence(0, remainingLength + 1).toString() :
+                characters.toString());
+    }
+
+    private static String formatted(final int number) {
+        return String.format(Locale.ROOT, "%,d", number);
+    }
+
+    @Override
+    protected void append(final String str) {
+        if (isTruncated) {
+            return;
+        }
+
+        if (str.length() <= remainingLength) {
+            target.appendText(str);
+            remainingLength -= str.length();
+        } else {
+            target.appendText(str.substring(0, remainingLength));
+            truncate();
+        }
+    }
+
+    @Override
+    protected void append(final char c) {
+        if (isTruncated) {
+            return;
+        }
+
+        if (remainingLength > 0) {
+            target.appendText(String.valueOf(c));
+            remainingLength--;
+        } else {
+            truncate();
+        }
+    }
+
+    private void truncate() {
+        remainingLength = 0;
+        isTruncated = true;
+        target.appendText(TRUNCATION_MARKER);
+    }
+}
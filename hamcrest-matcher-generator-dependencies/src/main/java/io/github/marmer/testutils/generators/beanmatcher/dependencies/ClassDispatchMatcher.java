@@ -0,0 +1,165 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+/**
+ * Matcher for items of a type hierarchy with alternative matchers for the different types (e.g. generated matchers of
+ * the subtypes). Other than Hamcrest's {@link org.hamcrest.Matchers#anyOf(Matcher[]) anyOf}, which tries each item
+ * against each alternative, an item is only matched by the alternatives of the most specific type the item is an
+ * instance of. Alternatives of the same type are tried in the given order. {@link PropertySnapshot}s are dispatched by
+ * their snapshot type.
+ * <p>
+ * The alternatives of each runtime class are looked up once and cached in a {@link ClassValue}, so matching mixed type
+ * collections takes linear time regardless of the number of alternatives.
+ * </p>
+ * <p>
+ * The descriptions are the same as the ones of Hamcrest's {@code anyOf}. Instances are immutable and can safely be
+ * shared between threads if their alternatives can.
+ * </p>
+ *
+ * @param <T> Base type of the hierarchy.
+ */
+public final class ClassDispatchMatcher<T> extends BaseMatcher<T> {
+
+    private final List<Alternative> alternatives;
+    private final ClassValue<List<Matcher<?>>> alternativesByClass = new ClassValue<>() {
+        @Override
+        protected List<Matcher<?>> computeValue(final Class<?> type) {
+            return alternativesOf(type);
+        }
+    };
+
+    private ClassDispatchMatcher(final List<Alternative> alternatives) {
+        this.alternatives = alternatives;
+    }
+
+    /**
+     * @param alternatives Matchers of the types of the hierarchy. Their types are taken from {@link TypedMatcher}s
+     *                     (e.g. generated matchers). Matchers of any other kind need to be added with
+     *                     {@link #when(Class, Matcher)}.
+     * @param <T>          Base type of the hierarchy.
+     * @return A matcher dispatching each item to the alternatives of its type.
+     * @throws IllegalArgumentException if the type of an alternative is unknown.
+     */
+    @SafeVarargs
+    public static <T> ClassDispatchMatcher<T> dispatchingByClass(final Matcher<? extends T>... alternatives) {
+        final List<Alternative> typedAlternatives = new ArrayList<>();
+        for (final Matcher<? extends T> alternative : alternatives) {
+            typedAlternatives.add(new Alternative(typeOf(alternative), alternative));
+        }
+        return new ClassDispatchMatcher<>(List.copyOf(typedAlternatives));
+    }
+
+    private static Class<?> typeOf(final Matcher<?> matcher) {
+        if (matcher instanceof TypedMatcher) {
+            return ((TypedMatcher<?>) matcher).getExpectedClass();
+        }
+        throw new IllegalArgumentException("The matched type of " + matcher + " is unknown. " +
+                "Matchers of this kind need to be added with their type by when(type, matcher)");
+    }
+
+    /**
+     * @param type    Type of the items to match with the given matcher.
+     * @param matcher Matcher of the items of the given type.
+     * @param <S>     Type of the items to match with the given matcher.
+     * @return A matcher like this one with the given alternative.
+     */
+    public <S extends T> ClassDispatchMatcher<T> when(final Class<S> type, final Matcher<? super S> matcher) {
+        final List<Alternative> extendedAlternatives = new ArrayList<>(alternatives);
+        extendedAlternatives.add(new Alternative(type, matcher));
+        return new ClassDispatchMatcher<>(List.copyOf(extendedAlternatives));
+    }
+
+    /**
+     * @return The alternatives of the most specific of the types the given class is assignable to. If there are
+     * several unrelated most specific types (e.g. interfaces), the one of the first alternative wins.
+     */
+    private List<Matcher<?>> alternativesOf(final Class<?> itemClass) {
+        Class<?> mostSpecificType = null;
+        for (final Alternative alternative : alternatives) {
+            if (alternative.type.isAssignableFrom(itemClass) &&
+                    (mostSpecificType == null || mostSpecificType.isAssignableFrom(alternative.type))) {
+                mostSpecificType = alternative.type;
+            }
+        }
+
+        final List<Matcher<?>> matchers = new ArrayList<>();
+        for (final Alternative alternative : alternatives) {
+            if (alternative.type == mostSpecificType) {
+                matchers.add(alternative.matcher);
+            }
+        }
+        return List.copyOf(matchers);
+    }
+
+    private List<Matcher<?>> alternativesFor(final Object item) {
+        return alternativesByClass.get(item instanceof PropertySnapshot ?
+                ((PropertySnapshot) item).getSnapshotType() :
+                item.getClass());
+    }
+
+    @Override
+    public boolean matches(final Object item) {
+        if (item == null) {
+            return false;
+        }
+
+        for (final Matcher<?> matcher : alternativesFor(item)) {
+            if (matcher.matches(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void describeMismatch(final Object item, final Description mismatchDescription) {
+        if (item == null) {
+            super.describeMismatch(item, mismatchDescription);
+            return;
+        }
+
+        final List<Matcher<?>> matchers = alternativesFor(item);
+        if (matchers.isEmpty()) {
+            mismatchDescription.appendText("was a ")
+                    .appendText(item.getClass().getName())
+                    .appendText(" (")
+                    .appendValue(item)
+                    .appendText(") without alternative for its type");
+            return;
+        }
+
+        for (int i = 0; i < matchers.size(); i++) {
+            if (i > 0) {
+                mismatchDescription.appendText(" and ");
+            }
+            matchers.get(i).describeMismatch(item, mismatchDescription);
+        }
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        // Same description as the one of Hamcrest's anyOf
+        final List<Matcher<?>> matchers = new ArrayList<>();
+        alternatives.forEach(alternative -> matchers.add(alternative.matcher));
+        description.appendList("(", " or ", ")", matchers);
+    }
+
+    /**
+     * Matcher of the items of a type.
+     */
+    private static final class Alternative {
+
+        private final Class<?> type;
+        private final Matcher<?> matcher;
+
+        private Alternative(final Class<?> type, final Matcher<?> matcher) {
+            this.type = type;
+            this.matcher = matcher;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertyCheck.ReadFailure;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher for iterables containing items matching the given matchers in any order. Matching, descriptions and mismatch
+ * descriptions are the same as the ones of Hamcrest's
+ * {@link org.hamcrest.Matchers#containsInAnyOrder(Collection) containsInAnyOrder}: each item is matched by the first
+ * matcher in the given order which matches it and has not matched another item yet.
+ * <p>
+ * Instead of trying each item against each matcher, the matchers and items get partitioned by the values of the
+ * properties all {@link DirectPropertyMatcher}s of the same type check for equality (e.g. with the {@code withId(value)}
+ * methods of generated matchers with direct property access). An item is only tried against the matchers of its
+ * partition, because the matchers of any other partition can not match it. Matchers without all of these equality checks
+ * are tried against each item. Matching iterables of matchers checking unique properties (e.g. ids) therefore takes
+ * linear time instead of quadratic time.
+ * </p>
+ * <p>
+ * Instances are immutable and can safely be shared between threads.
+ * </p>
+ *
+ * @param <T> Type of the items.
+ */
+public final class ContainsInAnyOrderMatcher<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final List<Matcher<? super T>> matchers;
+    private final Class<?> partitionType;
+    private final List<PropertyCheck<Object>> partitionReaders = new ArrayList<>();
+    private final Map<List<Object>, int[]> partitions = new HashMap<>();
+    private final int[] unpartitioned;
+
+    private ContainsInAnyOrderMatcher(final List<Matcher<? super T>> matchers) {
+        this.matchers = matchers;
+
+        final List<Map<Object, PropertyCheck<Object>>> equalityChecks = new ArrayList<>();
+        Class<?> type = null;
+        Map<Object, PropertyCheck<Object>> commonChecks = null;
+        for (final Matcher<? super T> matcher : matchers) {
+            final Map<Object, PropertyCheck<Object>> checks = equalityChecksOf(matcher);
+            equalityChecks.add(checks);
+            if (checks.isEmpty()) {
+                continue;
+            }
+
+            final Class<?> beanType = ((DirectPropertyMatcher<?>) matcher).getExpectedClass();
+            if (type == null) {
+                type = beanType;
+                commonChecks = new LinkedHashMap<>(checks);
+            } else if (type == beanType) {
+                commonChecks.keySet().retainAll(checks.keySet());
+            }
+        }
+        this.partitionType = commonChecks == null || commonChecks.isEmpty() ? null : type;
+        if (partitionType != null) {
+            partitionReaders.addAll(commonChecks.values());
+        }
+
+        final Map<List<Object>, List<Integer>> partitionPositions = new HashMap<>();
+        final List<Integer> unpartitionedPositions = new ArrayList<>();
+        for (int position = 0; position < matchers.size(); position++) {
+            final Map<Object, PropertyCheck<Object>> checks = equalityChecks.get(position);
+            if (partitionType == null || checks.isEmpty() || !isOfPartitionType(matchers.get(position)) ||
+                    !checks.keySet().containsAll(commonChecks.keySet())) {
+                unpartitionedPositions.add(position);
+                continue;
+            }
+
+            final Object[] key = commonChecks.keySet().stream()
+                    .map(readKey -> checks.get(readKey).expectedValue())
+                    .toArray();
+            partitionPositions.computeIfAbsent(Arrays.asList(key), partitionKey -> new ArrayList<>()).add(position);
+        }
+        partitionPositions.forEach((key, positions) -> partitions.put(key, toArray(positions)));
+        this.unpartitioned = toArray(unpartitionedPositions);
+    }
+
+    /**
+     * @param matchers Matchers the items have to match in any order. {@link DirectPropertyMatcher}s get frozen.
+     * @param <T>      Type of the items.
+     * @return A matcher for iterables containing items matching the given matchers in any order.
+     */
+    public static <T> ContainsInAnyOrderMatcher<T> containingInAnyOrder(
+            final Collection<? extends Matcher<? super T>> matchers) {
+        return new ContainsInAnyOrderMatcher<>(List.<Matcher<? super T>>copyOf(matchers));
+    }
+
+    /**
+     * @see #containingInAnyOrder(Collection)
+     */
+    @SafeVarargs
+    public static <T> ContainsInAnyOrderMatcher<T> containingInAnyOrder(final Matcher<? super T>... matchers) {
+        return ContainsInAnyOrderMatcher.<T>containingInAnyOrder(Arrays.asList(matchers));
+    }
+
+    /**
+     * @return Equality checks of the matcher by the key of the value they read.
+     */
+    private static Map<Object, PropertyCheck<Object>> equalityChecksOf(final Matcher<?> matcher) {
+        final Map<Object, PropertyCheck<Object>> checks = new LinkedHashMap<>();
+        if (matcher instanceof DirectPropertyMatcher) {
+            for (final PropertyCheck<Object> check : ((DirectPropertyMatcher<?>) matcher).getFrozenChecks()) {
+                if (check.expectedValue() != PropertyCheck.NO_EXPECTED_VALUE && check.readKey() != null) {
+                    checks.putIfAbsent(check.readKey(), check);
+                }
+            }
+        }
+        return checks;
+    }
+
+    private boolean isOfPartitionType(final Matcher<?> matcher) {
+        return ((DirectPropertyMatcher<?>) matcher).getExpectedClass() == partitionType;
+    }
+
+    private static int[] toArray(final List<Integer> positions) {
+        return positions.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    protected boolean matchesSafely(final Iterable<? extends T> items, final Description mismatchDescription) {
+        final boolean[] isMatched = new boolean[matchers.size()];
+        final Map<int[], int[]> firstUnmatched = new IdentityHashMap<>();
+        int unmatchedMatchers = matchers.size();
+
+        for (final T item : items) {
+            if (unmatchedMatchers == 0) {
+                mismatchDescription.appendText("no match for: ").appendValue(item);
+                return false;
+            }
+
+            final int position = firstMatching(item, isMatched, firstUnmatched);
+            if (position < 0) {
+                mismatchDescription.appendText("not matched: ").appendValue(item);
+                return false;
+            }
+            isMatched[position] = true;
+            unmatchedMatchers--;
+        }
+
+        if (unmatchedMatchers == 0) {
+            return true;
+        }
+
+        final List<Matcher<? super T>> unmatched = new ArrayList<>();
+        for (int position = 0; position < matchers.size(); position++) {
+            if (!isMatched[position]) {
+                unmatched.add(matchers.get(position));
+            }
+        }
+        mismatchDescription.appendText("no item matches: ")
+                .appendList("", ", ", "", unmatched)
+                .appendText(" in ")
+                .appendValueList("[", ", ", "]", items);
+        return false;
+    }
+
+    /**
+     * @param firstUnmatched Index of the first possibly unmatched position of each already used list of positions.
+     * @return The first position of a matcher which matches the item and has not matched another item yet. -1 if there
+     * is none.
+     */
+    private int firstMatching(final T item, final boolean[] isMatched, final Map<int[], int[]> firstUnmatched) {
+        final int[] partition = partitionOf(item);
+        final int[] partitionStart = startOf(partition, isMatched, firstUnmatched);
+        final int[] unpartitionedStart = startOf(unpartitioned, isMatched, firstUnmatched);
+
+        int i = partitionStart[0];
+        int j = unpartitionedStart[0];
+        while (i < partition.length || j < unpartitioned.length) {
+            final int position = j >= unpartitioned.length || i < partition.length && partition[i] < unpartitioned[j] ?
+                    partition[i++] :
+                    unpartitioned[j++];
+            if (!isMatched[position] && matchers.get(position).matches(item)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private int[] partitionOf(final T item) {
+        if (partitionType == null || !PropertyChecks.isOfType(item, partitionType)) {
+            return NO_POSITIONS;
+        }
+
+        final Object[] key = new Object[partitionReaders.size()];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = PropertyChecks.read(partitionReaders.get(i), item);
+            if (key[i] instanceof ReadFailure) {
+                return NO_POSITIONS;
+            }
+        }
+        return partitions.getOrDefault(Arrays.asList(key), NO_POSITIONS);
+    }
+
+    /**
+     * Skips the already matched positions at the start of the given positions, so iterables whose items match the
+     * matchers of a partition in their given order do not rescan the already matched matchers.
+     */
+    private static int[] startOf(final int[] positions,
+                                 final boolean[] isMatched,
+                                 final Map<int[], int[]> firstUnmatched) {
+        final int[] start = firstUnmatched.computeIfAbsent(positions, key -> new int[1]);
+        while (start[0] < positions.length && isMatched[positions[start[0]]]) {
+            start[0]++;
+        }
+        return start;
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        description.appendText("iterable with items ")
+                .appendList("[", ", ", "]", matchers)
+                .appendText(" in any order");
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import org.hamcrest.Description;
+
+/**
+ * Limits of descriptions and mismatch descriptions of Matchers. Collections, maps and arrays exceeding the limits get
+ * summarized (e.g. "... 99,950 more elements") and values are only rendered as long as the budget is not exhausted.
+ */
+public final class DescriptionBudget {
+
+    /**
+     * Value of an unlimited limit.
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final DescriptionBudget UNLIMITED_BUDGET = new DescriptionBudget(UNLIMITED, UNLIMITED, UNLIMITED);
+
+    private final int maxLength;
+    private final int maxElements;
+    private final int maxDepth;
+
+    private DescriptionBudget(final int maxLength, final int maxElements, final int maxDepth) {
+        this.maxLength = maxLength;
+        this.maxElements = maxElements;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * @return A budget without any limits.
+     */
+    public static DescriptionBudget unlimited() {
+        return UNLIMITED_BUDGET;
+    }
+
+    /**
+     * @param maxLength   Maximum number of characters of a description.
+     * @param maxElements Maximum number of rendered elements of a collection, map or array.
+     * @param maxDepth    Maximum depth of rendered collections, maps and arrays nested into each other.
+     * @return A budget with the given limits.
+     */
+    public static DescriptionBudget of(final int maxLength, final int maxElements, final int maxDepth) {
+        if (maxLength < 0 || maxElements < 0 || maxDepth < 0) {
+            throw new IllegalArgumentException("Limits of a description budget must not be negative");
+        }
+        return new DescriptionBudget(maxLength, maxElements, maxDepth);
+    }
+
+    int getMaxLength() {
+        return maxLength;
+    }
+
+    int getMaxElements() {
+        return maxElements;
+    }
+
+    int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @param description Description to write to.
+     * @return A description writing to the given one within this budget.
+     */
+    Description bound(final Description description) {
+        return this == UNLIMITED_BUDGET ? description : new BoundedDescription(description, this);
+    }
+}
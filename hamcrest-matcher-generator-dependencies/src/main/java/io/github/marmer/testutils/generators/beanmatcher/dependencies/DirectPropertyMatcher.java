@@ -0,0 +1,463 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Base of matchers generated with {@link MatcherConfiguration.GenerationConfiguration.PropertyAccess#DIRECT}. Property
+ * values are read by calling the accessors of the bean directly, so matching needs neither introspection nor
+ * reflection.
+ * <p>
+ * Descriptions are the same as the ones of the {@link BeanPropertyMatcher}. Like the {@link BeanPropertyMatcher} the
+ * matcher gets frozen with its first use or by calling {@link #freeze()} and does not call an accessor twice to
+ * describe the mismatch of an item which has just not matched.
+ * </p>
+ * <p>
+ * Checks of the same property with accessors of the same kind (e.g. {@link ToIntFunction}) share their value, so each
+ * accessor is called at most once per matched item.
+ * </p>
+ * <p>
+ * {@link PropertySnapshot}s of the matched beans are matched with the values of the snapshot.
+ * </p>
+ *
+ * @param <T> Type of the bean.
+ */
+public abstract class DirectPropertyMatcher<T> extends TypeSafeMatcher<T> implements TypedMatcher<T> {
+
+    private final Class<? super T> expectedClass;
+    @SuppressWarnings("squid:S2293")
+    private final List<PropertyCheck<T>> propertyChecks = new ArrayList<>();
+    private EvaluationOrder evaluationOrder = EvaluationOrder.DECLARED;
+    private DescriptionBudget descriptionBudget = DescriptionBudget.unlimited();
+    private Executor readExecutor;
+    private Duration readTimeout;
+    private volatile PropertyChecks<T> frozenPropertyChecks;
+
+    protected DirectPropertyMatcher(final Class<? super T> expectedClass) {
+        super(Object.class);
+        this.expectedClass = expectedClass;
+    }
+
+    /**
+     * Adds a check for a property of the bean.
+     *
+     * @param propertyName Name of the property. Used for descriptions and to share the property value with other
+     *                     checks of the same property.
+     * @param getter       Accessor of the property.
+     * @param matcher      Matcher the property value has to match.
+     */
+    protected void addPropertyCheck(final String propertyName,
+                                    final Function<? super T, ?> getter,
+                                    final Matcher<?> matcher) {
+        addPropertyCheck(PropertyCheck.ofAccessor(propertyName, getter, matcher));
+    }
+
+    /**
+     * Adds an equality check for a property of the bean. The check compares like {@link
+     * org.hamcrest.Matchers#equalTo(Object)} but exposes the expected value, so a {@link MatcherIndex} can look up the
+     * matcher by the property value.
+     *
+     * @param propertyName Name of the property. Used for descriptions and to share the property value with other
+     *                     checks of the same property.
+     * @param getter       Accessor of the property.
+     * @param expected     Expected property value.
+     */
+    protected void addEqualityPropertyCheck(final String propertyName,
+                                            final Function<? super T, ?> getter,
+                                            final Object expected) {
+        addPropertyCheck(PropertyCheck.ofEquality(propertyName, getter, expected));
+    }
+
+    /**
+     * Adds an equality check for a primitive property of the bean. The property value is compared unboxed.
+     *
+     * @param propertyName Name of the property. Used for descriptions and to share the property value with other
+     *                     checks of the same property.
+     * @param getter       Accessor of the property.
+     * @param expected     Expected property value.
+     */
+    protected void addBooleanPropertyCheck(final String propertyName,
+                                           final Predicate<? super T> getter,
+                                           final boolean expected) {
+        addPropertyCheck(PrimitivePropertyChecks.equalTo(propertyName, getter, expected));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, boolean)
+     */
+    protected void addBytePropertyCheck(final String propertyName,
+                                        final ToIntFunction<? super T> getter,
+                                        final byte expected) {
+        addPropertyCheck(PrimitivePropertyChecks.equalTo(propertyName, getter, expected, value -> (byte) value));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, boolean)
+     */
+    protected void addShortPropertyCheck(final String propertyName,
+                                         final ToIntFunction<? super T> getter,
+                                         final short expected) {
+        addPropertyCheck(PrimitivePropertyChecks.equalTo(propertyName, getter, expected, value -> (short) value));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, boolean)
+     */
+    protected void addCharPropertyCheck(final String propertyName,
+                                        final ToIntFunction<? super T> getter,
+                                        final char expected) {
+        addPropertyCheck(PrimitivePropertyChecks.equalTo(propertyName, getter, expected, value -> (char) value));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, boolean)
+     */
+    protected void addIntPropertyCheck(final String propertyName,
+                                       final ToIntFunction<? super T> getter,
+                                       final int expected) {
+        addPropertyCheck(PrimitivePropertyChecks.equalTo(propertyName, getter, expected, Integer::valueOf));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, boolean)
+     */
+    protected void addLongPropertyCheck(final String propertyName,
+                                        final ToLongFunction<? super T> getter,
+                                        final long expected) {
+        addPropertyCheck(PrimitivePropertyChecks.equalTo(propertyName, getter, expected));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, boolean)
+     */
+    protected void addFloatPropertyCheck(final String propertyName,
+                                         final ToDoubleFunction<? super T> getter,
+                                         final float expected) {
+        addPropertyCheck(PrimitivePropertyChecks.equalTo(propertyName, getter, expected, value -> (float) value));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, boolean)
+     */
+    protected void addDoublePropertyCheck(final String propertyName,
+                                          final ToDoubleFunction<? super T> getter,
+                                          final double expected) {
+        addPropertyCheck(PrimitivePropertyChecks.equalTo(propertyName, getter, expected, Double::valueOf));
+    }
+
+    /**
+     * Adds a check for a primitive property of the bean. The property value gets boxed to be matched, but is read by the
+     * same accessor as the unboxed checks of the property, so it gets read only once for all of them.
+     *
+     * @param propertyName Name of the property. Used for descriptions and to share the property value with other
+     *                     checks of the same property.
+     * @param getter       Accessor of the property.
+     * @param matcher      Matcher the property value has to match.
+     */
+    protected void addBooleanPropertyCheck(final String propertyName,
+                                           final Predicate<? super T> getter,
+                                           final Matcher<?> matcher) {
+        addPropertyCheck(PrimitivePropertyChecks.matching(propertyName, getter, matcher));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, Matcher)
+     */
+    protected void addBytePropertyCheck(final String propertyName,
+                                        final ToIntFunction<? super T> getter,
+                                        final Matcher<?> matcher) {
+        addPropertyCheck(PrimitivePropertyChecks.matching(propertyName, getter, matcher, value -> (byte) value));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, Matcher)
+     */
+    protected void addShortPropertyCheck(final String propertyName,
+                                         final ToIntFunction<? super T> getter,
+                                         final Matcher<?> matcher) {
+        addPropertyCheck(PrimitivePropertyChecks.matching(propertyName, getter, matcher, value -> (short) value));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, Matcher)
+     */
+    protected void addCharPropertyCheck(final String propertyName,
+                                        final ToIntFunction<? super T> getter,
+                                        final Matcher<?> matcher) {
+        addPropertyCheck(PrimitivePropertyChecks.matching(propertyName, getter, matcher, value -> (char) value));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, Matcher)
+     */
+    protected void addIntPropertyCheck(final String propertyName,
+                                       final ToIntFunction<? super T> getter,
+                                       final Matcher<?> matcher) {
+        addPropertyCheck(PrimitivePropertyChecks.matching(propertyName, getter, matcher, Integer::valueOf));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, Matcher)
+     */
+    protected void addLongPropertyCheck(final String propertyName,
+                                        final ToLongFunction<? super T> getter,
+                                        final Matcher<?> matcher) {
+        addPropertyCheck(PrimitivePropertyChecks.matching(propertyName, getter, matcher));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, Matcher)
+     */
+    protected void addFloatPropertyCheck(final String propertyName,
+                                         final ToDoubleFunction<? super T> getter,
+                                         final Matcher<?> matcher) {
+        addPropertyCheck(PrimitivePropertyChecks.matching(propertyName, getter, matcher, value -> (float) value));
+    }
+
+    /**
+     * @see #addBooleanPropertyCheck(String, Predicate, Matcher)
+     */
+    protected void addDoublePropertyCheck(final String propertyName,
+                                          final ToDoubleFunction<? super T> getter,
+                                          final Matcher<?> matcher) {
+        addPropertyCheck(PrimitivePropertyChecks.matching(propertyName, getter, matcher, Double::valueOf));
+    }
+
+    /**
+     * Adds a range check for a primitive property of the bean. The property value is compared unboxed.
+     *
+     * @param propertyName Name of the property. Used for descriptions and to share the property value with other
+     *                     checks of the same property.
+     * @param getter       Accessor of the property.
+     * @param min          Minimum expected property value (inclusive).
+     * @param max          Maximum expected property value (inclusive).
+     */
+    protected void addIntRangePropertyCheck(final String propertyName,
+                                            final ToIntFunction<? super T> getter,
+                                            final int min,
+                                            final int max) {
+        addPropertyCheck(PrimitivePropertyChecks.between(propertyName, getter, min, max));
+    }
+
+    /**
+     * @see #addIntRangePropertyCheck(String, ToIntFunction, int, int)
+     */
+    protected void addCharRangePropertyCheck(final String propertyName,
+                                             final ToIntFunction<? super T> getter,
+                                             final char min,
+                                             final char max) {
+        addPropertyCheck(PrimitivePropertyChecks.between(propertyName, getter, min, max));
+    }
+
+    /**
+     * @see #addIntRangePropertyCheck(String, ToIntFunction, int, int)
+     */
+    protected void addLongRangePropertyCheck(final String propertyName,
+                                             final ToLongFunction<? super T> getter,
+                                             final long min,
+                                             final long max) {
+        addPropertyCheck(PrimitivePropertyChecks.between(propertyName, getter, min, max));
+    }
+
+    /**
+     * @see #addIntRangePropertyCheck(String, ToIntFunction, int, int)
+     */
+    protected void addDoubleRangePropertyCheck(final String propertyName,
+                                               final ToDoubleFunction<? super T> getter,
+                                               final double min,
+                                               final double max) {
+        addPropertyCheck(PrimitivePropertyChecks.between(propertyName, getter, min, max));
+    }
+
+    /**
+     * Adds a tolerance check for a floating point property of the bean. The property value is compared unboxed.
+     *
+     * @param propertyName Name of the property. Used for descriptions and to share the property value with other
+     *                     checks of the same property.
+     * @param getter       Accessor of the property.
+     * @param expected     Expected property value.
+     * @param error        Tolerated difference to the expected value.
+     */
+    protected void addCloseToPropertyCheck(final String propertyName,
+                                           final ToDoubleFunction<? super T> getter,
+                                           final double expected,
+                                           final double error) {
+        addPropertyCheck(PrimitivePropertyChecks.closeTo(propertyName, getter, expected, error));
+    }
+
+    private synchronized void addPropertyCheck(final PropertyCheck<T> propertyCheck) {
+        assertNotFrozen();
+        propertyChecks.add(propertyCheck);
+    }
+
+    /**
+     * @param evaluationOrder Order in which the property checks get evaluated. Descriptions keep the declared order.
+     * @return this matcher
+     */
+    public synchronized DirectPropertyMatcher<T> inEvaluationOrder(final EvaluationOrder evaluationOrder) {
+        assertNotFrozen();
+        this.evaluationOrder = evaluationOrder;
+        return this;
+    }
+
+    /**
+     * @param descriptionBudget Limits of the descriptions and mismatch descriptions of this matcher.
+     * @return this matcher
+     */
+    public synchronized DirectPropertyMatcher<T> withinDescriptionBudget(final DescriptionBudget descriptionBudget) {
+        assertNotFrozen();
+        this.descriptionBudget = descriptionBudget;
+        return this;
+    }
+
+    /**
+     * Reads the values of all checked properties concurrently on virtual threads (or on a shared pool of daemon threads
+     * if the runtime does not support virtual threads) before any check gets evaluated. Matching an item with slow
+     * accessors (e.g. of proxies doing I/O) takes as long as the slowest accessor instead of the sum of all of them.
+     *
+     * @param timeout Time to wait for all property values of an item. Values not read in time do not match.
+     * @return this matcher
+     * @see #readingPropertiesConcurrently(Executor, Duration)
+     */
+    public DirectPropertyMatcher<T> readingPropertiesConcurrently(final Duration timeout) {
+        return readingPropertiesConcurrently(PropertyChecks.defaultReadExecutor(), timeout);
+    }
+
+    /**
+     * Reads the values of all checked properties concurrently with the given executor before any check gets evaluated.
+     * Each property is still read at most once per matched item. An exception thrown by an accessor fails the match
+     * like with sequential reads. {@link PropertySnapshot}s are matched without reading anything concurrently.
+     *
+     * @param executor Executor to read the property values with.
+     * @param timeout  Time to wait for all property values of an item. Values not read in time do not match.
+     * @return this matcher
+     */
+    public synchronized DirectPropertyMatcher<T> readingPropertiesConcurrently(final Executor executor,
+                                                                               final Duration timeout) {
+        assertNotFrozen();
+        this.readExecutor = executor;
+        this.readTimeout = timeout;
+
+        return this;
+    }
+
+    private void assertNotFrozen() {
+        if (frozenPropertyChecks != null) {
+            throw new IllegalStateException("The matcher is frozen because it has already been used and can not be changed anymore");
+        }
+    }
+
+    /**
+     * Freezes the configured property checks. Further configuration is not possible afterwards.
+     *
+     * @return this frozen matcher
+     */
+    public DirectPropertyMatcher<T> freeze() {
+        getFrozenPropertyChecks();
+        return this;
+    }
+
+    @Override
+    public Class<? super T> getExpectedClass() {
+        return expectedClass;
+    }
+
+    /**
+     * @return The frozen property checks in their declared order. They must only be applied to items of the
+     * {@link #getExpectedClass() expected class} or snapshots of them.
+     */
+    @SuppressWarnings("unchecked")
+    List<PropertyCheck<Object>> getFrozenChecks() {
+        return (List<PropertyCheck<Object>>) (List<?>) getFrozenPropertyChecks().getChecks();
+    }
+
+    private PropertyChecks<T> getFrozenPropertyChecks() {
+        final PropertyChecks<T> frozen = frozenPropertyChecks;
+        return frozen != null ? frozen : createFrozenPropertyChecks();
+    }
+
+    private synchronized PropertyChecks<T> createFrozenPropertyChecks() {
+        if (frozenPropertyChecks == null) {
+            frozenPropertyChecks = new PropertyChecks<>(propertyChecks, expectedClass, evaluationOrder);
+        }
+        return frozenPropertyChecks;
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        final PropertyChecks<T> checks = getFrozenPropertyChecks();
+        final Description boundedDescription = descriptionBudget.bound(description);
+
+        boundedDescription.appendText("(an instance of ")
+                .appendText(expectedClass.getName());
+        checks.describeTo(boundedDescription);
+        boundedDescription.appendText(")");
+    }
+
+    /**
+     * This matcher accepts {@link PropertySnapshot}s of the matched beans as well. The returned matcher is this matcher
+     * typed for snapshots, e.g. for {@code assertThat(snapshot, isSomePojo().forSnapshots())}.
+     *
+     * @param <S> Type of the snapshots.
+     * @return this matcher
+     */
+    @SuppressWarnings("unchecked")
+    public <S extends PropertySnapshot> Matcher<S> forSnapshots() {
+        return (Matcher<S>) (Matcher<?>) this;
+    }
+
+    /**
+     * Freezes this matcher and returns its property checks as a plain {@link Predicate}, e.g. to filter beans outside of
+     * tests. The predicate calls the accessors directly, builds no descriptions and records no mismatches, so testing
+     * an item allocates nothing apart from what the matchers passed for single properties may allocate. Primitive
+     * properties checked for equality, ranges or tolerances are compared unboxed.
+     * <p>
+     * Unlike the matcher the predicate calls the accessor of a property once per check of the property. Like the frozen
+     * matcher the predicate is safe to be used by several threads at once.
+     * </p>
+     *
+     * @return A predicate which accepts the items this matcher matches.
+     */
+    public Predicate<T> asPredicate() {
+        final PropertyChecks<T> checks = getFrozenPropertyChecks();
+        return item -> PropertyChecks.isOfType(item, expectedClass) && checks.test(item);
+    }
+
+    @Override
+    protected boolean matchesSafely(final T item) {
+        if (!PropertyChecks.isOfType(item, expectedClass)) {
+            return false;
+        }
+
+        final PropertyChecks<T> checks = getFrozenPropertyChecks();
+        return readExecutor == null ?
+                checks.matches(item) :
+                checks.matchesConcurrently(item, readExecutor, readTimeout);
+    }
+
+    @Override
+    protected void describeMismatchSafely(final T item, final Description mismatchDescription) {
+        if (!PropertyChecks.isOfType(item, expectedClass)) {
+            // Same description as the one of a TypeSafeMatcher for items of another type
+            mismatchDescription.appendText("was a ")
+                    .appendText(item.getClass().getName())
+                    .appendText(" (")
+                    .appendValue(item)
+                    .appendText(")");
+            return;
+        }
+
+        final PropertyChecks<T> checks = getFrozenPropertyChecks();
+        checks.describeMismatch(item, descriptionBudget.bound(mismatchDescription), false);
+    }
+}
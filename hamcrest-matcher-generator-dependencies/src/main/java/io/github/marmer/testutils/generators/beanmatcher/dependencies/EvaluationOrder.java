@@ -0,0 +1,22 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+/**
+ * Order in which Matchers evaluate their property checks. Descriptions and mismatch descriptions always keep the order
+ * the checks have been declared in.
+ */
+public enum EvaluationOrder {
+    /**
+     * Checks are evaluated in the order they have been declared in.
+     */
+    DECLARED,
+    /**
+     * Checks are evaluated by the estimated cost of their property types. Primitives and enums are checked first,
+     * collections, arrays and nested beans last.
+     */
+    COST_BASED,
+    /**
+     * Checks start in {@link #COST_BASED} order and get reordered by their observed failure rates from time to time, so
+     * not matching items get rejected as early as possible.
+     */
+    ADAPTIVE
+}
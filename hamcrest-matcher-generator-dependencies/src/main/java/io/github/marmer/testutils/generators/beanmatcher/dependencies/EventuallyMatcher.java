@@ -0,0 +1,218 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Matcher for values which get updated asynchronously (e.g. status beans updated by background threads). The given
+ * matcher gets evaluated again and again until it matches or the deadline has passed.
+ * <p>
+ * The time between two evaluations starts with the polling interval and gets multiplied by the backoff factor after
+ * each not matching evaluation up to the maximum interval (by default starting with 10 milliseconds, doubled up to half
+ * a second). Threads updating the value may signal their changes with a {@link ChangeSignal} given by
+ * {@link #wakingOn(ChangeSignal)}, so the value gets evaluated again right after each change instead of after the
+ * remaining interval. The last evaluation always happens at the deadline, so a value updated just in time still
+ * matches.
+ * </p>
+ * <p>
+ * The mismatch description is the one of the last evaluation, so the value is not read again for a failing assertion.
+ * It is recorded per matching thread, so threads awaiting the same value never describe their mismatches with the
+ * evaluations of each other.
+ * </p>
+ * <p>
+ * Instances can safely be shared between threads.
+ * </p>
+ *
+ * @param <T> Type of the value.
+ */
+public final class EventuallyMatcher<T> extends BaseMatcher<T> {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_INTERVAL = Duration.ofMillis(10);
+    private static final Duration DEFAULT_MAX_INTERVAL = Duration.ofMillis(500);
+    private static final double DEFAULT_BACKOFF_FACTOR = 2;
+
+    private final Matcher<? super T> matcher;
+    private final Duration timeout;
+    private final Duration interval;
+    private final double backoffFactor;
+    private final Duration maxInterval;
+    private final ChangeSignal changeSignal;
+    private final ThreadLocal<RecordedMismatch> recordedMismatch = new ThreadLocal<>();
+
+    private EventuallyMatcher(final Matcher<? super T> matcher,
+                              final Duration timeout,
+                              final Duration interval,
+                              final double backoffFactor,
+                              final Duration maxInterval,
+                              final ChangeSignal changeSignal) {
+        this.matcher = matcher;
+        this.timeout = timeout;
+        this.interval = interval;
+        this.backoffFactor = backoffFactor;
+        this.maxInterval = maxInterval;
+        this.changeSignal = changeSignal;
+    }
+
+    /**
+     * @param matcher Matcher the value has to match eventually.
+     * @param <T>     Type of the value.
+     * @return A matcher for values which match the given matcher within ten seconds.
+     */
+    public static <T> EventuallyMatcher<T> eventually(final Matcher<? super T> matcher) {
+        return new EventuallyMatcher<>(matcher, DEFAULT_TIMEOUT, DEFAULT_INTERVAL, DEFAULT_BACKOFF_FACTOR,
+                DEFAULT_MAX_INTERVAL, null);
+    }
+
+    /**
+     * @param timeout Time after which the value has to match at the latest.
+     * @return A matcher like this one with the given deadline.
+     */
+    public EventuallyMatcher<T> within(final Duration timeout) {
+        return new EventuallyMatcher<>(matcher, timeout, interval, backoffFactor, maxInterval, changeSignal);
+    }
+
+    /**
+     * @param interval Time between the first two evaluations.
+     * @return A matcher like this one starting with the given polling interval.
+     */
+    public EventuallyMatcher<T> pollingEvery(final Duration interval) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("The polling interval has to be positive but was: " + interval);
+        }
+        return new EventuallyMatcher<>(matcher, timeout, interval, backoffFactor, maxInterval, changeSignal);
+    }
+
+    /**
+     * @param backoffFactor Factor the polling interval gets multiplied by after each not matching evaluation.
+     * @param maxInterval   Maximum time between two evaluations.
+     * @return A matcher like this one with the given backoff.
+     */
+    public EventuallyMatcher<T> backingOffBy(final double backoffFactor, final Duration maxInterval) {
+        if (backoffFactor < 1) {
+            throw new IllegalArgumentException("The backoff factor must not be less than 1 but was: " + backoffFactor);
+        }
+        return new EventuallyMatcher<>(matcher, timeout, interval, backoffFactor, maxInterval, changeSignal);
+    }
+
+    /**
+     * @param changeSignal Signal of the changes of the value.
+     * @return A matcher like this one evaluating the value again as soon as a change gets signaled.
+     */
+    public EventuallyMatcher<T> wakingOn(final ChangeSignal changeSignal) {
+        return new EventuallyMatcher<>(matcher, timeout, interval, backoffFactor, maxInterval, changeSignal);
+    }
+
+    @Override
+    public boolean matches(final Object actual) {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        long currentInterval = interval.toNanos();
+        int evaluations = 0;
+
+        while (true) {
+            final long signaledChanges = changeSignal == null ? 0 : changeSignal.changes();
+            evaluations++;
+            if (matcher.matches(actual)) {
+                recordedMismatch.remove();
+                return true;
+            }
+
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                final Description mismatchDescription = new StringDescription();
+                matcher.describeMismatch(actual, mismatchDescription);
+                recordedMismatch.set(new RecordedMismatch(actual, evaluations, mismatchDescription.toString()));
+                return false;
+            }
+
+            await(signaledChanges, Math.min(currentInterval, remaining));
+            currentInterval = Math.min((long) (currentInterval * backoffFactor), maxInterval.toNanos());
+        }
+    }
+
+    private void await(final long signaledChanges, final long nanos) {
+        try {
+            if (changeSignal == null) {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            } else {
+                changeSignal.awaitChange(signaledChanges, nanos);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the value to match", e);
+        }
+    }
+
+    @Override
+    public void describeMismatch(final Object actual, final Description mismatchDescription) {
+        final RecordedMismatch recorded = recordedMismatch.get();
+        recordedMismatch.remove();
+        if (recorded == null || recorded.actual != actual) {
+            matcher.describeMismatch(actual, mismatchDescription);
+            return;
+        }
+
+        mismatchDescription.appendText("after " + recorded.evaluations + " evaluations within " + timeout + " ")
+                .appendText(recorded.mismatchDescription);
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        description.appendText("eventually within " + timeout + " ")
+                .appendDescriptionOf(matcher);
+    }
+
+    /**
+     * Mismatch of the last evaluation of a value which has not matched in time.
+     */
+    private static final class RecordedMismatch {
+
+        private final Object actual;
+        private final int evaluations;
+        private final String mismatchDescription;
+
+        private RecordedMismatch(final Object actual, final int evaluations, final String mismatchDescription) {
+            this.actual = actual;
+            this.evaluations = evaluations;
+            this.mismatchDescription = mismatchDescription;
+        }
+    }
+
+    /**
+     * Signal of changes of a value matched by {@link EventuallyMatcher}s. Threads changing the value call
+     * {@link #signal()} after each change to get the value evaluated again right away.
+     * <p>
+     * Instances are thread safe. One signal may be used for any number of values and matchers.
+     * </p>
+     */
+    public static final class ChangeSignal {
+
+        private long changes;
+
+        /**
+         * Signals a change to all waiting matchers.
+         */
+        public synchronized void signal() {
+            changes++;
+            notifyAll();
+        }
+
+        private synchronized long changes() {
+            return changes;
+        }
+
+        private synchronized void awaitChange(final long signaledChanges, final long nanos)
+                throws InterruptedException {
+            final long deadline = System.nanoTime() + nanos;
+            long remaining = nanos;
+            while (changes == signaledChanges && remaining > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+        }
+    }
+}
@@ -36,6 +36,97 @@ public @interface MatcherConfiguration {
          */
         PackageConfiguration packageConfig() default @PackageConfiguration("");
 
+        /**
+         * How generated Matchers access the properties of the matched types.
+         *
+         * @return How generated Matchers access the properties of the matched types.
+         */
+        PropertyAccess propertyAccess() default PropertyAccess.REFLECTION;
+
+        /**
+         * Order in which generated Matchers evaluate their property checks.
+         *
+         * @return Order in which generated Matchers evaluate their property checks.
+         */
+        EvaluationOrder evaluationOrder() default EvaluationOrder.DECLARED;
+
+        /**
+         * Limits of the descriptions and mismatch descriptions of generated Matchers.
+         *
+         * @return Limits of the descriptions and mismatch descriptions of generated Matchers.
+         */
+        DescriptionBudgetConfiguration descriptionBudget() default @DescriptionBudgetConfiguration;
+
+        /**
+         * Time in milliseconds generated Matchers wait for the properties of a matched bean, which they read
+         * concurrently on virtual threads (or on a shared pool of daemon threads if the runtime does not support
+         * virtual threads) if the time is positive. Useful for beans with slow accessors (e.g. proxies doing I/O). See
+         * {@link BeanPropertyMatcher#readingPropertiesConcurrently(java.time.Duration)}. Properties are read one after
+         * another by default.
+         *
+         * @return Time to wait for concurrently read properties or 0 to read them one after another.
+         */
+        long concurrentPropertyReadTimeoutMillis() default 0;
+
+        /**
+         * Whether a {@link PropertySnapshot} type and a {@code snapshot(item)} factory get generated for each matched
+         * type. A snapshot reads all properties of a bean once and can be matched by the generated Matchers any number
+         * of times without calling an accessor of the bean again.
+         *
+         * @return Whether snapshot types get generated.
+         */
+        boolean snapshots() default false;
+
+        /**
+         * Whether a companion class with a {@link PropertyExtractor} constant per property (e.g.
+         * {@code SomePojoProperties.POJO_FIELD}) gets generated for each matched type.
+         *
+         * @return Whether property constants get generated.
+         */
+        boolean propertyConstants() default false;
+
+        /**
+         * Ways generated Matchers access the properties of the matched types.
+         */
+        enum PropertyAccess {
+            /**
+             * Properties are looked up by name and read via reflection at match time.
+             */
+            REFLECTION,
+            /**
+             * Generated Matchers call the property accessors directly. No reflection happens at match time.
+             */
+            DIRECT
+        }
+
+        /**
+         * Limits of the descriptions and mismatch descriptions of generated Matchers. See {@link DescriptionBudget}.
+         */
+        @Retention(RetentionPolicy.SOURCE)
+        @interface DescriptionBudgetConfiguration {
+
+            /**
+             * Maximum number of characters of a description.
+             *
+             * @return Maximum number of characters of a description.
+             */
+            int maxLength() default DescriptionBudget.UNLIMITED;
+
+            /**
+             * Maximum number of rendered elements of a collection, map or array.
+             *
+             * @return Maximum number of rendered elements of a collection, map or array.
+             */
+            int maxElements() default DescriptionBudget.UNLIMITED;
+
+            /**
+             * Maximum depth of rendered collections, maps and arrays nested into each other.
+             *
+             * @return Maximum depth of rendered collections, maps and arrays nested into each other.
+             */
+            int maxDepth() default DescriptionBudget.UNLIMITED;
+        }
+
         /**
          * Configuration of how packages are created for Matchers.
          */
@@ -0,0 +1,218 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertyCheck.ReadFailure;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.hamcrest.Matcher;
+
+/**
+ * Index of many matchers to find the ones matching an item without evaluating each of them.
+ * <p>
+ * Equality checks of {@link DirectPropertyMatcher}s (e.g. the {@code withName(value)} methods of generated matchers
+ * with direct property access) get indexed by their expected values. Each matcher is indexed by the one of its equality
+ * checked properties with the most distinct expected values among all matchers. To find the matchers of an item, each
+ * indexed property of the item is read once and looked up in its hash index. Only the matchers found this way get their
+ * remaining checks evaluated. Their equality checks are evaluated with the values already read for the lookup.
+ * </p>
+ * <p>
+ * Any other matcher and matchers without equality checks get evaluated for each item.
+ * </p>
+ * <p>
+ * The index freezes the indexed matchers. It can not be changed and is safe to be used by several threads at once.
+ * </p>
+ *
+ * @param <M> Type of the matchers.
+ */
+public final class MatcherIndex<M extends Matcher<?>> {
+
+    private static final Object NOT_READ = new Object();
+
+    private final List<IndexedProperty<M>> properties = new ArrayList<>();
+    private final List<Rule<M>> unindexedRules = new ArrayList<>();
+
+    private MatcherIndex(final List<? extends M> matchers) {
+        final Map<List<Object>, Integer> propertyIndices = new LinkedHashMap<>();
+        final List<Set<Object>> distinctExpectedValues = new ArrayList<>();
+        final List<Rule<M>> indexedRules = new ArrayList<>();
+
+        for (int position = 0; position < matchers.size(); position++) {
+            final M matcher = matchers.get(position);
+            if (!(matcher instanceof DirectPropertyMatcher)) {
+                unindexedRules.add(new Rule<>(position, matcher));
+                continue;
+            }
+
+            final DirectPropertyMatcher<?> directMatcher = (DirectPropertyMatcher<?>) matcher;
+            final Class<?> beanType = directMatcher.getExpectedClass();
+            final List<Integer> equalityProperties = new ArrayList<>();
+            final List<Object> expectedValues = new ArrayList<>();
+            final List<PropertyCheck<Object>> otherChecks = new ArrayList<>();
+            for (final PropertyCheck<Object> check : directMatcher.getFrozenChecks()) {
+                final Object expectedValue = check.expectedValue();
+                if (expectedValue == PropertyCheck.NO_EXPECTED_VALUE || check.readKey() == null) {
+                    otherChecks.add(check);
+                    continue;
+                }
+
+                final int propertyIndex = propertyIndices.computeIfAbsent(List.of(beanType, check.readKey()), key -> {
+                    properties.add(new IndexedProperty<>(beanType, check));
+                    distinctExpectedValues.add(new HashSet<>());
+                    return properties.size() - 1;
+                });
+                distinctExpectedValues.get(propertyIndex).add(expectedValue);
+                equalityProperties.add(propertyIndex);
+                expectedValues.add(expectedValue);
+            }
+
+            final Rule<M> rule = new Rule<>(position, matcher, beanType,
+                    equalityProperties.stream().mapToInt(Integer::intValue).toArray(),
+                    expectedValues.toArray(),
+                    otherChecks);
+            (equalityProperties.isEmpty() ? unindexedRules : indexedRules).add(rule);
+        }
+
+        for (final Rule<M> rule : indexedRules) {
+            int mostSelective = 0;
+            for (int i = 1; i < rule.equalityProperties.length; i++) {
+                if (distinctExpectedValues.get(rule.equalityProperties[i]).size() >
+                        distinctExpectedValues.get(rule.equalityProperties[mostSelective]).size()) {
+                    mostSelective = i;
+                }
+            }
+            properties.get(rule.equalityProperties[mostSelective]).rulesByValue
+                    .computeIfAbsent(rule.expectedValues[mostSelective], key -> new ArrayList<>())
+                    .add(rule);
+        }
+    }
+
+    /**
+     * @param matchers Matchers to index. {@link DirectPropertyMatcher}s get frozen.
+     * @param <M>      Type of the matchers.
+     * @return An index of the given matchers.
+     */
+    public static <M extends Matcher<?>> MatcherIndex<M> of(final Collection<? extends M> matchers) {
+        return new MatcherIndex<>(List.copyOf(matchers));
+    }
+
+    /**
+     * @param item Item to find the matchers for.
+     * @return The matchers matching the item in the order they have been indexed in.
+     */
+    public List<M> matching(final Object item) {
+        final Object[] values = new Object[properties.size()];
+        Arrays.fill(values, NOT_READ);
+        final List<Rule<M>> matchingRules = new ArrayList<>();
+
+        for (int i = 0; i < properties.size(); i++) {
+            final IndexedProperty<M> property = properties.get(i);
+            if (property.rulesByValue.isEmpty() || !PropertyChecks.isOfType(item, property.beanType)) {
+                continue;
+            }
+
+            final Object value = valueOf(i, item, values);
+            if (value instanceof ReadFailure) {
+                continue;
+            }
+            for (final Rule<M> rule : property.rulesByValue.getOrDefault(value, List.of())) {
+                if (matches(rule, item, values)) {
+                    matchingRules.add(rule);
+                }
+            }
+        }
+        for (final Rule<M> rule : unindexedRules) {
+            if (matches(rule, item, values)) {
+                matchingRules.add(rule);
+            }
+        }
+
+        return matchingRules.stream()
+                .sorted(Comparator.comparingInt(rule -> rule.position))
+                .map(rule -> rule.matcher)
+                .collect(Collectors.toList());
+    }
+
+    private boolean matches(final Rule<M> rule, final Object item, final Object[] values) {
+        if (rule.beanType == null) {
+            return rule.matcher.matches(item);
+        }
+        if (!PropertyChecks.isOfType(item, rule.beanType)) {
+            return false;
+        }
+
+        for (int i = 0; i < rule.equalityProperties.length; i++) {
+            final Object value = valueOf(rule.equalityProperties[i], item, values);
+            if (value instanceof ReadFailure || !Objects.equals(value, rule.expectedValues[i])) {
+                return false;
+            }
+        }
+        for (final PropertyCheck<Object> check : rule.otherChecks) {
+            if (!PropertyChecks.test(check, item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object valueOf(final int propertyIndex, final Object item, final Object[] values) {
+        if (values[propertyIndex] == NOT_READ) {
+            values[propertyIndex] = PropertyChecks.read(properties.get(propertyIndex).reader, item);
+        }
+        return values[propertyIndex];
+    }
+
+    /**
+     * Property of a bean type which is checked for equality by at least one matcher.
+     */
+    private static final class IndexedProperty<M extends Matcher<?>> {
+
+        private final Class<?> beanType;
+        private final PropertyCheck<Object> reader;
+        private final Map<Object, List<Rule<M>>> rulesByValue = new HashMap<>();
+
+        private IndexedProperty(final Class<?> beanType, final PropertyCheck<Object> reader) {
+            this.beanType = beanType;
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * An indexed matcher. Matchers whose checks are not known are evaluated as a whole.
+     */
+    private static final class Rule<M extends Matcher<?>> {
+
+        private final int position;
+        private final M matcher;
+        private final Class<?> beanType;
+        private final int[] equalityProperties;
+        private final Object[] expectedValues;
+        private final List<PropertyCheck<Object>> otherChecks;
+
+        private Rule(final int position, final M matcher) {
+            this(position, matcher, null, new int[0], new Object[0], List.of());
+        }
+
+        private Rule(final int position,
+                     final M matcher,
+                     final Class<?> beanType,
+                     final int[] equalityProperties,
+                     final Object[] expectedValues,
+                     final List<PropertyCheck<Object>> otherChecks) {
+            this.position = position;
+            this.matcher = matcher;
+            this.beanType = beanType;
+            this.equalityProperties = equalityProperties;
+            this.expectedValues = expectedValues;
+            this.otherChecks = otherChecks;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+/**
+ * Matcher for iterables whose items are matched in parallel on a {@link ForkJoinPool}. Descriptions are the same as the
+ * ones of Hamcrest's {@link org.hamcrest.Matchers#everyItem(Matcher) everyItem} and
+ * {@link org.hamcrest.Matchers#hasItem(Matcher) hasItem}.
+ * <p>
+ * The items are split into chunks with their {@link Spliterator}. Iterables without exactly sized splits get copied to
+ * an array first. Matching stops as soon as the result is known: for {@link #everyItemInParallel(Matcher)} no item
+ * after an already found not matching item gets evaluated and for {@link #hasItemInParallel(Matcher)} no item gets
+ * evaluated after any matching item has been found. Nevertheless all items before a not matching item are evaluated, so
+ * the reported not matching item is always the one with the lowest index, regardless of the scheduling of the chunks.
+ * The result of a failing match is recorded per matching thread, so describing the mismatch of the same iterable
+ * afterwards evaluates no item again. Results of successful matches are not recorded, so matched iterables are not kept
+ * reachable.
+ * </p>
+ * <p>
+ * The item matcher is called by several threads at once. Frozen {@link BeanPropertyMatcher}s,
+ * {@link DirectPropertyMatcher}s and generated matchers can safely be used for this. They get frozen with their first
+ * use.
+ * </p>
+ * <p>
+ * Instances can safely be shared between threads.
+ * </p>
+ *
+ * @param <T> Type of the items.
+ */
+public final class ParallelItemsMatcher<T> extends BaseMatcher<Iterable<? extends T>> {
+
+    private static final long NOT_FOUND = Long.MAX_VALUE;
+    private static final int MIN_CHUNK_SIZE = 1_024;
+    private static final int CHUNKS_PER_THREAD = 8;
+
+    private final Matcher<? super T> matcher;
+    private final boolean isEveryItem;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<RecordedResult> recordedResult = new ThreadLocal<>();
+
+    private ParallelItemsMatcher(final Matcher<? super T> matcher, final boolean isEveryItem, final ForkJoinPool pool) {
+        this.matcher = matcher;
+        this.isEveryItem = isEveryItem;
+        this.pool = pool;
+    }
+
+    /**
+     * @param matcher Matcher each item has to match.
+     * @param <T>     Type of the items.
+     * @return A matcher for iterables whose items all match the given matcher, evaluated on the common pool.
+     */
+    public static <T> ParallelItemsMatcher<T> everyItemInParallel(final Matcher<? super T> matcher) {
+        return new ParallelItemsMatcher<>(matcher, true, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param matcher Matcher at least one item has to match.
+     * @param <T>     Type of the items.
+     * @return A matcher for iterables with at least one item matching the given matcher, evaluated on the common pool.
+     */
+    public static <T> ParallelItemsMatcher<T> hasItemInParallel(final Matcher<? super T> matcher) {
+        return new ParallelItemsMatcher<>(matcher, false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool Pool to evaluate the items on.
+     * @return A matcher like this one evaluating the items on the given pool.
+     */
+    public ParallelItemsMatcher<T> inPool(final ForkJoinPool pool) {
+        return new ParallelItemsMatcher<>(matcher, isEveryItem, pool);
+    }
+
+    @Override
+    public boolean matches(final Object actual) {
+        if (!(actual instanceof Iterable)) {
+            return false;
+        }
+
+        final RecordedResult result = search((Iterable<?>) actual);
+        final boolean matches = isEveryItem ? result.index == NOT_FOUND : result.index != NOT_FOUND;
+        if (matches) {
+            recordedResult.remove();
+        } else {
+            recordedResult.set(result);
+        }
+        return matches;
+    }
+
+    private RecordedResult search(final Iterable<?> items) {
+        Spliterator<?> spliterator = items.spliterator();
+        if (!spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+            spliterator = Arrays.spliterator(StreamSupport.stream(spliterator, false).toArray());
+        }
+
+        final RecordedResult result = new RecordedResult(items);
+        final long chunkSize = Math.max(MIN_CHUNK_SIZE,
+                spliterator.getExactSizeIfKnown() / ((long) pool.getParallelism() * CHUNKS_PER_THREAD));
+        pool.invoke(new Search(spliterator, 0, chunkSize, result));
+        return result;
+    }
+
+    @Override
+    public void describeMismatch(final Object actual, final Description mismatchDescription) {
+        if (!(actual instanceof Iterable)) {
+            super.describeMismatch(actual, mismatchDescription);
+            return;
+        }
+
+        final RecordedResult recorded = recordedResult.get();
+        recordedResult.remove();
+        final RecordedResult result = recorded != null && recorded.items == actual ? recorded :
+                search((Iterable<?>) actual);
+        if (isEveryItem) {
+            if (result.index == NOT_FOUND) {
+                mismatchDescription.appendText("every item matched");
+                return;
+            }
+            mismatchDescription.appendText("an item at index ")
+                    .appendText(String.valueOf(result.index))
+                    .appendText(" ");
+            matcher.describeMismatch(result.item, mismatchDescription);
+            return;
+        }
+
+        if (!((Iterable<?>) actual).iterator().hasNext()) {
+            mismatchDescription.appendText("was empty");
+            return;
+        }
+        // Same description as the one of Hamcrest's hasItem
+        mismatchDescription.appendText("mismatches were: [");
+        boolean isPastFirst = false;
+        for (final Object item : (Iterable<?>) actual) {
+            if (isPastFirst) {
+                mismatchDescription.appendText(", ");
+            }
+            matcher.describeMismatch(item, mismatchDescription);
+            isPastFirst = true;
+        }
+        mismatchDescription.appendText("]");
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        description.appendText(isEveryItem ? "every item is " : "a collection containing ")
+                .appendDescriptionOf(matcher);
+    }
+
+    /**
+     * Lowest index of a found item which decides the result, i.e. of a not matching item for
+     * {@link #everyItemInParallel(Matcher)} and of a matching item for {@link #hasItemInParallel(Matcher)}.
+     */
+    private static final class RecordedResult {
+
+        private final Object items;
+        private volatile long index = NOT_FOUND;
+        private Object item;
+
+        private RecordedResult(final Object items) {
+            this.items = items;
+        }
+
+        private synchronized void found(final long index, final Object item) {
+            if (index < this.index) {
+                this.item = item;
+                this.index = index;
+            }
+        }
+    }
+
+    /**
+     * Search of a chunk. Splits off and forks the suffixes of the chunk until it is small enough and evaluates the
+     * remaining prefix itself, so the items with the lowest indices get evaluated first.
+     */
+    private final class Search extends RecursiveAction {
+
+        private final Spliterator<?> spliterator;
+        private final long offset;
+        private final long chunkSize;
+        private final RecordedResult result;
+
+        private Search(final Spliterator<?> spliterator,
+                       final long offset,
+                       final long chunkSize,
+                       final RecordedResult result) {
+            this.spliterator = spliterator;
+            this.offset = offset;
+            this.chunkSize = chunkSize;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (isDecided(offset)) {
+                return;
+            }
+
+            final List<Search> suffixes = new ArrayList<>();
+            Spliterator<?> chunk = spliterator;
+            while (chunk.estimateSize() > chunkSize) {
+                final Spliterator<?> prefix = chunk.trySplit();
+                if (prefix == null) {
+                    break;
+                }
+                final Search suffix = new Search(chunk, offset + prefix.getExactSizeIfKnown(), chunkSize, result);
+                suffix.fork();
+                suffixes.add(suffix);
+                chunk = prefix;
+            }
+
+            final ItemEvaluation evaluation = new ItemEvaluation(offset);
+            while (!isDecided(evaluation.index) && chunk.tryAdvance(evaluation)) {
+                evaluation.index++;
+            }
+
+            for (final Search suffix : suffixes) {
+                suffix.join();
+            }
+        }
+
+        private boolean isDecided(final long index) {
+            return isEveryItem ? index > result.index : result.index != NOT_FOUND;
+        }
+
+        private final class ItemEvaluation implements Consumer<Object> {
+
+            private long index;
+
+            private ItemEvaluation(final long index) {
+                this.index = index;
+            }
+
+            @Override
+            public void accept(final Object item) {
+                if (matcher.matches(item) != isEveryItem) {
+                    result.found(index, item);
+                }
+            }
+        }
+    }
+}
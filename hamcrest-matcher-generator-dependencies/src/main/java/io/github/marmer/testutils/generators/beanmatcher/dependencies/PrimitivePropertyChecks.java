@@ -0,0 +1,398 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertyCheck.ValueCheck;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+
+/**
+ * Checks of primitive properties. Values are read and compared unboxed. Only the values of failing checks get boxed to
+ * describe them. Descriptions are the same as the ones of the corresponding Hamcrest matchers.
+ * <p>
+ * A value shared by several checks of the same property gets read once and boxed for all of them.
+ * </p>
+ * <p>
+ * The expected values of equality checks are boxed to the same wrapper types as the read values, so they can be looked
+ * up by the read values.
+ * </p>
+ */
+final class PrimitivePropertyChecks {
+
+    private PrimitivePropertyChecks() {
+    }
+
+    static <T> PropertyCheck<T> equalTo(final String propertyName,
+                                        final Predicate<? super T> getter,
+                                        final boolean expected) {
+        return new BooleanCheck<>(propertyName, getter, Matchers.equalTo(expected)) {
+            @Override
+            boolean matches(final boolean value) {
+                return value == expected;
+            }
+
+            @Override
+            Object expectedValue() {
+                return expected;
+            }
+        };
+    }
+
+    /**
+     * The value gets boxed to be matched, but is read with the same accessor as the unboxed checks of the property.
+     */
+    static <T> PropertyCheck<T> matching(final String propertyName,
+                                         final Predicate<? super T> getter,
+                                         final Matcher<?> matcher) {
+        return new BooleanCheck<>(propertyName, getter, matcher) {
+            @Override
+            boolean matches(final boolean value) {
+                return matcher.matches(value);
+            }
+        };
+    }
+
+    /**
+     * @param boxing Boxes a value of the property to its actual wrapper type (e.g. {@link Character}) for
+     *               descriptions.
+     */
+    static <T> PropertyCheck<T> equalTo(final String propertyName,
+                                        final ToIntFunction<? super T> getter,
+                                        final int expected,
+                                        final IntFunction<Object> boxing) {
+        return new IntCheck<>(propertyName, getter, Matchers.equalTo(boxing.apply(expected)), boxing) {
+            @Override
+            boolean matches(final int value) {
+                return value == expected;
+            }
+
+            @Override
+            Object expectedValue() {
+                return boxing.apply(expected);
+            }
+        };
+    }
+
+    /**
+     * @see #matching(String, Predicate, Matcher)
+     */
+    static <T> PropertyCheck<T> matching(final String propertyName,
+                                         final ToIntFunction<? super T> getter,
+                                         final Matcher<?> matcher,
+                                         final IntFunction<Object> boxing) {
+        return new IntCheck<>(propertyName, getter, matcher, boxing) {
+            @Override
+            boolean matches(final int value) {
+                return matcher.matches(boxing.apply(value));
+            }
+        };
+    }
+
+    static <T> PropertyCheck<T> between(final String propertyName,
+                                        final ToIntFunction<? super T> getter,
+                                        final int min,
+                                        final int max) {
+        return new IntCheck<>(propertyName, getter, betweenMatcher(min, max), Integer::valueOf) {
+            @Override
+            boolean matches(final int value) {
+                return min <= value && value <= max;
+            }
+        };
+    }
+
+    static <T> PropertyCheck<T> between(final String propertyName,
+                                        final ToIntFunction<? super T> getter,
+                                        final char min,
+                                        final char max) {
+        return new IntCheck<>(propertyName, getter, betweenMatcher(min, max), value -> (char) value) {
+            @Override
+            boolean matches(final int value) {
+                return min <= value && value <= max;
+            }
+        };
+    }
+
+    static <T> PropertyCheck<T> equalTo(final String propertyName,
+                                        final ToLongFunction<? super T> getter,
+                                        final long expected) {
+        return new LongCheck<>(propertyName, getter, Matchers.equalTo(expected)) {
+            @Override
+            boolean matches(final long value) {
+                return value == expected;
+            }
+
+            @Override
+            Object expectedValue() {
+                return expected;
+            }
+        };
+    }
+
+    /**
+     * @see #matching(String, Predicate, Matcher)
+     */
+    static <T> PropertyCheck<T> matching(final String propertyName,
+                                         final ToLongFunction<? super T> getter,
+                                         final Matcher<?> matcher) {
+        return new LongCheck<>(propertyName, getter, matcher) {
+            @Override
+            boolean matches(final long value) {
+                return matcher.matches(value);
+            }
+        };
+    }
+
+    static <T> PropertyCheck<T> between(final String propertyName,
+                                        final ToLongFunction<? super T> getter,
+                                        final long min,
+                                        final long max) {
+        return new LongCheck<>(propertyName, getter, betweenMatcher(min, max)) {
+            @Override
+            boolean matches(final long value) {
+                return min <= value && value <= max;
+            }
+        };
+    }
+
+    /**
+     * Values are equal in the same way as their wrappers are, so NaN is equal to NaN and 0.0 is not equal to -0.0.
+     *
+     * @param boxing Boxes a value of the property to its actual wrapper type (e.g. {@link Float}) for descriptions.
+     */
+    static <T> PropertyCheck<T> equalTo(final String propertyName,
+                                        final ToDoubleFunction<? super T> getter,
+                                        final double expected,
+                                        final DoubleBoxing boxing) {
+        final long expectedBits = Double.doubleToLongBits(expected);
+        return new DoubleCheck<>(propertyName, getter, Matchers.equalTo(boxing.box(expected)), boxing) {
+            @Override
+            boolean matches(final double value) {
+                return Double.doubleToLongBits(value) == expectedBits;
+            }
+
+            @Override
+            Object expectedValue() {
+                return boxing.box(expected);
+            }
+        };
+    }
+
+    /**
+     * @see #matching(String, Predicate, Matcher)
+     */
+    static <T> PropertyCheck<T> matching(final String propertyName,
+                                         final ToDoubleFunction<? super T> getter,
+                                         final Matcher<?> matcher,
+                                         final DoubleBoxing boxing) {
+        return new DoubleCheck<>(propertyName, getter, matcher, boxing) {
+            @Override
+            boolean matches(final double value) {
+                return matcher.matches(boxing.box(value));
+            }
+        };
+    }
+
+    static <T> PropertyCheck<T> between(final String propertyName,
+                                        final ToDoubleFunction<? super T> getter,
+                                        final double min,
+                                        final double max) {
+        return new DoubleCheck<>(propertyName, getter, betweenMatcher(min, max), Double::valueOf) {
+            @Override
+            boolean matches(final double value) {
+                return min <= value && value <= max;
+            }
+        };
+    }
+
+    static <T> PropertyCheck<T> closeTo(final String propertyName,
+                                        final ToDoubleFunction<? super T> getter,
+                                        final double expected,
+                                        final double error) {
+        return new DoubleCheck<>(propertyName, getter, Matchers.closeTo(expected, error), Double::valueOf) {
+            @Override
+            boolean matches(final double value) {
+                return Math.abs(value - expected) - error <= 0.0;
+            }
+        };
+    }
+
+    private static <V extends Comparable<V>> Matcher<V> betweenMatcher(final V min, final V max) {
+        return Matchers.both(Matchers.greaterThanOrEqualTo(min)).and(Matchers.lessThanOrEqualTo(max));
+    }
+
+    /**
+     * Boxing of double values to their wrapper type.
+     */
+    interface DoubleBoxing {
+        Object box(double value);
+    }
+
+    private abstract static class BooleanCheck<T> extends ValueCheck<T> {
+
+        private final Predicate<? super T> getter;
+
+        BooleanCheck(final String propertyName,
+                     final Predicate<? super T> getter,
+                     final Matcher<?> descriptionMatcher) {
+            super(propertyName, descriptionMatcher, "boolean");
+            this.getter = getter;
+        }
+
+        abstract boolean matches(boolean value);
+
+        @Override
+        Object read(final T item) {
+            return getter.test(item);
+        }
+
+        @Override
+        Object check(final T item) {
+            final boolean value = getter.test(item);
+            return matches(value) ? MATCHED : value;
+        }
+
+        @Override
+        boolean test(final T item) {
+            return matches(getter.test(item));
+        }
+
+        @Override
+        boolean matchesValue(final Object value) {
+            return matches((Boolean) value);
+        }
+
+        @Override
+        int estimatedCost(final Class<?> beanType) {
+            return 0;
+        }
+    }
+
+    private abstract static class IntCheck<T> extends ValueCheck<T> {
+
+        private final ToIntFunction<? super T> getter;
+        private final IntFunction<Object> boxing;
+
+        IntCheck(final String propertyName,
+                 final ToIntFunction<? super T> getter,
+                 final Matcher<?> descriptionMatcher,
+                 final IntFunction<Object> boxing) {
+            super(propertyName, descriptionMatcher, "int");
+            this.getter = getter;
+            this.boxing = boxing;
+        }
+
+        abstract boolean matches(int value);
+
+        @Override
+        Object read(final T item) {
+            return boxing.apply(getter.applyAsInt(item));
+        }
+
+        @Override
+        Object check(final T item) {
+            final int value = getter.applyAsInt(item);
+            return matches(value) ? MATCHED : boxing.apply(value);
+        }
+
+        @Override
+        boolean test(final T item) {
+            return matches(getter.applyAsInt(item));
+        }
+
+        @Override
+        boolean matchesValue(final Object value) {
+            return matches(value instanceof Character ? (Character) value : ((Number) value).intValue());
+        }
+
+        @Override
+        int estimatedCost(final Class<?> beanType) {
+            return 0;
+        }
+    }
+
+    private abstract static class LongCheck<T> extends ValueCheck<T> {
+
+        private final ToLongFunction<? super T> getter;
+
+        LongCheck(final String propertyName,
+                  final ToLongFunction<? super T> getter,
+                  final Matcher<?> descriptionMatcher) {
+            super(propertyName, descriptionMatcher, "long");
+            this.getter = getter;
+        }
+
+        abstract boolean matches(long value);
+
+        @Override
+        Object read(final T item) {
+            return getter.applyAsLong(item);
+        }
+
+        @Override
+        Object check(final T item) {
+            final long value = getter.applyAsLong(item);
+            return matches(value) ? MATCHED : value;
+        }
+
+        @Override
+        boolean test(final T item) {
+            return matches(getter.applyAsLong(item));
+        }
+
+        @Override
+        boolean matchesValue(final Object value) {
+            return matches((long) (Long) value);
+        }
+
+        @Override
+        int estimatedCost(final Class<?> beanType) {
+            return 0;
+        }
+    }
+
+    private abstract static class DoubleCheck<T> extends ValueCheck<T> {
+
+        private final ToDoubleFunction<? super T> getter;
+        private final DoubleBoxing boxing;
+
+        DoubleCheck(final String propertyName,
+                    final ToDoubleFunction<? super T> getter,
+                    final Matcher<?> descriptionMatcher,
+                    final DoubleBoxing boxing) {
+            super(propertyName, descriptionMatcher, "double");
+            this.getter = getter;
+            this.boxing = boxing;
+        }
+
+        abstract boolean matches(double value);
+
+        @Override
+        Object read(final T item) {
+            return boxing.box(getter.applyAsDouble(item));
+        }
+
+        @Override
+        Object check(final T item) {
+            final double value = getter.applyAsDouble(item);
+            return matches(value) ? MATCHED : boxing.box(value);
+        }
+
+        @Override
+        boolean test(final T item) {
+            return matches(getter.applyAsDouble(item));
+        }
+
+        @Override
+        boolean matchesValue(final Object value) {
+            return matches(((Number) value).doubleValue());
+        }
+
+        @Override
+        int estimatedCost(final Class<?> beanType) {
+            return 0;
+        }
+    }
+}
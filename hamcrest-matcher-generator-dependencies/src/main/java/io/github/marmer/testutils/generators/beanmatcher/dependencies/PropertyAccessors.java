@@ -0,0 +1,148 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hamcrest.beans.PropertyUtil;
+
+/**
+ * Registry of the property accessors of a class. The bean properties of a class are introspected only once and their
+ * read methods get resolved to {@link MethodHandle}s. Properties are the same as the ones found by Hamcrest's
+ * {@link PropertyUtil}.
+ */
+final class PropertyAccessors {
+
+    private static final ClassValue<PropertyAccessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected PropertyAccessors computeValue(final Class<?> type) {
+            return new PropertyAccessors(type);
+        }
+    };
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Map<String, PropertyAccessor> accessors;
+    private final Class<?> type;
+    private final IntrospectionException introspectionFailure;
+
+    private PropertyAccessors(final Class<?> type) {
+        this.type = type;
+
+        final Map<String, PropertyAccessor> accessors = new LinkedHashMap<>();
+        IntrospectionException introspectionFailure = null;
+        try {
+            for (final PropertyDescriptor property : Introspector.getBeanInfo(type, null).getPropertyDescriptors()) {
+                accessors.putIfAbsent(property.getName(), toAccessor(property.getReadMethod()));
+            }
+        } catch (final IntrospectionException e) {
+            introspectionFailure = e;
+        }
+
+        this.accessors = accessors;
+        this.introspectionFailure = introspectionFailure;
+    }
+
+    /**
+     * @param type Type to get the accessors for.
+     * @return The accessors of the given type.
+     */
+    static PropertyAccessors of(final Class<?> type) {
+        return ACCESSORS.get(type);
+    }
+
+    /**
+     * @param propertyName Name of the property.
+     * @return The accessor of the property or null if there is no such property.
+     * @throws IllegalArgumentException if the properties of the type could not be introspected.
+     */
+    PropertyAccessor get(final String propertyName) {
+        requireIntrospected();
+        return accessors.get(propertyName);
+    }
+
+    /**
+     * @return The accessors of all properties by their names in the order of the introspection.
+     * @throws IllegalArgumentException if the properties of the type could not be introspected.
+     */
+    Map<String, PropertyAccessor> all() {
+        requireIntrospected();
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    private void requireIntrospected() {
+        if (introspectionFailure != null) {
+            throw new IllegalArgumentException("Could not get property descriptors for " + type, introspectionFailure);
+        }
+    }
+
+    private static PropertyAccessor toAccessor(final Method readMethod) {
+        if (readMethod == null) {
+            return new PropertyAccessor(null, null);
+        }
+
+        try {
+            return new PropertyAccessor(readMethod,
+                    MethodHandles.publicLookup().unreflect(readMethod).asType(GETTER_TYPE));
+        } catch (final IllegalAccessException e) {
+            // Not accessible for method handles, so it is called the same (possibly failing) way Hamcrest does
+            return new PropertyAccessor(readMethod, null);
+        }
+    }
+
+    /**
+     * Accessor of a single property.
+     */
+    static final class PropertyAccessor {
+
+        private final Method readMethod;
+        private final MethodHandle readHandle;
+
+        private PropertyAccessor(final Method readMethod, final MethodHandle readHandle) {
+            this.readMethod = readMethod;
+            this.readHandle = readHandle;
+        }
+
+        boolean isReadable() {
+            return readMethod != null;
+        }
+
+        Method getReadMethod() {
+            return readMethod;
+        }
+
+        /**
+         * @param item Bean to read the property value from.
+         * @return The property value.
+         * @throws InvocationTargetException if the read method has thrown an exception.
+         * @throws IllegalStateException     if the read method could not be called.
+         */
+        Object read(final Object item) throws InvocationTargetException {
+            if (readHandle == null) {
+                return invokeReflectively(item);
+            }
+
+            try {
+                return (Object) readHandle.invokeExact(item);
+            } catch (final Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        private Object invokeReflectively(final Object item) throws InvocationTargetException {
+            try {
+                return readMethod.invoke(item, PropertyUtil.NO_ARGUMENTS);
+            } catch (final InvocationTargetException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new IllegalStateException("Calling: '" + readMethod + "' should not have thrown " + e);
+            }
+        }
+    }
+}
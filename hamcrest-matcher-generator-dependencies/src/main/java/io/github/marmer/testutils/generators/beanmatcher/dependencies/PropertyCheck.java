@@ -0,0 +1,423 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertyAccessors.PropertyAccessor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.BaseStream;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+
+/**
+ * A check of a single property. A failing check returns the value it has read, so the value can be described without
+ * reading it again. Descriptions follow the format of Hamcrest's
+ * {@link org.hamcrest.beans.HasPropertyWithValue} and {@link org.hamcrest.beans.HasProperty}.
+ *
+ * @param <T> Type of the bean.
+ */
+abstract class PropertyCheck<T> {
+
+    /**
+     * Result of a check of a matching property.
+     */
+    static final Object MATCHED = new Object();
+    /**
+     * Expected value of a check which is not an equality check.
+     */
+    static final Object NO_EXPECTED_VALUE = new Object();
+    private static final int UNKNOWN_COST = 2;
+
+    /**
+     * @param item Bean to check the property of.
+     * @return {@link #MATCHED} if the property matches. Otherwise the property value read for the check or a
+     * {@link ReadFailure} if the value could not be read.
+     */
+    abstract Object check(T item);
+
+    /**
+     * @param item Bean to read the property value from.
+     * @return The value checked by this check or a {@link ReadFailure} if the value could not be read.
+     */
+    abstract Object read(T item);
+
+    /**
+     * @param item Bean to check the property of.
+     * @return Whether the property matches. Unlike {@link #check(Object)} a failing check does not box or return the
+     * value it has read.
+     */
+    abstract boolean test(T item);
+
+    /**
+     * @param snapshot Snapshot of a bean to take the property value from.
+     * @return The value checked by this check or a {@link ReadFailure} if the snapshot does not contain the value.
+     */
+    abstract Object readSnapshot(PropertySnapshot snapshot);
+
+    /**
+     * @param value Value read by a check with the same {@link #readKey()}.
+     * @return Whether the value matches.
+     */
+    abstract boolean matchesValue(Object value);
+
+    /**
+     * @return Key of the value read by this check. Checks with equal keys read the same value from a bean, so it is
+     * enough to read it once for all of them. {@code null} if the value is not shared with other checks.
+     */
+    abstract Object readKey();
+
+    /**
+     * @return Value a property has to be equal to for an equality check whose expected value can be used as hash key.
+     * {@link #NO_EXPECTED_VALUE} for any other check.
+     */
+    abstract Object expectedValue();
+
+    /**
+     * @return Name of the checked property.
+     */
+    abstract String propertyName();
+
+    abstract void describeTo(Description description);
+
+    abstract void describeMismatch(Object value, Description mismatchDescription);
+
+    /**
+     * @param beanType Type of the matched beans.
+     * @return Estimated relative cost of the check. Cheaper checks have lower values.
+     */
+    abstract int estimatedCost(Class<?> beanType);
+
+    /**
+     * @param propertyType Type of a property.
+     * @return Estimated relative cost of matching a value of the given type. Primitives and enums are the cheapest,
+     * containers the most expensive ones.
+     */
+    static int estimatedCostOf(final Class<?> propertyType) {
+        if (propertyType.isPrimitive() || propertyType.isEnum() ||
+                propertyType == Boolean.class || propertyType == Character.class ||
+                Number.class.isAssignableFrom(propertyType) && "java.lang".equals(propertyType.getPackageName())) {
+            return 0;
+        }
+        if (CharSequence.class.isAssignableFrom(propertyType) || Number.class.isAssignableFrom(propertyType) ||
+                "java.time".equals(propertyType.getPackageName())) {
+            return 1;
+        }
+        if (propertyType.isArray() || Iterable.class.isAssignableFrom(propertyType) ||
+                Map.class.isAssignableFrom(propertyType) || Optional.class == propertyType ||
+                BaseStream.class.isAssignableFrom(propertyType)) {
+            return 3;
+        }
+        return UNKNOWN_COST;
+    }
+
+    /**
+     * @param propertyName Name of the property.
+     * @param getter       Accessor of the property which is called directly.
+     * @param matcher      Matcher the property value has to match.
+     * @param <T>          Type of the bean.
+     * @return A check which reads the property value with a directly called accessor.
+     */
+    static <T> PropertyCheck<T> ofAccessor(final String propertyName,
+                                           final Function<? super T, ?> getter,
+                                           final Matcher<?> matcher) {
+        return new ValueCheck<>(propertyName, matcher) {
+            @Override
+            Object read(final T item) {
+                return getter.apply(item);
+            }
+        };
+    }
+
+    /**
+     * @param propertyName Name of the property.
+     * @param getter       Accessor of the property which is called directly.
+     * @param expected     Value the property has to be equal to.
+     * @param <T>          Type of the bean.
+     * @return A check which reads the property value with a directly called accessor and compares it like
+     * {@link Matchers#equalTo(Object)}. Arrays are compared by an {@link ArrayEqualityMatcher}.
+     */
+    static <T> PropertyCheck<T> ofEquality(final String propertyName,
+                                           final Function<? super T, ?> getter,
+                                           final Object expected) {
+        // Arrays are compared by their content, so they are no hash keys.
+        final boolean isArray = expected != null && expected.getClass().isArray();
+        final Object expectedValue = isArray ? NO_EXPECTED_VALUE : expected;
+        final Matcher<?> matcher = isArray ? ArrayEqualityMatcher.ofArray(expected) : Matchers.equalTo(expected);
+        return new ValueCheck<>(propertyName, matcher) {
+            @Override
+            Object read(final T item) {
+                return getter.apply(item);
+            }
+
+            @Override
+            Object expectedValue() {
+                return expectedValue;
+            }
+        };
+    }
+
+    /**
+     * @param propertyName Name of the property.
+     * @param beanType     Type of the beans the accessor can be called for.
+     * @param getter       Accessor of the property which is called directly.
+     * @param matcher      Matcher the property value has to match.
+     * @param <T>          Type of the bean.
+     * @return A check which reads the property value with a directly called accessor from beans of the given type and
+     * with the accessor resolved for the class of any other bean.
+     */
+    static <T> PropertyCheck<Object> ofAccessor(final String propertyName,
+                                                final Class<? super T> beanType,
+                                                final Function<? super T, ?> getter,
+                                                final Matcher<?> matcher) {
+        final PropertyCheck<Object> reflectiveAccessCheck = ofReflectiveAccess(propertyName, matcher);
+        return new ValueCheck<>(propertyName, matcher) {
+            @Override
+            @SuppressWarnings("unchecked")
+            Object read(final Object item) {
+                return beanType.isInstance(item) ? getter.apply((T) item) : reflectiveAccessCheck.read(item);
+            }
+        };
+    }
+
+    /**
+     * @param propertyName Name of the property.
+     * @param matcher      Matcher the property value has to match.
+     * @return A check which reads the property value with the accessor resolved for the class of the bean.
+     */
+    static PropertyCheck<Object> ofReflectiveAccess(final String propertyName, final Matcher<?> matcher) {
+        return new ValueCheck<>(propertyName, matcher) {
+            @Override
+            Object read(final Object item) {
+                final PropertyAccessor property = PropertyAccessors.of(item.getClass()).get(propertyName);
+                if (property == null) {
+                    return new ReadFailure("No property \"" + propertyName + "\"");
+                }
+
+                if (!property.isReadable()) {
+                    return new ReadFailure("property \"" + propertyName + "\" is not readable");
+                }
+
+                try {
+                    return property.read(item);
+                } catch (final InvocationTargetException e) {
+                    return new ReadFailure("Calling '" + property.getReadMethod() + "': ",
+                            e.getTargetException().getMessage());
+                }
+            }
+        };
+    }
+
+    /**
+     * @param propertyName Name of the property.
+     * @return A check which only checks the existence of the property.
+     */
+    static PropertyCheck<Object> ofExistence(final String propertyName) {
+        return new ExistenceCheck(propertyName);
+    }
+
+    /**
+     * Result of a property value which could not be read.
+     */
+    static final class ReadFailure {
+
+        private final String text;
+        private final boolean hasDetail;
+        private final Object detail;
+
+        ReadFailure(final String text) {
+            this.text = text;
+            this.hasDetail = false;
+            this.detail = null;
+        }
+
+        ReadFailure(final String text, final Object detail) {
+            this.text = text;
+            this.hasDetail = true;
+            this.detail = detail;
+        }
+
+        void describeTo(final Description description) {
+            description.appendText(text);
+            if (hasDetail) {
+                description.appendValue(detail);
+            }
+        }
+    }
+
+    /**
+     * Check of a property value with a matcher.
+     *
+     * @param <T> Type of the bean.
+     */
+    abstract static class ValueCheck<T> extends PropertyCheck<T> {
+
+        private final String propertyName;
+        private final Matcher<?> matcher;
+        private final String readKey;
+        private final String descriptionPrefix;
+        private final String mismatchPrefix;
+
+        ValueCheck(final String propertyName, final Matcher<?> matcher) {
+            this(propertyName, matcher, "object");
+        }
+
+        /**
+         * @param valueKind Kind of the read value (e.g. "int" for values read with a
+         *                  {@link java.util.function.ToIntFunction}). Accessors of different kinds may belong to
+         *                  properties with the same name (e.g. {@code isValue()} and {@code getValue()}), so only checks
+         *                  of the same kind share their values.
+         */
+        ValueCheck(final String propertyName, final Matcher<?> matcher, final String valueKind) {
+            this.propertyName = propertyName;
+            this.matcher = matcher;
+            this.readKey = valueKind + " " + propertyName;
+            this.descriptionPrefix = "hasProperty(\"" + propertyName + "\", ";
+            this.mismatchPrefix = " property '" + propertyName + "' ";
+        }
+
+        @Override
+        Object check(final T item) {
+            final Object value = read(item);
+            return !(value instanceof ReadFailure) && matchesValue(value) ? MATCHED : value;
+        }
+
+        @Override
+        boolean test(final T item) {
+            final Object value = read(item);
+            return !(value instanceof ReadFailure) && matchesValue(value);
+        }
+
+        @Override
+        Object readSnapshot(final PropertySnapshot snapshot) {
+            try {
+                return snapshot.getPropertyValue(propertyName);
+            } catch (final IllegalArgumentException e) {
+                return new ReadFailure("No property \"" + propertyName + "\"");
+            }
+        }
+
+        @Override
+        boolean matchesValue(final Object value) {
+            return matcher.matches(value);
+        }
+
+        @Override
+        Object readKey() {
+            return readKey;
+        }
+
+        @Override
+        Object expectedValue() {
+            return NO_EXPECTED_VALUE;
+        }
+
+        @Override
+        String propertyName() {
+            return propertyName;
+        }
+
+        @Override
+        void describeTo(final Description description) {
+            description.appendText(descriptionPrefix)
+                    .appendDescriptionOf(matcher)
+                    .appendText(")");
+        }
+
+        @Override
+        void describeMismatch(final Object value, final Description mismatchDescription) {
+            if (value instanceof ReadFailure) {
+                ((ReadFailure) value).describeTo(mismatchDescription);
+            } else {
+                mismatchDescription.appendText(mismatchPrefix);
+                matcher.describeMismatch(value, mismatchDescription);
+            }
+        }
+
+        @Override
+        int estimatedCost(final Class<?> beanType) {
+            try {
+                final PropertyAccessor property = PropertyAccessors.of(beanType).get(propertyName);
+                return property != null && property.isReadable() ?
+                        estimatedCostOf(property.getReadMethod().getReturnType()) :
+                        UNKNOWN_COST;
+            } catch (final IllegalArgumentException e) {
+                return UNKNOWN_COST;
+            }
+        }
+    }
+
+    private static final class ExistenceCheck extends PropertyCheck<Object> {
+
+        private final String propertyName;
+
+        ExistenceCheck(final String propertyName) {
+            this.propertyName = propertyName;
+        }
+
+        @Override
+        Object check(final Object item) {
+            return checkType(item.getClass(), item);
+        }
+
+        @Override
+        Object read(final Object item) {
+            return check(item);
+        }
+
+        @Override
+        boolean test(final Object item) {
+            return check(item) == MATCHED;
+        }
+
+        @Override
+        Object readSnapshot(final PropertySnapshot snapshot) {
+            return checkType(snapshot.getSnapshotType(), snapshot);
+        }
+
+        private Object checkType(final Class<?> type, final Object item) {
+            try {
+                return PropertyAccessors.of(type).get(propertyName) != null ?
+                        MATCHED :
+                        new ReadFailure("no \"" + propertyName + "\" in ", item);
+            } catch (final IllegalArgumentException e) {
+                return new ReadFailure("no \"" + propertyName + "\" in ", item);
+            }
+        }
+
+        @Override
+        boolean matchesValue(final Object value) {
+            return value == MATCHED;
+        }
+
+        @Override
+        Object readKey() {
+            return null;
+        }
+
+        @Override
+        Object expectedValue() {
+            return NO_EXPECTED_VALUE;
+        }
+
+        @Override
+        String propertyName() {
+            return propertyName;
+        }
+
+        @Override
+        void describeTo(final Description description) {
+            description.appendText("hasProperty(\"" + propertyName + "\")");
+        }
+
+        @Override
+        void describeMismatch(final Object value, final Description mismatchDescription) {
+            ((ReadFailure) value).describeTo(mismatchDescription);
+        }
+
+        @Override
+        int estimatedCost(final Class<?> beanType) {
+            return 0;
+        }
+    }
+}
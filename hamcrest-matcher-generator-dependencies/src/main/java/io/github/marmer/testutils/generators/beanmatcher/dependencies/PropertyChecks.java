@@ -0,0 +1,470 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertyCheck.ReadFailure;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+import org.hamcrest.Description;
+
+/**
+ * Immutable set of property checks of a frozen matcher.
+ * <p>
+ * Checks reading the same value (e.g. several checks of the same property) form a group. The value of a group is read
+ * once per evaluated item and all checks of the group get fed from it. Values of {@link PropertySnapshot}s are taken
+ * from the snapshot instead.
+ * </p>
+ * <p>
+ * Matching stops with the first failing group and records it together with the value read for it. Describing the
+ * mismatch of the same item afterwards continues from the recorded result, so no property is read twice for a failing
+ * item. The result is recorded per evaluating thread and released by describing the mismatch or by the next match on
+ * the same thread, so threads sharing a frozen matcher never describe their mismatches with the results of each other.
+ * The recorded item is only referenced weakly, so a failing item which never gets described (e.g. within
+ * {@code not(...)}) is not kept reachable by the threads which have matched it.
+ * </p>
+ * <p>
+ * Groups are evaluated in the configured {@link EvaluationOrder}. Descriptions always follow the declared order of the
+ * checks.
+ * </p>
+ * <p>
+ * {@link #matchesConcurrently(Object, Executor, Duration)} reads the values of all groups concurrently before any check
+ * gets evaluated, so slow accessors (e.g. of proxies doing I/O) take as long as the slowest of them instead of the sum of
+ * all of them. The mismatch description of such a match is built from all of the values read concurrently, so values
+ * not read in time are described as such instead of being read again.
+ * </p>
+ *
+ * @param <T> Type of the bean.
+ */
+final class PropertyChecks<T> {
+
+    private static final PropertyCheck<?>[] NO_PROPERTY_CHECKS = new PropertyCheck<?>[0];
+    private static final int EVALUATIONS_PER_ADAPTATION = 256;
+
+    private final PropertyCheck<? super T>[] checks;
+    private final int[][] groups;
+    private final int[] groupOfCheck;
+    private final int[] costs;
+    private final boolean isAdaptive;
+    private final int[] evaluationCounts;
+    private final int[] failureCounts;
+    private final double[] adaptationRanks;
+    private final int[] adaptationOrder;
+    private int evaluationsSinceAdaptation;
+    private volatile int[] evaluationOrder;
+    private final ThreadLocal<RecordedMismatch> recordedMismatch = new ThreadLocal<>();
+
+    @SuppressWarnings("unchecked")
+    PropertyChecks(final List<? extends PropertyCheck<? super T>> checks,
+                   final Class<?> beanType,
+                   final EvaluationOrder evaluationOrder) {
+        this.checks = checks.toArray((PropertyCheck<? super T>[]) NO_PROPERTY_CHECKS);
+        this.groups = groupsOf(this.checks);
+        this.groupOfCheck = new int[this.checks.length];
+        for (int group = 0; group < groups.length; group++) {
+            for (final int i : groups[group]) {
+                groupOfCheck[i] = group;
+            }
+        }
+        this.isAdaptive = evaluationOrder == EvaluationOrder.ADAPTIVE;
+
+        if (evaluationOrder == EvaluationOrder.DECLARED) {
+            this.costs = null;
+            this.evaluationOrder = IntStream.range(0, groups.length).toArray();
+        } else {
+            this.costs = IntStream.range(0, groups.length)
+                    .map(group -> 1 << this.checks[groups[group][0]].estimatedCost(beanType))
+                    .toArray();
+            this.evaluationOrder = IntStream.range(0, groups.length)
+                    .boxed()
+                    .sorted(Comparator.comparingInt(group -> costs[group]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        this.evaluationCounts = isAdaptive ? new int[groups.length] : null;
+        this.failureCounts = isAdaptive ? new int[groups.length] : null;
+        this.adaptationRanks = isAdaptive ? new double[groups.length] : null;
+        this.adaptationOrder = isAdaptive ? new int[groups.length] : null;
+    }
+
+    /**
+     * @param item Bean or {@link PropertySnapshot} of a bean.
+     * @param type Expected type of the bean.
+     * @return Whether the item is an instance of the type or a snapshot of an instance of the type.
+     */
+    static boolean isOfType(final Object item, final Class<?> type) {
+        return item instanceof PropertySnapshot ?
+                type.isAssignableFrom(((PropertySnapshot) item).getSnapshotType()) :
+                type.isInstance(item);
+    }
+
+    /**
+     * @param check Check to read the value of.
+     * @param item  Bean or {@link PropertySnapshot} of a bean.
+     * @return The value checked by the check or a {@link ReadFailure} if the value could not be read.
+     */
+    static <T> Object read(final PropertyCheck<? super T> check, final T item) {
+        return item instanceof PropertySnapshot ? check.readSnapshot((PropertySnapshot) item) : check.read(item);
+    }
+
+    /**
+     * @param check Check to evaluate.
+     * @param item  Bean or {@link PropertySnapshot} of a bean.
+     * @return Whether the check matches.
+     */
+    static <T> boolean test(final PropertyCheck<? super T> check, final T item) {
+        if (item instanceof PropertySnapshot) {
+            final Object value = check.readSnapshot((PropertySnapshot) item);
+            return !(value instanceof ReadFailure) && check.matchesValue(value);
+        }
+        return check.test(item);
+    }
+
+    /**
+     * @return Executor of concurrent reads of matchers without a given executor. Values are read on virtual threads if
+     * the runtime supports them (Java 21 and later) and on a shared pool of daemon threads otherwise.
+     */
+    static Executor defaultReadExecutor() {
+        return DefaultReadExecutor.INSTANCE;
+    }
+
+    /**
+     * @return The checks in their declared order.
+     */
+    List<PropertyCheck<? super T>> getChecks() {
+        return List.of(checks);
+    }
+
+    /**
+     * @return Indices of the checks of each group, ordered by their first check.
+     */
+    private static int[][] groupsOf(final PropertyCheck<?>[] checks) {
+        final Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < checks.length; i++) {
+            final Object readKey = checks[i].readKey();
+            groups.computeIfAbsent(readKey != null ? readKey : new Object(), key -> new ArrayList<>()).add(i);
+        }
+        return groups.values()
+                .stream()
+                .map(group -> group.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+    }
+
+    boolean matches(final T item) {
+        return matches(item, null);
+    }
+
+    /**
+     * Same result as {@link #matches(Object)}, but the values of all groups get read concurrently with the given
+     * executor before any check gets evaluated. Values not read within the timeout fail their checks with a
+     * {@link ReadFailure}. An exception thrown by an accessor gets rethrown like by {@link #matches(Object)}.
+     *
+     * @param item     Bean or {@link PropertySnapshot} of a bean. Snapshots are matched without reading anything
+     *                 concurrently.
+     * @param executor Executor to read the values with.
+     * @param timeout  Time to wait for all values to be read.
+     * @return Whether all checks match.
+     */
+    boolean matchesConcurrently(final T item, final Executor executor, final Duration timeout) {
+        if (item instanceof PropertySnapshot || groups.length < 2) {
+            return matches(item);
+        }
+        return matches(item, readConcurrently(item, executor, timeout));
+    }
+
+    /**
+     * @param values Already read values of all groups or {@code null} to read them while evaluating the groups.
+     */
+    private boolean matches(final T item, final Object[] values) {
+        final int[] order = evaluationOrder;
+        for (int position = 0; position < order.length; position++) {
+            final int group = order[position];
+            final Object result = values == null ? check(group, item) : checkValue(group, values[group]);
+            final boolean matches = result == PropertyCheck.MATCHED;
+
+            if (isAdaptive) {
+                recordEvaluation(group, position, matches);
+            }
+            if (!matches) {
+                recordedMismatch.set(new RecordedMismatch(item, order, position, result, values));
+                return false;
+            }
+        }
+
+        recordedMismatch.remove();
+        return true;
+    }
+
+    /**
+     * Same result as {@link #matches(Object)}, but a failure is neither recorded nor described later on, so no
+     * evaluation allocates anything. Checks of a group read their value on their own for this, so an accessor is called
+     * once per check of its property instead of once per group.
+     *
+     * @param item Bean or {@link PropertySnapshot} of a bean.
+     * @return Whether all checks match.
+     */
+    boolean test(final T item) {
+        final boolean isSnapshot = item instanceof PropertySnapshot;
+        final int[] order = evaluationOrder;
+        for (int position = 0; position < order.length; position++) {
+            final int group = order[position];
+            final boolean matches = isSnapshot ? check(group, item) == PropertyCheck.MATCHED : test(group, item);
+
+            if (isAdaptive) {
+                recordEvaluation(group, position, matches);
+            }
+            if (!matches) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean test(final int group, final T item) {
+        for (final int i : groups[group]) {
+            if (!checks[i].test(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@link PropertyCheck#MATCHED} if all checks of the group match. Otherwise the result of the failing check
+     * of a group with a single check or the value read for a group with several checks.
+     */
+    private Object check(final int group, final T item) {
+        final int[] groupChecks = groups[group];
+        final boolean isSnapshot = item instanceof PropertySnapshot;
+        if (groupChecks.length == 1 && !isSnapshot) {
+            return checks[groupChecks[0]].check(item);
+        }
+
+        final Object value = isSnapshot ?
+                checks[groupChecks[0]].readSnapshot((PropertySnapshot) item) :
+                checks[groupChecks[0]].read(item);
+        return checkValue(group, value);
+    }
+
+    /**
+     * @return {@link PropertyCheck#MATCHED} if all checks of the group match the value. Otherwise the value.
+     */
+    private Object checkValue(final int group, final Object value) {
+        for (final int i : groups[group]) {
+            if (!matchesValue(i, value)) {
+                return value;
+            }
+        }
+        return PropertyCheck.MATCHED;
+    }
+
+    private Object[] readConcurrently(final T item, final Executor executor, final Duration timeout) {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        final List<CompletableFuture<Object>> reads = new ArrayList<>(groups.length);
+        for (final int[] group : groups) {
+            final PropertyCheck<? super T> check = checks[group[0]];
+            reads.add(CompletableFuture.supplyAsync(() -> check.read(item), executor));
+        }
+
+        final Object[] values = new Object[groups.length];
+        try {
+            for (int group = 0; group < groups.length; group++) {
+                values[group] = await(reads.get(group), deadline, timeout, checks[groups[group][0]]);
+            }
+        } finally {
+            reads.forEach(read -> read.cancel(true));
+        }
+        return values;
+    }
+
+    private static Object await(final CompletableFuture<Object> read,
+                                final long deadline,
+                                final Duration timeout,
+                                final PropertyCheck<?> check) {
+        try {
+            return read.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            return new ReadFailure("property \"" + check.propertyName() + "\" has not been read within " + timeout);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading the properties", e);
+        }
+    }
+
+    private boolean matchesValue(final int checkIndex, final Object value) {
+        return !(value instanceof ReadFailure) && checks[checkIndex].matchesValue(value);
+    }
+
+    /**
+     * Counts are updated without synchronization. Lost updates between threads only blur the statistics used to order
+     * the checks.
+     */
+    private void recordEvaluation(final int group, final int position, final boolean matches) {
+        evaluationCounts[group]++;
+        if (!matches) {
+            failureCounts[group]++;
+        }
+        if (position == 0 && ++evaluationsSinceAdaptation >= EVALUATIONS_PER_ADAPTATION) {
+            adaptEvaluationOrder();
+        }
+    }
+
+    /**
+     * Orders groups by their cost per failure probability, which rejects not matching items with the least expected
+     * effort. Counts get halved afterwards, so older observations lose their influence over time. A new order is only
+     * published if it differs from the current one, so a stable order does not cause any allocation.
+     */
+    private synchronized void adaptEvaluationOrder() {
+        if (evaluationsSinceAdaptation < EVALUATIONS_PER_ADAPTATION) {
+            return;
+        }
+
+        for (int i = 0; i < groups.length; i++) {
+            final double failureProbability = (failureCounts[i] + 1d) / (evaluationCounts[i] + 2d);
+            adaptationRanks[i] = costs[i] / failureProbability;
+            evaluationCounts[i] /= 2;
+            failureCounts[i] /= 2;
+        }
+
+        final int[] currentOrder = evaluationOrder;
+        System.arraycopy(currentOrder, 0, adaptationOrder, 0, currentOrder.length);
+        sortByRank(adaptationOrder);
+        if (!Arrays.equals(currentOrder, adaptationOrder)) {
+            evaluationOrder = adaptationOrder.clone();
+        }
+        evaluationsSinceAdaptation = 0;
+    }
+
+    /**
+     * Insertion sort, which is stable, needs no boxing and is fast for the few groups of a matcher.
+     */
+    private void sortByRank(final int[] order) {
+        for (int i = 1; i < order.length; i++) {
+            final int group = order[i];
+            int position = i - 1;
+            while (position >= 0 && adaptationRanks[order[position]] > adaptationRanks[group]) {
+                order[position + 1] = order[position];
+                position--;
+            }
+            order[position + 1] = group;
+        }
+    }
+
+    void describeTo(final Description description) {
+        for (final PropertyCheck<? super T> check : checks) {
+            description.appendText(" and ");
+            check.describeTo(description);
+        }
+    }
+
+    /**
+     * @param item                              Item to describe the mismatch for.
+     * @param mismatchDescription               Description to append the mismatch to.
+     * @param missmatchDescriptionAllreadyAdded Whether the description already contains a mismatch.
+     * @return Whether the description contains a mismatch afterwards.
+     */
+    boolean describeMismatch(final T item,
+                             final Description mismatchDescription,
+                             final boolean missmatchDescriptionAllreadyAdded) {
+        var mismatchAdded = missmatchDescriptionAllreadyAdded;
+        final RecordedMismatch recorded = recordedMismatch.get();
+        final boolean isRecorded = recorded != null && recorded.item.get() == item;
+        final boolean[] isEvaluated = new boolean[groups.length];
+        final Object[] results = new Object[groups.length];
+        if (isRecorded) {
+            recordedMismatch.remove();
+            for (int position = 0; position < recorded.position; position++) {
+                isEvaluated[recorded.evaluationOrder[position]] = true;
+                results[recorded.evaluationOrder[position]] = PropertyCheck.MATCHED;
+            }
+            isEvaluated[recorded.evaluationOrder[recorded.position]] = true;
+            results[recorded.evaluationOrder[recorded.position]] = recorded.value;
+        }
+
+        for (int i = 0; i < checks.length; i++) {
+            final int group = groupOfCheck[i];
+            if (!isEvaluated[group]) {
+                isEvaluated[group] = true;
+                // Values read concurrently are not read again, so values not read in time stay read failures
+                results[group] = isRecorded && recorded.values != null ?
+                        checkValue(group, recorded.values[group]) :
+                        check(group, item);
+            }
+
+            final Object result = results[group];
+            if (result != PropertyCheck.MATCHED && (groups[group].length == 1 || !matchesValue(i, result))) {
+                if (mismatchAdded) {
+                    mismatchDescription.appendText(" and ");
+                }
+
+                checks[i].describeMismatch(result, mismatchDescription);
+                mismatchAdded = true;
+            }
+        }
+        return mismatchAdded;
+    }
+
+    /**
+     * Holder of the default executor, so it only gets created if any matcher reads concurrently.
+     */
+    private static final class DefaultReadExecutor {
+
+        private static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (final ReflectiveOperationException e) {
+                return Executors.newCachedThreadPool(runnable -> {
+                    final Thread thread = new Thread(runnable, "property-reader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+
+    private static final class RecordedMismatch {
+
+        private final WeakReference<Object> item;
+        private final int[] evaluationOrder;
+        private final int position;
+        private final Object value;
+        private final Object[] values;
+
+        /**
+         * @param values Values of all groups if they have been read concurrently, {@code null} otherwise.
+         */
+        private RecordedMismatch(final Object item,
+                                 final int[] evaluationOrder,
+                                 final int position,
+                                 final Object value,
+                                 final Object[] values) {
+            this.item = new WeakReference<>(item);
+            this.evaluationOrder = evaluationOrder;
+            this.position = position;
+            this.value = value;
+            this.values = values;
+        }
+    }
+}
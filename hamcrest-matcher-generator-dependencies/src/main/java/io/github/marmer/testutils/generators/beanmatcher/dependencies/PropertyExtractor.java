@@ -0,0 +1,47 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.util.function.Function;
+
+/**
+ * Named accessor of a property. Extractors are generated as constants with
+ * {@link MatcherConfiguration.GenerationConfiguration#propertyConstants()} (e.g. {@code SomePojoProperties.POJO_FIELD})
+ * and can be used wherever a {@link Function} is expected, e.g. for sorting with
+ * {@link java.util.Comparator#comparing(Function)} or grouping with
+ * {@link java.util.stream.Collectors#groupingBy(Function)}.
+ * <p>
+ * Each generated constant is a class of its own which calls the accessor directly, so the call site of
+ * {@link #apply(Object)} only ever sees a single implementation per property.
+ *
+ * @param <T> Type of the bean.
+ * @param <V> Type of the property value.
+ */
+public abstract class PropertyExtractor<T, V> implements Function<T, V> {
+
+    private final String propertyName;
+
+    /**
+     * @param propertyName Name of the property.
+     */
+    protected PropertyExtractor(final String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * @return Name of the property.
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * @param item Bean to read the property value from.
+     * @return The property value.
+     */
+    @Override
+    public abstract V apply(final T item);
+
+    @Override
+    public String toString() {
+        return propertyName;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+/**
+ * Values of the properties of a bean, read once at the time the snapshot has been taken. Snapshots are generated with
+ * {@link MatcherConfiguration.GenerationConfiguration#snapshots()}.
+ * <p>
+ * {@link BeanPropertyMatcher}s and {@link DirectPropertyMatcher}s match a snapshot like the bean it has been taken from
+ * but take the property values from the snapshot, so no accessor of the bean gets called again. Snapshots are shallow:
+ * property values are the same objects the accessors of the bean have returned.
+ * </p>
+ */
+public interface PropertySnapshot {
+
+    /**
+     * @return Type of the bean the snapshot has been taken from.
+     */
+    Class<?> getSnapshotType();
+
+    /**
+     * @param propertyName Name of the property.
+     * @return Value of the property at the time the snapshot has been taken. Primitive values are boxed.
+     * @throws IllegalArgumentException if the snapshot does not contain the property.
+     */
+    Object getPropertyValue(String propertyName);
+}
@@ -0,0 +1,319 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+
+/**
+ * Matcher for collections and maps which compares their sizes before any element gets iterated. Collections or maps of
+ * a different size are rejected in constant time, all others are matched in linear time:
+ * <ul>
+ * <li>{@link #containingExactly(Collection)} compares the elements in iteration order.</li>
+ * <li>{@link #containingInAnyOrder(Collection)} counts the expected elements once in a hash map. Each match counts the
+ * actual elements and stops at the first element occurring more often than expected. Hash sets compared with distinct
+ * expected elements are matched by hash lookups only.</li>
+ * <li>{@link #containingKeys(Collection)} looks up the expected keys in the hash structure of the map.</li>
+ * <li>{@link #ofSize(int)} only compares the size.</li>
+ * </ul>
+ * Mismatch descriptions report the differing size or the first differing element instead of the whole collection.
+ * <p>
+ * Instances are immutable and can safely be shared between threads.
+ * </p>
+ *
+ * @param <T> Type of the matched collections or maps.
+ */
+public abstract class SizeFirstMatcher<T> extends BaseMatcher<T> {
+
+    private static final int NO_SIZE = -1;
+
+    private final int expectedSize;
+
+    private SizeFirstMatcher(final int expectedSize) {
+        this.expectedSize = expectedSize;
+    }
+
+    /**
+     * @param elements Elements the collection has to contain in the same order.
+     * @return A matcher for collections with elements equal to the given ones in iteration order.
+     */
+    public static SizeFirstMatcher<Collection<?>> containingExactly(final Collection<?> elements) {
+        return new ContainingExactly(elements.toArray());
+    }
+
+    /**
+     * @param elements Elements the collection has to contain in any order. Elements contained several times have to
+     *                 be contained as often in the collection.
+     * @return A matcher for collections with elements equal to the given ones in any order.
+     */
+    public static SizeFirstMatcher<Collection<?>> containingInAnyOrder(final Collection<?> elements) {
+        return new ContainingInAnyOrder(elements);
+    }
+
+    /**
+     * @param keys Keys the map has to contain. The map may contain other keys as well.
+     * @return A matcher for maps containing all of the given keys.
+     */
+    public static SizeFirstMatcher<Map<?, ?>> containingKeys(final Collection<?> keys) {
+        return new ContainingKeys(new LinkedHashSet<>(keys).toArray());
+    }
+
+    /**
+     * @param size Size the collection or map has to have.
+     * @return A matcher for collections and maps of the given size.
+     */
+    public static SizeFirstMatcher<Object> ofSize(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size must not be negative but was: " + size);
+        }
+        return new OfSize(size);
+    }
+
+    private static int sizeOf(final Object actual) {
+        if (actual instanceof Collection) {
+            return ((Collection<?>) actual).size();
+        }
+        if (actual instanceof Map) {
+            return ((Map<?, ?>) actual).size();
+        }
+        return NO_SIZE;
+    }
+
+    @Override
+    public final boolean matches(final Object actual) {
+        final int size = sizeOf(actual);
+        return size != NO_SIZE && hasExpectedSize(size) && matchesElements(actual);
+    }
+
+    /**
+     * @param size Size of the matched collection or map.
+     * @return Whether a collection or map of the given size may match.
+     */
+    boolean hasExpectedSize(final int size) {
+        return size == expectedSize;
+    }
+
+    /**
+     * @param actual Collection or map of the expected size.
+     * @return Whether its elements match.
+     */
+    abstract boolean matchesElements(Object actual);
+
+    @Override
+    public final void describeMismatch(final Object actual, final Description mismatchDescription) {
+        final int size = sizeOf(actual);
+        if (size == NO_SIZE) {
+            super.describeMismatch(actual, mismatchDescription);
+        } else if (!hasExpectedSize(size)) {
+            describeSizeMismatch(size, mismatchDescription);
+        } else {
+            describeElementsMismatch(actual, mismatchDescription);
+        }
+    }
+
+    void describeSizeMismatch(final int size, final Description mismatchDescription) {
+        mismatchDescription.appendText("had size " + size + " instead of " + expectedSize);
+    }
+
+    /**
+     * @param actual              Not matching collection or map of the expected size.
+     * @param mismatchDescription Description to append the first mismatching element to.
+     */
+    abstract void describeElementsMismatch(Object actual, Description mismatchDescription);
+
+    private static final class ContainingExactly extends SizeFirstMatcher<Collection<?>> {
+
+        private final Object[] elements;
+
+        private ContainingExactly(final Object[] elements) {
+            super(elements.length);
+            this.elements = elements;
+        }
+
+        @Override
+        boolean matchesElements(final Object actual) {
+            return firstMismatchOf((Collection<?>) actual) == NO_SIZE;
+        }
+
+        private int firstMismatchOf(final Collection<?> actual) {
+            final Iterator<?> iterator = actual.iterator();
+            for (int i = 0; i < elements.length; i++) {
+                if (!Objects.equals(elements[i], iterator.next())) {
+                    return i;
+                }
+            }
+            return NO_SIZE;
+        }
+
+        @Override
+        void describeElementsMismatch(final Object actual, final Description mismatchDescription) {
+            final int index = firstMismatchOf((Collection<?>) actual);
+            final Iterator<?> iterator = ((Collection<?>) actual).iterator();
+            for (int i = 0; i < index; i++) {
+                iterator.next();
+            }
+            mismatchDescription.appendText("differed first at index " + index + " with ")
+                    .appendValue(iterator.next())
+                    .appendText(" instead of ")
+                    .appendValue(elements[index]);
+        }
+
+        @Override
+        public void describeTo(final Description description) {
+            description.appendValueList("a collection containing exactly [", ", ", "]", elements);
+        }
+    }
+
+    private static final class ContainingInAnyOrder extends SizeFirstMatcher<Collection<?>> {
+
+        private static final Object NO_UNEXPECTED_ELEMENT = new Object();
+
+        private final Object[] elements;
+        private final Map<Object, Integer> expectedCounts;
+        private final boolean hasDuplicates;
+
+        private ContainingInAnyOrder(final Collection<?> elements) {
+            super(elements.size());
+            this.elements = elements.toArray();
+            this.expectedCounts = new HashMap<>();
+            for (final Object element : this.elements) {
+                expectedCounts.merge(element, 1, Integer::sum);
+            }
+            this.hasDuplicates = expectedCounts.size() != this.elements.length;
+        }
+
+        @Override
+        boolean matchesElements(final Object actual) {
+            return firstUnexpectedElementOf((Collection<?>) actual) == NO_UNEXPECTED_ELEMENT;
+        }
+
+        /**
+         * @return The first element contained more often than expected or {@link #NO_UNEXPECTED_ELEMENT} if the
+         * elements match.
+         */
+        private Object firstUnexpectedElementOf(final Collection<?> actual) {
+            // Hash sets compare by equality like the expected counts, so their elements are distinct already.
+            if (actual instanceof HashSet && !hasDuplicates) {
+                for (final Object element : actual) {
+                    if (!expectedCounts.containsKey(element)) {
+                        return element;
+                    }
+                }
+                return NO_UNEXPECTED_ELEMENT;
+            }
+
+            final Map<Object, Integer> actualCounts = new HashMap<>();
+            for (final Object element : actual) {
+                if (actualCounts.merge(element, 1, Integer::sum) > expectedCounts.getOrDefault(element, 0)) {
+                    return element;
+                }
+            }
+            return NO_UNEXPECTED_ELEMENT;
+        }
+
+        @Override
+        void describeElementsMismatch(final Object actual, final Description mismatchDescription) {
+            final Object element = firstUnexpectedElementOf((Collection<?>) actual);
+            final Integer expectedCount = expectedCounts.get(element);
+            if (expectedCount == null) {
+                mismatchDescription.appendText("contained unexpected ")
+                        .appendValue(element);
+            } else {
+                mismatchDescription.appendText("contained ")
+                        .appendValue(element)
+                        .appendText(" more than " + expectedCount + " times");
+            }
+        }
+
+        @Override
+        public void describeTo(final Description description) {
+            description.appendValueList("a collection containing in any order [", ", ", "]", elements);
+        }
+    }
+
+    private static final class ContainingKeys extends SizeFirstMatcher<Map<?, ?>> {
+
+        private final Object[] keys;
+
+        private ContainingKeys(final Object[] keys) {
+            super(keys.length);
+            this.keys = keys;
+        }
+
+        @Override
+        boolean hasExpectedSize(final int size) {
+            return size >= keys.length;
+        }
+
+        @Override
+        boolean matchesElements(final Object actual) {
+            return firstMissingKeyIndexOf((Map<?, ?>) actual) == NO_SIZE;
+        }
+
+        private int firstMissingKeyIndexOf(final Map<?, ?> actual) {
+            for (int i = 0; i < keys.length; i++) {
+                if (!containsKey(actual, keys[i])) {
+                    return i;
+                }
+            }
+            return NO_SIZE;
+        }
+
+        private static boolean containsKey(final Map<?, ?> map, final Object key) {
+            try {
+                return map.containsKey(key);
+            } catch (final NullPointerException | ClassCastException e) {
+                // Thrown by maps without null keys (e.g. Map.of(...)) or with keys of another type (e.g. TreeMaps)
+                return false;
+            }
+        }
+
+        @Override
+        void describeSizeMismatch(final int size, final Description mismatchDescription) {
+            mismatchDescription.appendText("had size " + size + " which is less than the " + keys.length +
+                    " expected keys");
+        }
+
+        @Override
+        void describeElementsMismatch(final Object actual, final Description mismatchDescription) {
+            mismatchDescription.appendText("did not contain key ")
+                    .appendValue(keys[firstMissingKeyIndexOf((Map<?, ?>) actual)]);
+        }
+
+        @Override
+        public void describeTo(final Description description) {
+            description.appendValueList("a map containing keys [", ", ", "]", keys);
+        }
+    }
+
+    private static final class OfSize extends SizeFirstMatcher<Object> {
+
+        private final int size;
+
+        private OfSize(final int size) {
+            super(size);
+            this.size = size;
+        }
+
+        @Override
+        boolean matchesElements(final Object actual) {
+            return true;
+        }
+
+        @Override
+        void describeElementsMismatch(final Object actual, final Description mismatchDescription) {
+            // Collections and maps of the expected size always match
+        }
+
+        @Override
+        public void describeTo(final Description description) {
+            description.appendText("a collection or map with size ")
+                    .appendValue(size);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Collector of assertions which does not stop with the first failing one. All assertions get evaluated and their
+ * failures get reported together by {@link #assertAll()}.
+ * <p>
+ * Each failure is described right after its matcher has not matched, with the same text as
+ * {@link org.hamcrest.MatcherAssert#assertThat(String, Object, Matcher)}. Generated matchers,
+ * {@link BeanPropertyMatcher}s and {@link DirectPropertyMatcher}s build the mismatch description from the values read
+ * while matching, so no getter gets called again for the report.
+ * </p>
+ * <p>
+ * Instances are not thread safe.
+ * </p>
+ */
+public final class SoftAssertions {
+
+    private final List<String> failures = new ArrayList<>();
+    private int assertionCount;
+
+    /**
+     * Evaluates all given assertions and reports their failures together.
+     *
+     * @param assertions Assertions to evaluate.
+     * @throws AssertionError if any assertion failed.
+     */
+    public static void assertSoftly(final Consumer<SoftAssertions> assertions) {
+        final SoftAssertions softAssertions = new SoftAssertions();
+        assertions.accept(softAssertions);
+        softAssertions.assertAll();
+    }
+
+    /**
+     * @param actual  Value to match.
+     * @param matcher Matcher the value has to match.
+     * @param <T>     Type of the value.
+     * @return this collector
+     */
+    public <T> SoftAssertions assertThat(final T actual, final Matcher<? super T> matcher) {
+        return assertThat("", actual, matcher);
+    }
+
+    /**
+     * @param reason  Reason shown together with a failure.
+     * @param actual  Value to match.
+     * @param matcher Matcher the value has to match.
+     * @param <T>     Type of the value.
+     * @return this collector
+     */
+    public <T> SoftAssertions assertThat(final String reason, final T actual, final Matcher<? super T> matcher) {
+        assertionCount++;
+        if (!matcher.matches(actual)) {
+            final Description description = new StringDescription();
+            description.appendText(reason)
+                    .appendText(System.lineSeparator())
+                    .appendText("Expected: ")
+                    .appendDescriptionOf(matcher)
+                    .appendText(System.lineSeparator())
+                    .appendText("     but: ");
+            matcher.describeMismatch(actual, description);
+            failures.add(description.toString());
+        }
+        return this;
+    }
+
+    /**
+     * @return Descriptions of all failures collected so far.
+     */
+    public List<String> getFailures() {
+        return List.copyOf(failures);
+    }
+
+    /**
+     * @throws AssertionError with the descriptions of all collected failures if any assertion failed.
+     */
+    public void assertAll() {
+        if (failures.isEmpty()) {
+            return;
+        }
+        if (failures.size() == 1) {
+            throw new AssertionError(failures.get(0));
+        }
+
+        final StringBuilder message = new StringBuilder()
+                .append(failures.size())
+                .append(" of ")
+                .append(assertionCount)
+                .append(" assertions failed");
+        for (int i = 0; i < failures.size(); i++) {
+            message.append(System.lineSeparator())
+                    .append(System.lineSeparator())
+                    .append(i + 1)
+                    .append(") ")
+                    .append(failures.get(i).strip());
+        }
+        throw new AssertionError(message.toString());
+    }
+}
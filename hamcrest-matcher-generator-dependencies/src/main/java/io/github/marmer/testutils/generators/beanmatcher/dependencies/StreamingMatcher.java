@@ -0,0 +1,348 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.BaseStream;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Matcher for streams of elements which are consumed lazily, one element after another. Matched can be
+ * {@link java.util.stream.Stream}s (and any other {@link BaseStream}), {@link Iterator}s, {@link Iterable}s and
+ * {@link Flow.Publisher}s.
+ * <p>
+ * No element is kept after it has been matched. Only the mismatch descriptions of the first not matching elements are
+ * kept (one by default, see {@link #reportingMismatches(int)}), so streams of any length can be matched with constant
+ * memory. The consumption stops as soon as the result is known: for {@link #everyElement(Matcher)} after the reported
+ * number of not matching elements and for {@link #hasElement(Matcher)} with the first matching element. Publishers get
+ * cancelled then.
+ * </p>
+ * <p>
+ * Elements of publishers are requested in batches (see {@link #requestingBatchesOf(int)}), so a publisher never has to
+ * buffer more elements than a batch for this matcher. The match waits for the publisher to complete (at most for one
+ * minute by default, see {@link #within(Duration)}). A publisher failing or not completing in time does not match. An
+ * exception thrown by the element matcher gets rethrown like by Hamcrest's
+ * {@link org.hamcrest.Matchers#everyItem(Matcher) everyItem} and cancels the publisher.
+ * </p>
+ * <p>
+ * {@link BaseStream}s get closed after they have been consumed, so their close handlers (e.g. of
+ * {@link java.nio.file.Files#lines(java.nio.file.Path)}) run.
+ * </p>
+ * <p>
+ * Streams, iterators and publishers can only be consumed once. The result of the last failing match is kept per
+ * matching thread for the mismatch description of the same stream, so a stream which has just not matched is not
+ * consumed again. Results of successful matches are not kept, so matched streams are not kept reachable.
+ * Without such a result only iterables get consumed again to describe the mismatch, all other streams are described as
+ * already consumed.
+ * </p>
+ * <p>
+ * Instances can safely be shared between threads.
+ * </p>
+ *
+ * @param <T> Type of the elements.
+ */
+public final class StreamingMatcher<T> extends BaseMatcher<Object> {
+
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(1);
+
+    private final Matcher<? super T> matcher;
+    private final boolean isEveryElement;
+    private final int reportedMismatches;
+    private final int batchSize;
+    private final Duration timeout;
+    private final ThreadLocal<Evaluation> recordedEvaluation = new ThreadLocal<>();
+
+    private StreamingMatcher(final Matcher<? super T> matcher,
+                             final boolean isEveryElement,
+                             final int reportedMismatches,
+                             final int batchSize,
+                             final Duration timeout) {
+        this.matcher = matcher;
+        this.isEveryElement = isEveryElement;
+        this.reportedMismatches = reportedMismatches;
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @param matcher Matcher each element has to match.
+     * @param <T>     Type of the elements.
+     * @return A matcher for streams whose elements all match the given matcher.
+     */
+    public static <T> StreamingMatcher<T> everyElement(final Matcher<? super T> matcher) {
+        return new StreamingMatcher<>(matcher, true, 1, DEFAULT_BATCH_SIZE, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * @param matcher Matcher at least one element has to match.
+     * @param <T>     Type of the elements.
+     * @return A matcher for streams with at least one element matching the given matcher.
+     */
+    public static <T> StreamingMatcher<T> hasElement(final Matcher<? super T> matcher) {
+        return new StreamingMatcher<>(matcher, false, 1, DEFAULT_BATCH_SIZE, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * @param reportedMismatches Maximum number of not matching elements to describe. {@link #everyElement(Matcher)}
+     *                           stops consuming the stream after this number of not matching elements.
+     * @return A matcher like this one describing up to the given number of not matching elements.
+     */
+    public StreamingMatcher<T> reportingMismatches(final int reportedMismatches) {
+        if (reportedMismatches < 1) {
+            throw new IllegalArgumentException("At least one mismatch has to be reported but was: " +
+                    reportedMismatches);
+        }
+        return new StreamingMatcher<>(matcher, isEveryElement, reportedMismatches, batchSize, timeout);
+    }
+
+    /**
+     * @param batchSize Number of elements to request from publishers at once.
+     * @return A matcher like this one requesting the elements of publishers in batches of the given size.
+     */
+    public StreamingMatcher<T> requestingBatchesOf(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batches need at least one element but had: " + batchSize);
+        }
+        return new StreamingMatcher<>(matcher, isEveryElement, reportedMismatches, batchSize, timeout);
+    }
+
+    /**
+     * @param timeout Time to wait for publishers to complete.
+     * @return A matcher like this one waiting at most the given time for publishers to complete.
+     */
+    public StreamingMatcher<T> within(final Duration timeout) {
+        return new StreamingMatcher<>(matcher, isEveryElement, reportedMismatches, batchSize, timeout);
+    }
+
+    @Override
+    public boolean matches(final Object actual) {
+        if (!isStream(actual)) {
+            return false;
+        }
+
+        final Evaluation evaluation = evaluate(actual);
+        if (evaluation.isMatching()) {
+            recordedEvaluation.remove();
+            return true;
+        }
+        recordedEvaluation.set(evaluation);
+        return false;
+    }
+
+    private static boolean isStream(final Object actual) {
+        return actual instanceof BaseStream || actual instanceof Iterator || actual instanceof Iterable ||
+                actual instanceof Flow.Publisher;
+    }
+
+    private Evaluation evaluate(final Object actual) {
+        final Evaluation evaluation = new Evaluation(actual);
+        if (actual instanceof Flow.Publisher) {
+            new BatchSubscriber(evaluation).consume((Flow.Publisher<?>) actual);
+        } else if (actual instanceof BaseStream) {
+            try (BaseStream<?, ?> stream = (BaseStream<?, ?>) actual) {
+                consume(stream.iterator(), evaluation);
+            }
+        } else {
+            consume(actual instanceof Iterable ? ((Iterable<?>) actual).iterator() : (Iterator<?>) actual, evaluation);
+        }
+        return evaluation;
+    }
+
+    private void consume(final Iterator<?> elements, final Evaluation evaluation) {
+        while (!evaluation.isDecided() && elements.hasNext()) {
+            evaluation.accept(elements.next());
+        }
+    }
+
+    @Override
+    public void describeMismatch(final Object actual, final Description mismatchDescription) {
+        if (!isStream(actual)) {
+            super.describeMismatch(actual, mismatchDescription);
+            return;
+        }
+
+        final Evaluation recorded = recordedEvaluation.get();
+        recordedEvaluation.remove();
+        final Evaluation evaluation;
+        if (recorded != null && recorded.actual == actual) {
+            evaluation = recorded;
+        } else if (actual instanceof Iterable) {
+            evaluation = evaluate(actual);
+        } else {
+            mismatchDescription.appendText("was a source which has already been consumed");
+            return;
+        }
+        if (evaluation.failure != null) {
+            mismatchDescription.appendText("failed after " + evaluation.elementCount + " elements with ")
+                    .appendValue(evaluation.failure);
+            return;
+        }
+        if (evaluation.isTimedOut) {
+            mismatchDescription.appendText("did not complete within " + timeout + " after " +
+                    evaluation.elementCount + " elements");
+            return;
+        }
+        if (isEveryElement) {
+            mismatchDescription.appendText(String.join(", ", evaluation.mismatches));
+            return;
+        }
+        if (evaluation.elementCount == 0) {
+            mismatchDescription.appendText("was empty");
+            return;
+        }
+        mismatchDescription.appendText("none of " + evaluation.elementCount + " elements matched, mismatches were: [")
+                .appendText(String.join(", ", evaluation.mismatches))
+                .appendText(evaluation.elementCount > evaluation.mismatches.size() ? ", ...]" : "]");
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        description.appendText(isEveryElement ? "every element is " : "a stream containing ")
+                .appendDescriptionOf(matcher);
+    }
+
+    /**
+     * State of a single match. Only the descriptions of the first not matching elements are kept.
+     */
+    private final class Evaluation {
+
+        private final Object actual;
+        private final List<String> mismatches = new ArrayList<>();
+        private long elementCount;
+        private boolean isMatchFound;
+        private Throwable failure;
+        private boolean isTimedOut;
+
+        private Evaluation(final Object actual) {
+            this.actual = actual;
+        }
+
+        private void accept(final Object element) {
+            final long index = elementCount++;
+            if (matcher.matches(element)) {
+                isMatchFound = true;
+            } else if (mismatches.size() < reportedMismatches) {
+                final Description mismatchDescription = new StringDescription()
+                        .appendText("an element at index " + index + " ");
+                matcher.describeMismatch(element, mismatchDescription);
+                mismatches.add(mismatchDescription.toString());
+            }
+        }
+
+        private boolean isDecided() {
+            return isEveryElement ? mismatches.size() >= reportedMismatches : isMatchFound;
+        }
+
+        private boolean isMatching() {
+            if (failure != null || isTimedOut) {
+                return false;
+            }
+            return isEveryElement ? mismatches.isEmpty() : isMatchFound;
+        }
+    }
+
+    /**
+     * Subscriber requesting the elements in batches. The next batch is requested when half of the current one has been
+     * received, so the publisher does not have to wait for each batch to be requested.
+     */
+    private final class BatchSubscriber implements Flow.Subscriber<Object> {
+
+        private final Evaluation evaluation;
+        private final CountDownLatch completion = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private long outstanding;
+        private boolean isDone;
+        private RuntimeException matcherException;
+
+        private BatchSubscriber(final Evaluation evaluation) {
+            this.evaluation = evaluation;
+        }
+
+        private void consume(final Flow.Publisher<?> publisher) {
+            publisher.subscribe(this);
+            try {
+                if (!completion.await(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    cancel();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new IllegalStateException("Interrupted while waiting for the publisher to complete", e);
+            }
+            synchronized (this) {
+                if (matcherException != null) {
+                    throw matcherException;
+                }
+            }
+        }
+
+        private synchronized void cancel() {
+            if (!isDone) {
+                evaluation.isTimedOut = true;
+                finish();
+            }
+        }
+
+        @Override
+        public synchronized void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            outstanding = batchSize;
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public synchronized void onNext(final Object element) {
+            if (isDone) {
+                return;
+            }
+
+            try {
+                evaluation.accept(element);
+            } catch (final RuntimeException e) {
+                // Rethrown by the matching thread
+                matcherException = e;
+            }
+            if (matcherException != null || evaluation.isDecided()) {
+                finish();
+                return;
+            }
+
+            outstanding--;
+            if (outstanding <= batchSize / 2) {
+                outstanding += batchSize;
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public synchronized void onError(final Throwable throwable) {
+            if (!isDone) {
+                evaluation.failure = throwable;
+                isDone = true;
+                completion.countDown();
+            }
+        }
+
+        @Override
+        public synchronized void onComplete() {
+            isDone = true;
+            completion.countDown();
+        }
+
+        private void finish() {
+            isDone = true;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            completion.countDown();
+        }
+    }
+}
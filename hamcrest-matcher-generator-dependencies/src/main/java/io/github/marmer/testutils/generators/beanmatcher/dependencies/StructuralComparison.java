@@ -0,0 +1,368 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertyAccessors.PropertyAccessor;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.hamcrest.StringDescription;
+
+/**
+ * Single comparison of two object graphs. Both graphs are walked in parallel along the bean properties, collection and
+ * array elements, map values and optional contents and the differences found on the way are collected with their
+ * property paths.
+ * <p>
+ * Lists and other collections except of sets are compared element by element in iteration order. Sets are compared by
+ * their sizes first. Elements compared by {@link Object#equals(Object)} are then looked up in a hash set of the actual
+ * elements, while each other element is compared with the actual elements of the same kind until a structurally equal
+ * one is found.
+ * </p>
+ * <p>
+ * Every pair of compared objects gets remembered by identity. A pair which is reached again while it is still being
+ * compared closes a cycle and is considered equal, so cyclic graphs end up in a finite walk. A pair which is reached
+ * again after it has been compared is not walked again, so shared subgraphs are only compared once.
+ * </p>
+ * <p>
+ * Instances are not thread safe and should be used for a single comparison only.
+ * </p>
+ */
+final class StructuralComparison {
+
+    private static final Object IN_PROGRESS = new Object();
+    private static final Object EQUAL = new Object();
+
+    private final int maxDifferences;
+    private final List<String> differences = new ArrayList<>();
+    private final Map<Object, Map<Object, Object>> comparedPairs;
+    private final boolean isProbe;
+
+    /**
+     * @param maxDifferences Number of differences after which the comparison stops.
+     */
+    StructuralComparison(final int maxDifferences) {
+        this(maxDifferences, new IdentityHashMap<>(), false);
+    }
+
+    /**
+     * @param isProbe Whether the comparison only probes a pair of set elements. Probes forget the pairs they found to
+     *                be different, so those get compared again with their actual paths.
+     */
+    private StructuralComparison(final int maxDifferences,
+                                 final Map<Object, Map<Object, Object>> comparedPairs,
+                                 final boolean isProbe) {
+        this.maxDifferences = maxDifferences;
+        this.comparedPairs = comparedPairs;
+        this.isProbe = isProbe;
+    }
+
+    /**
+     * @param expected Root of the expected graph.
+     * @param actual   Root of the actual graph.
+     * @return The differences found in the order they have been found. Empty if the graphs are structurally equal.
+     */
+    List<String> compare(final Object expected, final Object actual) {
+        compare(expected, actual, "");
+        return differences;
+    }
+
+    /**
+     * @return Whether the comparison has stopped because the maximum number of differences has been found.
+     */
+    boolean isLimitReached() {
+        return differences.size() >= maxDifferences;
+    }
+
+    private boolean compare(final Object expected, final Object actual, final String path) {
+        if (expected == actual) {
+            return true;
+        }
+        if (isLimitReached()) {
+            return false;
+        }
+        if (expected == null || actual == null) {
+            return addDifference(path, expected, actual);
+        }
+        if (expected instanceof Optional && actual instanceof Optional) {
+            return compare(((Optional<?>) expected).orElse(null), ((Optional<?>) actual).orElse(null), path);
+        }
+        if (!isComposite(expected, actual)) {
+            return expected.equals(actual) || addDifference(path, expected, actual);
+        }
+
+        final Map<Object, Object> comparedWithExpected =
+                comparedPairs.computeIfAbsent(expected, key -> new IdentityHashMap<>());
+        final Object previousResult = comparedWithExpected.get(actual);
+        if (previousResult == IN_PROGRESS || previousResult == EQUAL) {
+            return true;
+        }
+        if (previousResult != null) {
+            return addDifference(path, "differs the same way as " + previousResult);
+        }
+
+        comparedWithExpected.put(actual, IN_PROGRESS);
+        final boolean isEqual = compareComposite(expected, actual, path);
+        if (isEqual) {
+            comparedWithExpected.put(actual, EQUAL);
+        } else if (isProbe) {
+            comparedWithExpected.remove(actual);
+        } else {
+            comparedWithExpected.put(actual, displayPathOf(path));
+        }
+        return isEqual;
+    }
+
+    private boolean isComposite(final Object expected, final Object actual) {
+        if (expected instanceof Collection && actual instanceof Collection) {
+            return kindOf(expected) == kindOf(actual);
+        }
+        if (expected instanceof Map && actual instanceof Map) {
+            return true;
+        }
+        final Class<?> type = expected.getClass();
+        if (type != actual.getClass()) {
+            return false;
+        }
+        return type.isArray() || isBean(type);
+    }
+
+    private boolean isBean(final Class<?> type) {
+        if (type.isEnum() || type.getPackageName().startsWith("java.") ||
+                type.getPackageName().startsWith("javax.")) {
+            return false;
+        }
+        try {
+            return PropertyAccessors.of(type).all().entrySet().stream()
+                    .anyMatch(property -> isComparedProperty(property.getKey(), property.getValue()));
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return The kind of composite objects the given one can be structurally equal to.
+     */
+    private static Object kindOf(final Object composite) {
+        if (composite instanceof List) {
+            return List.class;
+        }
+        if (composite instanceof Set) {
+            return Set.class;
+        }
+        if (composite instanceof Collection) {
+            return Collection.class;
+        }
+        if (composite instanceof Map) {
+            return Map.class;
+        }
+        return composite.getClass();
+    }
+
+    private boolean compareComposite(final Object expected, final Object actual, final String path) {
+        if (expected instanceof Set) {
+            return compareSets((Set<?>) expected, (Set<?>) actual, path);
+        }
+        if (expected instanceof Collection) {
+            return compareCollections((Collection<?>) expected, (Collection<?>) actual, path);
+        }
+        if (expected instanceof Map) {
+            return compareMaps((Map<?, ?>) expected, (Map<?, ?>) actual, path);
+        }
+        if (expected.getClass().isArray()) {
+            return compareArrays(expected, actual, path);
+        }
+        return compareBeans(expected, actual, path);
+    }
+
+    private boolean compareCollections(final Collection<?> expected, final Collection<?> actual, final String path) {
+        boolean isEqual = compareSizes(expected.size(), actual.size(), path);
+        final Iterator<?> expectedElements = expected.iterator();
+        final Iterator<?> actualElements = actual.iterator();
+        for (int i = 0; expectedElements.hasNext() && actualElements.hasNext() && !isLimitReached(); i++) {
+            isEqual &= compare(expectedElements.next(), actualElements.next(), path + "[" + i + "]");
+        }
+        return isEqual;
+    }
+
+    private boolean compareArrays(final Object expected, final Object actual, final String path) {
+        final int expectedLength = Array.getLength(expected);
+        final int actualLength = Array.getLength(actual);
+        boolean isEqual = compareSizes(expectedLength, actualLength, path);
+        for (int i = 0; i < Math.min(expectedLength, actualLength) && !isLimitReached(); i++) {
+            isEqual &= compare(Array.get(expected, i), Array.get(actual, i), path + "[" + i + "]");
+        }
+        return isEqual;
+    }
+
+    private boolean compareSizes(final int expectedSize, final int actualSize, final String path) {
+        return expectedSize == actualSize ||
+                addDifference(path, "expected size " + expectedSize + " but was " + actualSize);
+    }
+
+    private boolean compareSets(final Set<?> expected, final Set<?> actual, final String path) {
+        if (!compareSizes(expected.size(), actual.size(), path)) {
+            return false;
+        }
+
+        final Set<Object> actualValues = new HashSet<>();
+        final Map<Object, List<Object>> actualCompositesByKind = new HashMap<>();
+        for (final Object element : actual) {
+            if (element != null && isComposite(element, element)) {
+                actualCompositesByKind.computeIfAbsent(kindOf(element), kind -> new ArrayList<>()).add(element);
+            } else {
+                actualValues.add(element);
+            }
+        }
+
+        boolean isEqual = true;
+        for (final Object element : expected) {
+            if (isLimitReached()) {
+                return false;
+            }
+            final boolean isContained = element != null && isComposite(element, element) ?
+                    removeEqualComposite(element, actualCompositesByKind.get(kindOf(element))) :
+                    actualValues.remove(element);
+            if (!isContained) {
+                isEqual = addDifference(path, "expected an element equal to " + describe(element) +
+                        " but there was none");
+            }
+        }
+        for (final Object element : actualValues) {
+            if (isLimitReached()) {
+                return false;
+            }
+            isEqual = addDifference(path, "expected no element equal to " + describe(element) + " but there was one");
+        }
+        for (final List<Object> elements : actualCompositesByKind.values()) {
+            for (final Object element : elements) {
+                if (isLimitReached()) {
+                    return false;
+                }
+                isEqual = addDifference(path, "expected no element equal to " + describe(element) +
+                        " but there was one");
+            }
+        }
+        return isEqual;
+    }
+
+    /**
+     * @param expected   Composite element of the expected set.
+     * @param candidates Not yet matched actual elements of the same kind. May be null if there are none.
+     * @return Whether a structurally equal candidate has been found and removed from the candidates.
+     */
+    private boolean removeEqualComposite(final Object expected, final List<Object> candidates) {
+        if (candidates == null) {
+            return false;
+        }
+        for (final Iterator<Object> iterator = candidates.iterator(); iterator.hasNext(); ) {
+            // Pairs still in progress are shared with the probe, so cycles through the set end in the probe as well
+            if (new StructuralComparison(1, comparedPairs, true).compare(expected, iterator.next(), "")) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean compareMaps(final Map<?, ?> expected, final Map<?, ?> actual, final String path) {
+        boolean isEqual = true;
+        for (final Map.Entry<?, ?> entry : expected.entrySet()) {
+            if (isLimitReached()) {
+                return false;
+            }
+            final String entryPath = path + "[" + describe(entry.getKey()) + "]";
+            isEqual &= actual.containsKey(entry.getKey()) ?
+                    compare(entry.getValue(), actual.get(entry.getKey()), entryPath) :
+                    addDifference(entryPath, "expected " + describe(entry.getValue()) + " but was no entry");
+        }
+        for (final Map.Entry<?, ?> entry : actual.entrySet()) {
+            if (isLimitReached()) {
+                return false;
+            }
+            if (!expected.containsKey(entry.getKey())) {
+                isEqual = addDifference(path + "[" + describe(entry.getKey()) + "]",
+                        "expected no entry but was " + describe(entry.getValue()));
+            }
+        }
+        return isEqual;
+    }
+
+    private boolean compareBeans(final Object expected, final Object actual, final String path) {
+        boolean isEqual = true;
+        for (final Map.Entry<String, PropertyAccessor> property :
+                PropertyAccessors.of(expected.getClass()).all().entrySet()) {
+            if (isLimitReached()) {
+                return false;
+            }
+            if (!isComparedProperty(property.getKey(), property.getValue())) {
+                continue;
+            }
+
+            final String propertyPath = path.isEmpty() ? property.getKey() : path + "." + property.getKey();
+            final Object expectedValue;
+            final Object actualValue;
+            try {
+                expectedValue = property.getValue().read(expected);
+                actualValue = property.getValue().read(actual);
+            } catch (final InvocationTargetException e) {
+                isEqual = addDifference(propertyPath, "could not be read: " + e.getTargetException());
+                continue;
+            } catch (final IllegalStateException e) {
+                isEqual = addDifference(propertyPath, "could not be read: " + e.getMessage());
+                continue;
+            }
+            isEqual &= compare(expectedValue, actualValue, propertyPath);
+        }
+        return isEqual;
+    }
+
+    private static boolean isComparedProperty(final String propertyName, final PropertyAccessor property) {
+        return property.isReadable() && !"class".equals(propertyName);
+    }
+
+    private boolean addDifference(final String path, final Object expected, final Object actual) {
+        return addDifference(path, "expected " + describe(expected) + " but was " + describe(actual));
+    }
+
+    private boolean addDifference(final String path, final String difference) {
+        differences.add(path.isEmpty() ? difference : path + ": " + difference);
+        return false;
+    }
+
+    private Object value(final Object value) {
+        return value == null || !isComposite(value, value) ? value : new DescribedType(value.getClass());
+    }
+
+    private String describe(final Object value) {
+        return new StringDescription().appendValue(value(value)).toString();
+    }
+
+    private static String displayPathOf(final String path) {
+        return path.isEmpty() ? "the root" : path;
+    }
+
+    /**
+     * Stand in for a composite value which would otherwise be described by its {@link Object#toString()} and may
+     * never end for cyclic graphs.
+     */
+    private static final class DescribedType {
+
+        private final Class<?> type;
+
+        DescribedType(final Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public String toString() {
+            return "an instance of " + type.getName();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.util.List;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+
+/**
+ * Matcher for objects which are structurally equal to an expected object. Beans are compared property by property
+ * along the same bean properties the generated matchers use, collections, arrays, maps and optionals are compared
+ * element by element and any other value with {@link Object#equals(Object)}. Sets are compared regardless of the order
+ * of their elements.
+ * <p>
+ * Cycles and shared subgraphs are supported. Each pair of expected and actual objects is compared at most once per
+ * matched item, so each property of a bean is read at most once as well.
+ * </p>
+ * <p>
+ * The mismatch description lists the first differences with their property paths (e.g.
+ * {@code parent.children[1].name: expected "a" but was "b"}). The mismatch description of an item which has just not
+ * matched is built from the differences found while matching, so no property is read again. The differences are
+ * recorded per matching thread.
+ * </p>
+ * <p>
+ * Instances can safely be shared between threads.
+ * </p>
+ *
+ * @param <T> Type of the compared objects.
+ */
+public final class StructuralEqualityMatcher<T> extends BaseMatcher<T> {
+
+    private static final int DEFAULT_MAX_DIFFERENCES = 10;
+    private static final String DIFFERENCE_SEPARATOR = System.lineSeparator() + "          ";
+
+    private final T expected;
+    private final int maxDifferences;
+    private final ThreadLocal<RecordedMismatch> recordedMismatch = new ThreadLocal<>();
+
+    private StructuralEqualityMatcher(final T expected, final int maxDifferences) {
+        this.expected = expected;
+        this.maxDifferences = maxDifferences;
+    }
+
+    /**
+     * @param expected Object the matched objects have to be structurally equal to.
+     * @param <T>      Type of the compared objects.
+     * @return A matcher reporting at most 10 differences.
+     */
+    public static <T> StructuralEqualityMatcher<T> structurallyEqualTo(final T expected) {
+        return new StructuralEqualityMatcher<>(expected, DEFAULT_MAX_DIFFERENCES);
+    }
+
+    /**
+     * @param maxDifferences Number of differences after which the comparison stops and which get reported.
+     * @return A matcher like this one reporting at most the given number of differences.
+     * @throws IllegalArgumentException if the number is not positive.
+     */
+    public StructuralEqualityMatcher<T> reportingAtMost(final int maxDifferences) {
+        if (maxDifferences < 1) {
+            throw new IllegalArgumentException("At least one difference has to be reported but was: " + maxDifferences);
+        }
+        return new StructuralEqualityMatcher<>(expected, maxDifferences);
+    }
+
+    @Override
+    public boolean matches(final Object item) {
+        final StructuralComparison comparison = new StructuralComparison(maxDifferences);
+        final List<String> differences = comparison.compare(expected, item);
+        if (differences.isEmpty()) {
+            recordedMismatch.remove();
+            return true;
+        }
+
+        recordedMismatch.set(new RecordedMismatch(item, differences, comparison.isLimitReached()));
+        return false;
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        if (expected == null) {
+            description.appendValue(null);
+        } else {
+            description.appendText("structurally equal to an instance of ")
+                    .appendText(expected.getClass().getName());
+        }
+    }
+
+    @Override
+    public void describeMismatch(final Object item, final Description mismatchDescription) {
+        final RecordedMismatch recorded = recordedMismatch.get();
+        recordedMismatch.remove();
+        final RecordedMismatch mismatch;
+        if (recorded != null && recorded.item == item) {
+            mismatch = recorded;
+        } else {
+            final StructuralComparison comparison = new StructuralComparison(maxDifferences);
+            mismatch = new RecordedMismatch(item, comparison.compare(expected, item), comparison.isLimitReached());
+        }
+
+        mismatchDescription.appendText(String.join(DIFFERENCE_SEPARATOR, mismatch.differences));
+        if (mismatch.isLimitReached) {
+            mismatchDescription.appendText(DIFFERENCE_SEPARATOR)
+                    .appendText("(stopped after " + maxDifferences + " differences)");
+        }
+    }
+
+    private static final class RecordedMismatch {
+
+        private final Object item;
+        private final List<String> differences;
+        private final boolean isLimitReached;
+
+        RecordedMismatch(final Object item, final List<String> differences, final boolean isLimitReached) {
+            this.item = item;
+            this.differences = differences;
+            this.isLimitReached = isLimitReached;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import org.hamcrest.Matcher;
+
+/**
+ * Matcher of beans of a known type. {@link BeanPropertyMatcher}s, {@link DirectPropertyMatcher}s and all generated
+ * matchers are typed matchers, so their type can be taken from them, e.g. by
+ * {@link ClassDispatchMatcher#dispatchingByClass(Matcher[])}.
+ *
+ * @param <T> Type of the bean.
+ */
+public interface TypedMatcher<T> extends Matcher<T> {
+
+    /**
+     * @return Type of the matched beans.
+     */
+    Class<? super T> getExpectedClass();
+}
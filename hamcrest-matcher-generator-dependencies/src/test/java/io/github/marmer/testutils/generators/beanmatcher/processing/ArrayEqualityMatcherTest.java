@@ -0,0 +1,117 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.ArrayEqualityMatcher.arrayEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ArrayEqualityMatcherTest {
+
+    @Test
+    void testMatches_ArraysOfAllKinds_ShouldMatchLikeEqualTo()
+            throws Exception {
+        // Execution & Assertion
+        assertThat(arrayEqualTo(new byte[]{1, 2, 3}).matches(new byte[]{1, 2, 3}), is(true));
+        assertThat(arrayEqualTo(new byte[]{1, 2, 3}).matches(new byte[]{1, 2, 4}), is(false));
+        assertThat(arrayEqualTo(new int[]{1, 2}).matches(new long[]{1, 2}), is(false));
+        assertThat(arrayEqualTo(new double[]{Double.NaN}).matches(new double[]{Double.NaN}),
+                is(Matchers.equalTo(new double[]{Double.NaN}).matches(new double[]{Double.NaN})));
+        assertThat(arrayEqualTo(new String[][]{{"a"}, {"b"}}).matches(new String[][]{{"a"}, {"b"}}), is(true));
+        assertThat(arrayEqualTo(new String[][]{{"a"}, {"b"}}).matches(new String[][]{{"a"}, {"c"}}), is(false));
+        assertThat(arrayEqualTo((int[]) null).matches(null), is(true));
+        assertThat(arrayEqualTo(new int[0]).matches(null), is(false));
+    }
+
+    @Test
+    void testMatches_ArraysOfDifferentComponentTypes_ShouldMatchLikeEqualTo()
+            throws Exception {
+        // Execution & Assertion
+        assertThat(arrayEqualTo(new int[]{1, 2}).matches(new Integer[]{1, 2}), is(true));
+        assertThat(arrayEqualTo(new Integer[]{1, 2}).matches(new int[]{1, 2}), is(true));
+        assertThat(arrayEqualTo(new int[]{1, 2}).matches(new Integer[]{1, 3}), is(false));
+        assertThat(arrayEqualTo(new Object[]{new int[]{1}, "a"}).matches(new Object[]{new Integer[]{1}, "a"}),
+                is(Matchers.equalTo(new Object[]{new int[]{1}, "a"}).matches(new Object[]{new Integer[]{1}, "a"})));
+        assertThat(arrayEqualTo(new Object[]{new int[]{1}}).matches(new Object[]{new Integer[]{2}}), is(false));
+        assertThat(arrayEqualTo(new Object[]{new int[]{1}}).matches(new Object[]{1}), is(false));
+        assertThat(arrayEqualTo(new Object[]{1}).matches(new Object[]{new int[]{1}}), is(false));
+    }
+
+    @Test
+    void testDescribeMismatch_ArraysOfDifferentComponentTypes_ShouldDescribeTheFirstDifferingIndex()
+            throws Exception {
+        // Preparation
+        final StringDescription mismatchDescription = new StringDescription();
+
+        // Execution
+        arrayEqualTo(new int[]{1, 2}).describeMismatch(new Integer[]{1, 3}, mismatchDescription);
+
+        // Assertion
+        assertThat(mismatchDescription.toString(), is("differed first at index 1 with <3> instead of <2>"));
+    }
+
+    @Test
+    void testDescribeMismatch_LargeArraysDifferingInOneElement_ShouldDescribeTheFirstDifferingIndexOnly()
+            throws Exception {
+        // Preparation
+        final byte[] expected = new byte[1_000_000];
+        final byte[] actual = new byte[1_000_000];
+        actual[123_456] = 42;
+        final StringDescription mismatchDescription = new StringDescription();
+
+        // Execution
+        arrayEqualTo(expected).describeMismatch(actual, mismatchDescription);
+
+        // Assertion
+        assertThat(mismatchDescription.toString(), is("differed first at index 123456 with <42b> instead of <0b>"));
+    }
+
+    @Test
+    void testDescribeMismatch_ArrayWithAdditionalElements_ShouldDescribeTheLengths()
+            throws Exception {
+        // Preparation
+        final StringDescription mismatchDescription = new StringDescription();
+
+        // Execution
+        arrayEqualTo(new String[]{"a", "b"}).describeMismatch(new String[]{"a", "b", "c"}, mismatchDescription);
+
+        // Assertion
+        assertThat(mismatchDescription.toString(), is("had length 3 instead of 2"));
+    }
+
+    @Test
+    void testDescribe_WithBeanPropertyMatcher_ShouldBeDescribedLikeEqualTo()
+            throws Exception {
+        // Preparation
+        final Matcher<SomeBean> classUnderTest = new BeanPropertyMatcher<SomeBean>(SomeBean.class)
+                .with("payload", arrayEqualTo(new int[]{1, 2}));
+        final StringDescription mismatchDescription = new StringDescription();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(new SomeBean(new int[]{1, 3}));
+        classUnderTest.describeMismatch(new SomeBean(new int[]{1, 3}), mismatchDescription);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(StringDescription.toString(classUnderTest),
+                is(StringDescription.toString(new BeanPropertyMatcher<SomeBean>(SomeBean.class)
+                        .with("payload", Matchers.equalTo(new int[]{1, 2})))));
+        assertThat(mismatchDescription.toString(), is(" property 'payload' differed first at index 1 with <3> instead of <2>"));
+    }
+
+    public static class SomeBean {
+        private final int[] payload;
+
+        SomeBean(final int[] payload) {
+            this.payload = payload;
+        }
+
+        public int[] getPayload() {
+            return payload;
+        }
+    }
+}
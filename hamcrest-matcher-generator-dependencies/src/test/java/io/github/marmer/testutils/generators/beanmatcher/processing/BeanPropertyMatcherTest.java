@@ -1,6 +1,9 @@
 package io.github.marmer.testutils.generators.beanmatcher.processing;
 
 import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.DescriptionBudget;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.EvaluationOrder;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertySnapshot;
 import lombok.Value;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
@@ -8,10 +11,21 @@ import org.hamcrest.Matchers;
 import org.hamcrest.StringDescription;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
 class BeanPropertyMatcherTest {
@@ -288,6 +302,62 @@ class BeanPropertyMatcherTest {
                 startsWith(instanceOfMissmatchTextFor(AnotherClassWithSingleProperty.class)));
     }
 
+    @Test
+    void testWith_FrozenMatcher_ShouldNotBeChangeable()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo("someValue"))
+                        .freeze();
+
+        // Execution
+        assertThrows(IllegalStateException.class, () -> classUnderTest.with("someProperty"));
+    }
+
+    @Test
+    void testWith_AlreadyUsedMatcher_ShouldBeFrozenAndNotBeChangeable()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo("someValue"));
+        classUnderTest.matches(new ClassWithSingleProperty("someValue"));
+
+        // Execution
+        assertThrows(IllegalStateException.class,
+                () -> classUnderTest.with("someProperty", equalTo("someOtherValue")));
+    }
+
+    @Test
+    void testMatches_FrozenMatcherSharedBetweenThreads_ShouldMatchConsistently()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassTwoProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassTwoProperties>(ClassTwoProperties.class)
+                        .with("firstProperty", equalTo("firstPropertyValue"))
+                        .with("secondProperty", equalTo("secondPropertyValue"));
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            final List<Callable<Boolean>> evaluations = IntStream.range(0, 1000)
+                    .mapToObj(i -> (Callable<Boolean>) () -> classUnderTest.matches(
+                            new ClassTwoProperties("firstPropertyValue",
+                                    i % 2 == 0 ? "secondPropertyValue" : "otherValue")) == (i % 2 == 0))
+                    .collect(Collectors.toList());
+
+            // Execution
+            final List<Future<Boolean>> results = executor.invokeAll(evaluations);
+
+            // Assertion
+            for (final Future<Boolean> result : results) {
+                assertThat("consistent result", result.get(), is(true));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private String instanceOfMissmatchTextFor(final Class<?> type) {
         return "Is an instance of " + type;
     }
@@ -502,6 +572,353 @@ class BeanPropertyMatcherTest {
                                 propertyMissmatchDescriptionTextForNonMatching2)));
     }
 
+    @Test
+    void testDescribeMissmatch_AfterNotMatchingTheSameObject_ShouldNotReadAnyPropertyTwice()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithCountingProperties>(
+                ClassWithCountingProperties.class)
+                .with("firstProperty", equalTo("firstPropertyValue"))
+                .with("secondProperty", equalTo("unexpectedValue"))
+                .with("thirdProperty", equalTo("unexpectedValue"));
+        final ClassWithCountingProperties modelClass = new ClassWithCountingProperties();
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(
+                " property 'secondProperty' was \"secondPropertyValue\"" + AND +
+                        " property 'thirdProperty' was \"thirdPropertyValue\"")));
+        assertThat(modelClass.getReadCount(), is(3));
+    }
+
+    @Test
+    void testMatches_NotMatchingObjectNeverDescribed_ShouldNotBeKeptReachable()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithSingleProperty>(
+                ClassWithSingleProperty.class)
+                .with("someProperty", equalTo("unexpectedValue"));
+        ClassWithSingleProperty modelObject = new ClassWithSingleProperty("someValue");
+        final WeakReference<ClassWithSingleProperty> modelObjectReference = new WeakReference<>(modelObject);
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelObject);
+        modelObject = null;
+        for (int i = 0; i < 50 && modelObjectReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(modelObjectReference.get(), is(nullValue()));
+    }
+
+    @Test
+    void testDescribeMissmatch_ThreadsNotMatchingDifferentObjects_NoThreadShouldReadAnyPropertyTwice()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithCountingProperties>(
+                ClassWithCountingProperties.class)
+                .with("firstProperty", equalTo("firstPropertyValue"))
+                .with("secondProperty", equalTo("unexpectedValue"))
+                .with("thirdProperty", equalTo("unexpectedValue"));
+        final ClassWithCountingProperties firstModelClass = new ClassWithCountingProperties();
+        final ClassWithCountingProperties secondModelClass = new ClassWithCountingProperties();
+        final Description firstDescription = new StringDescription();
+        final Description secondDescription = new StringDescription();
+        final CountDownLatch firstMatched = new CountDownLatch(1);
+        final CountDownLatch secondMatched = new CountDownLatch(1);
+        final Thread secondThread = new Thread(() -> {
+            awaitUninterruptibly(firstMatched);
+            classUnderTest.matches(secondModelClass);
+            secondMatched.countDown();
+            classUnderTest.describeMismatch(secondModelClass, secondDescription);
+        });
+        secondThread.start();
+
+        // Execution
+        classUnderTest.matches(firstModelClass);
+        firstMatched.countDown();
+        awaitUninterruptibly(secondMatched);
+        classUnderTest.describeMismatch(firstModelClass, firstDescription);
+        secondThread.join();
+
+        // Assertion
+        final String expectedDescription = " property 'secondProperty' was \"secondPropertyValue\"" + AND +
+                " property 'thirdProperty' was \"thirdPropertyValue\"";
+        assertThat(firstDescription.toString(), is(equalTo(expectedDescription)));
+        assertThat(secondDescription.toString(), is(equalTo(expectedDescription)));
+        assertThat(firstModelClass.getReadCount(), is(3));
+        assertThat(secondModelClass.getReadCount(), is(3));
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testMatches_SeveralChecksOfTheSameProperty_ShouldReadThePropertyOnlyOnce()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithCountingProperties>(
+                ClassWithCountingProperties.class)
+                .with("firstProperty", startsWith("first"))
+                .with("firstProperty", endsWith("Value"))
+                .with("firstProperty");
+        final ClassWithCountingProperties modelClass = new ClassWithCountingProperties();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelClass);
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+        assertThat(modelClass.getReadCount(), is(1));
+    }
+
+    @Test
+    void testDescribeMissmatch_SeveralChecksOfTheSamePropertyAfterNotMatchingTheSameObject_ShouldReadThePropertyOnlyOnce()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithCountingProperties>(
+                ClassWithCountingProperties.class)
+                .with("firstProperty", equalTo("unexpectedValue"))
+                .with("secondProperty", startsWith("second"))
+                .with("firstProperty", startsWith("first"))
+                .with("firstProperty", endsWith("unexpectedValue"));
+        final ClassWithCountingProperties modelClass = new ClassWithCountingProperties();
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(
+                " property 'firstProperty' was \"firstPropertyValue\"" + AND +
+                        " property 'firstProperty' was \"firstPropertyValue\"")));
+        assertThat(modelClass.getReadCount(), is(2));
+    }
+
+    @Test
+    void testDescribeMissmatch_PropertyWithAccessor_DescriptionShouldBeTheSameAsTheOneOfReflectiveAccess()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithCountingProperties>(
+                ClassWithCountingProperties.class)
+                .with("firstProperty", ClassWithCountingProperties::getFirstProperty, equalTo("unexpectedValue"));
+        final Matcher<?> reflectiveMatcher = new BeanPropertyMatcher<ClassWithCountingProperties>(
+                ClassWithCountingProperties.class)
+                .with("firstProperty", equalTo("unexpectedValue"));
+        final ClassWithCountingProperties modelClass = new ClassWithCountingProperties();
+        final Description description = new StringDescription();
+        final Description expectedDescription = new StringDescription();
+        reflectiveMatcher.describeMismatch(modelClass, expectedDescription);
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(StringDescription.toString(classUnderTest), is(equalTo(StringDescription.toString(reflectiveMatcher))));
+        assertThat(description.toString(), is(equalTo(expectedDescription.toString())));
+    }
+
+    @Test
+    void testDescribeMissmatch_PropertyWithAccessorAndInstanceOfDifferentType_ShouldLookUpThePropertyByName()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithCountingProperties>(
+                ClassWithCountingProperties.class)
+                .with("firstProperty", ClassWithCountingProperties::getFirstProperty, equalTo("unexpectedValue"));
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.describeMismatch(new ClassWithSingleProperty("someValue"), description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(
+                "Is an instance of " + ClassWithSingleProperty.class + AND + "No property \"firstProperty\"")));
+    }
+
+    @Test
+    void testDescribeMissmatch_PropertyAccessorThrowingAnException_DescriptionShouldBeTheSameAsTheOneOfHasProperty()
+            throws Exception {
+        // Preparation
+        final Matcher<String> propertyMatcher = equalTo("anyValue");
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithFailingProperty>(
+                ClassWithFailingProperty.class)
+                .with("failingProperty", propertyMatcher);
+        final ClassWithFailingProperty modelClass = new ClassWithFailingProperty();
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        final Description expectedDescription = new StringDescription();
+        hasProperty("failingProperty", propertyMatcher).describeMismatch(modelClass, expectedDescription);
+        assertThat(description.toString(), is(equalTo(expectedDescription.toString())));
+    }
+
+    @Test
+    void testMatches_SubtypeWithAdditionalProperty_ShouldUseThePropertiesOfTheSubtype()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithCountingProperties>(
+                ClassWithCountingProperties.class)
+                .with("fourthProperty", equalTo("fourthPropertyValue"));
+
+        // Execution
+        final boolean matchesSupertype = classUnderTest.matches(new ClassWithCountingProperties());
+        final boolean matchesSubtype = classUnderTest.matches(new SubclassWithCountingProperties());
+
+        // Assertion
+        assertThat("matches supertype", matchesSupertype, is(false));
+        assertThat("matches subtype", matchesSubtype, is(true));
+    }
+
+    @Test
+    void testMatches_CostBasedEvaluationOrder_ShouldNotReadExpensivePropertiesIfCheapOnesDoNotMatch()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithCheapAndExpensiveProperty>(
+                ClassWithCheapAndExpensiveProperty.class)
+                .with("expensiveProperty", equalTo(List.of("expectedValue")))
+                .with("cheapProperty", equalTo(42))
+                .inEvaluationOrder(EvaluationOrder.COST_BASED);
+        final ClassWithCheapAndExpensiveProperty modelClass = new ClassWithCheapAndExpensiveProperty();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelClass);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(modelClass.getExpensivePropertyReadCount(), is(0));
+    }
+
+    @Test
+    void testDescribeMissmatch_CostBasedEvaluationOrder_DescriptionShouldKeepTheDeclaredOrder()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithCheapAndExpensiveProperty>(
+                ClassWithCheapAndExpensiveProperty.class)
+                .with("expensiveProperty", equalTo(List.of("expectedValue")))
+                .with("cheapProperty", equalTo(42))
+                .inEvaluationOrder(EvaluationOrder.COST_BASED);
+        final ClassWithCheapAndExpensiveProperty modelClass = new ClassWithCheapAndExpensiveProperty();
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(
+                " property 'expensiveProperty' was <[actualValue]>" + AND +
+                        " property 'cheapProperty' was <0>")));
+        assertThat(modelClass.getExpensivePropertyReadCount(), is(1));
+    }
+
+    @Test
+    void testDescribeMissmatch_HugeCollectionAndLimitedElements_ShouldSummarizeTheElementsBeyondTheLimit()
+            throws Exception {
+        // Preparation
+        final List<Integer> hugeList = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithValueProperty>(ClassWithValueProperty.class)
+                .with("value", empty())
+                .withinDescriptionBudget(DescriptionBudget.of(DescriptionBudget.UNLIMITED, 50, 2));
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.describeMismatch(new ClassWithValueProperty(hugeList), description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(" property 'value' <[" +
+                IntStream.range(0, 50).mapToObj(String::valueOf).collect(Collectors.joining(", ")) +
+                ", ... 99,950 more elements]>")));
+    }
+
+    @Test
+    void testDescribeMissmatch_HugeStringAndLimitedLength_ShouldBeTruncated()
+            throws Exception {
+        // Preparation
+        final String hugeString = "x".repeat(2_000_000);
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithValueProperty>(ClassWithValueProperty.class)
+                .with("value", equalTo("y"))
+                .withinDescriptionBudget(DescriptionBudget.of(100, DescriptionBudget.UNLIMITED, DescriptionBudget.UNLIMITED));
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.describeMismatch(new ClassWithValueProperty(hugeString), description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(
+                (" property 'value' was \"" + hugeString).substring(0, 100) + "... (description truncated)")));
+    }
+
+    @Test
+    void testDescribeMissmatch_ElementsBeyondTheBudget_ShouldNotBeRendered()
+            throws Exception {
+        // Preparation
+        final List<ExpensiveToString> values = IntStream.range(0, 1_000)
+                .mapToObj(i -> new ExpensiveToString())
+                .collect(Collectors.toList());
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithValueProperty>(ClassWithValueProperty.class)
+                .with("value", empty())
+                .withinDescriptionBudget(DescriptionBudget.of(1_000, 100, 2));
+
+        // Execution
+        classUnderTest.describeMismatch(new ClassWithValueProperty(values), new StringDescription());
+
+        // Assertion
+        assertThat(ExpensiveToString.renderedInstances(values), is(lessThan(100L)));
+    }
+
+    @Test
+    void testDescribeMissmatch_NestedArraysBeyondTheMaximumDepth_ShouldBeSummarized()
+            throws Exception {
+        // Preparation
+        final Object[] nestedArrays = {new Object[]{new int[100_000], 1}, 2};
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithValueProperty>(ClassWithValueProperty.class)
+                .with("value", equalTo("y"))
+                .withinDescriptionBudget(DescriptionBudget.of(DescriptionBudget.UNLIMITED, DescriptionBudget.UNLIMITED, 2));
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.describeMismatch(new ClassWithValueProperty(nestedArrays), description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(" property 'value' was [[[100,000 elements], <1>], <2>]")));
+    }
+
+    @Test
+    void testDescribeMissmatch_HugeCharSequenceElementAndLimitedLength_ShouldOnlyConvertTheRenderedCharacters()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<ClassWithValueProperty>(ClassWithValueProperty.class)
+                .with("value", empty())
+                .withinDescriptionBudget(DescriptionBudget.of(50, DescriptionBudget.UNLIMITED, DescriptionBudget.UNLIMITED));
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.describeMismatch(new ClassWithValueProperty(List.of(new HugeCharSequence())), description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(
+                (" property 'value' <[" + "x".repeat(50)).substring(0, 50) + "... (description truncated)")));
+    }
+
     private String getHasPropertyMissmatchDescriptionFor(final Object modelClass,
                                                          final String propertyName,
                                                          final Matcher<String> propertyMatcher) {
@@ -534,6 +951,43 @@ class BeanPropertyMatcherTest {
         return instanceOfDescription.toString();
     }
 
+    @Test
+    void testMatches_SnapshotWithMatchingValues_ShouldMatchWithTheValuesOfTheSnapshot()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassTwoProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassTwoProperties>(ClassTwoProperties.class)
+                        .with("firstProperty", equalTo("snapshotValue"))
+                        .with("secondProperty");
+
+        // Execution
+        final boolean matches = classUnderTest.matches(
+                new ClassTwoPropertiesSnapshot(ClassTwoProperties.class, "snapshotValue"));
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+    }
+
+    @Test
+    void testDescribeMismatch_SnapshotOfAnotherType_ShouldDescribeTheSnapshotType()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassTwoProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassTwoProperties>(ClassTwoProperties.class)
+                        .with("firstProperty", equalTo("snapshotValue"));
+        final PropertySnapshot snapshot = new ClassTwoPropertiesSnapshot(ClassWithSingleProperty.class, "otherValue");
+        final Description description = new StringDescription();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(snapshot);
+        classUnderTest.describeMismatch(snapshot, description);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(description.toString(), is(equalTo("Is a snapshot of " + ClassWithSingleProperty.class +
+                AND + " property 'firstProperty' was \"otherValue\"")));
+    }
+
     @Value
     public static class ClassWithSingleProperty {
         private String someProperty;
@@ -544,9 +998,117 @@ class BeanPropertyMatcherTest {
         private String someProperty;
     }
 
+    public static class ClassWithCountingProperties {
+        private int readCount;
+
+        public String getFirstProperty() {
+            readCount++;
+            return "firstPropertyValue";
+        }
+
+        public String getSecondProperty() {
+            readCount++;
+            return "secondPropertyValue";
+        }
+
+        public String getThirdProperty() {
+            readCount++;
+            return "thirdPropertyValue";
+        }
+
+        int getReadCount() {
+            return readCount;
+        }
+    }
+
+    public static class ClassWithCheapAndExpensiveProperty {
+        private int expensivePropertyReadCount;
+
+        public List<String> getExpensiveProperty() {
+            expensivePropertyReadCount++;
+            return List.of("actualValue");
+        }
+
+        public int getCheapProperty() {
+            return 0;
+        }
+
+        int getExpensivePropertyReadCount() {
+            return expensivePropertyReadCount;
+        }
+    }
+
+    @Value
+    public static class ClassWithValueProperty {
+        private Object value;
+    }
+
+    public static class HugeCharSequence implements CharSequence {
+
+        @Override
+        public int length() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return 'x';
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return "x".repeat(end - start);
+        }
+
+        @Override
+        public String toString() {
+            throw new UnsupportedOperationException("Too huge to be converted at once");
+        }
+    }
+
+    public static class ExpensiveToString {
+        private boolean rendered;
+
+        static long renderedInstances(final List<ExpensiveToString> values) {
+            return values.stream().filter(value -> value.rendered).count();
+        }
+
+        @Override
+        public String toString() {
+            rendered = true;
+            return "expensive value";
+        }
+    }
+
+    public static class SubclassWithCountingProperties extends ClassWithCountingProperties {
+        public String getFourthProperty() {
+            return "fourthPropertyValue";
+        }
+    }
+
+    public static class ClassWithFailingProperty {
+        public String getFailingProperty() {
+            throw new UnsupportedOperationException("not readable right now");
+        }
+    }
+
     @Value
     public static class ClassTwoProperties {
         private String firstProperty;
         private String secondProperty;
     }
+
+    @Value
+    public static class ClassTwoPropertiesSnapshot implements PropertySnapshot {
+        private Class<?> snapshotType;
+        private String firstProperty;
+
+        @Override
+        public Object getPropertyValue(final String propertyName) {
+            if (!"firstProperty".equals(propertyName)) {
+                throw new IllegalArgumentException("No property \"" + propertyName + "\"");
+            }
+            return firstProperty;
+        }
+    }
 }
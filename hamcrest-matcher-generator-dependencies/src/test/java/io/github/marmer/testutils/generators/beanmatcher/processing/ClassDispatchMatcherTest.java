@@ -0,0 +1,124 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.ClassDispatchMatcher;
+import org.hamcrest.CustomTypeSafeMatcher;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.ClassDispatchMatcher.dispatchingByClass;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClassDispatchMatcherTest {
+
+    @Test
+    void testMatches_ItemsOfDifferentSubtypes_EachItemShouldBeMatchedByTheMatcherOfItsTypeOnly()
+            throws Exception {
+        // Preparation
+        final AtomicInteger evaluations = new AtomicInteger();
+        final ClassDispatchMatcher<SomeParent> classUnderTest = ClassDispatchMatcher.<SomeParent>dispatchingByClass(
+                new BeanPropertyMatcher<SomeParent>(SomeParent.class).with("id", counting(evaluations, equalTo(0))),
+                new BeanPropertyMatcher<FirstChild>(FirstChild.class).with("id", counting(evaluations, equalTo(1))))
+                .when(SecondChild.class, hasProperty("id", counting(evaluations, equalTo(2))));
+        final List<SomeParent> items = List.of(new SecondChild(2), new FirstChild(1), new SomeParent(0),
+                new SecondChild(2));
+
+        // Execution
+        final boolean matches = everyItem(classUnderTest).matches(items);
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+        assertThat(evaluations.get(), is(items.size()));
+    }
+
+    @Test
+    void testMatches_ItemOfASubtypeMatchingOnlyTheMatcherOfTheParentType_ShouldNotMatch()
+            throws Exception {
+        // Preparation
+        final ClassDispatchMatcher<SomeParent> classUnderTest = ClassDispatchMatcher.<SomeParent>dispatchingByClass(
+                new BeanPropertyMatcher<SomeParent>(SomeParent.class).with("id", equalTo(1)),
+                new BeanPropertyMatcher<FirstChild>(FirstChild.class).with("id", equalTo(2)));
+
+        // Execution
+        final boolean matches = classUnderTest.matches(new FirstChild(1));
+        final StringDescription mismatchDescription = new StringDescription();
+        classUnderTest.describeMismatch(new FirstChild(1), mismatchDescription);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(mismatchDescription.toString(), is(" property 'id' was <1>"));
+    }
+
+    @Test
+    void testDescribe_ItemWithoutAlternativeForItsType_ShouldDescribeTheMissingAlternative()
+            throws Exception {
+        // Preparation
+        final Matcher<FirstChild> firstChildMatcher =
+                new BeanPropertyMatcher<FirstChild>(FirstChild.class).with("id", equalTo(1));
+        final ClassDispatchMatcher<SomeParent> classUnderTest =
+                ClassDispatchMatcher.<SomeParent>dispatchingByClass(firstChildMatcher);
+        final SecondChild item = new SecondChild(1);
+
+        // Execution
+        final StringDescription mismatchDescription = new StringDescription();
+        classUnderTest.describeMismatch(item, mismatchDescription);
+
+        // Assertion
+        assertThat(classUnderTest.matches(item), is(false));
+        assertThat(mismatchDescription.toString(),
+                is("was a " + SecondChild.class.getName() + " (<" + item + ">) without alternative for its type"));
+        assertThat(StringDescription.toString(classUnderTest),
+                is(StringDescription.toString(Matchers.anyOf(firstChildMatcher))));
+    }
+
+    @Test
+    void testDispatchingByClass_MatcherOfUnknownType_ShouldBeRejected()
+            throws Exception {
+        // Execution & Assertion
+        assertThrows(IllegalArgumentException.class, () -> dispatchingByClass(equalTo(new SomeParent(1))));
+    }
+
+    private static <T> Matcher<T> counting(final AtomicInteger evaluations, final Matcher<T> matcher) {
+        return new CustomTypeSafeMatcher<T>("counted") {
+            @Override
+            protected boolean matchesSafely(final T item) {
+                evaluations.incrementAndGet();
+                return matcher.matches(item);
+            }
+        };
+    }
+
+    public static class SomeParent {
+        private final int id;
+
+        SomeParent(final int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+    }
+
+    public static class FirstChild extends SomeParent {
+        FirstChild(final int id) {
+            super(id);
+        }
+    }
+
+    public static class SecondChild extends SomeParent {
+        SecondChild(final int id) {
+            super(id);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.ContainsInAnyOrderMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+import lombok.Value;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.ContainsInAnyOrderMatcher.containingInAnyOrder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+
+class ContainsInAnyOrderMatcherTest {
+
+    @Test
+    void testMatches_ItemsMatchingInAnotherOrder_ShouldMatch()
+            throws Exception {
+        // Preparation
+        final ContainsInAnyOrderMatcher<SomeBean> classUnderTest = containingInAnyOrder(
+                new SomeBeanMatcher().withId(1).withName("first"),
+                new SomeBeanMatcher().withId(2).withName("second"),
+                new SomeBeanMatcher().withName("third"),
+                hasProperty("name", equalTo("fourth")));
+
+        // Execution
+        final boolean matches = classUnderTest.matches(List.of(new SomeBean(4, "fourth"), new SomeBean(2, "second"),
+                new SomeBean(3, "third"), new SomeBean(1, "first")));
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+    }
+
+    @Test
+    void testDescribeMismatch_NotMatchingItemsAndMatchers_DescriptionsShouldBeTheSameAsTheOnesOfHamcrest()
+            throws Exception {
+        // Preparation
+        final List<Matcher<? super SomeBean>> matchers = List.of(
+                new SomeBeanMatcher().withId(1).withName("first"),
+                new SomeBeanMatcher().withId(2).withName("second"),
+                new SomeBeanMatcher().withId(3));
+        final ContainsInAnyOrderMatcher<SomeBean> classUnderTest = containingInAnyOrder(matchers);
+        final Matcher<Iterable<? extends SomeBean>> hamcrestMatcher = Matchers.containsInAnyOrder(matchers);
+        final List<List<SomeBean>> itemLists = List.of(
+                List.of(new SomeBean(2, "second"), new SomeBean(1, "other")),
+                List.of(new SomeBean(2, "second"), new SomeBean(3, "third")),
+                List.of(new SomeBean(3, "third"), new SomeBean(2, "second"), new SomeBean(1, "first"),
+                        new SomeBean(4, "fourth")));
+
+        for (final List<SomeBean> items : itemLists) {
+            // Execution
+            final boolean matches = classUnderTest.matches(items);
+            final StringDescription mismatchDescription = new StringDescription();
+            classUnderTest.describeMismatch(items, mismatchDescription);
+
+            // Assertion
+            final StringDescription hamcrestMismatchDescription = new StringDescription();
+            hamcrestMatcher.describeMismatch(items, hamcrestMismatchDescription);
+            assertThat("matches", matches, is(false));
+            assertThat(mismatchDescription.toString(), is(hamcrestMismatchDescription.toString()));
+        }
+        assertThat(StringDescription.toString(classUnderTest), is(StringDescription.toString(hamcrestMatcher)));
+    }
+
+    @Test
+    void testMatches_ManyItemsWithUniqueIds_EachItemShouldOnlyBeTriedAgainstTheMatcherOfItsId()
+            throws Exception {
+        // Preparation
+        final AtomicInteger accessorCalls = new AtomicInteger();
+        final List<Matcher<? super SomeBean>> matchers = IntStream.range(0, 10_000)
+                .mapToObj(i -> new SomeBeanMatcher().withId(i).withCountedName(accessorCalls, "name" + i))
+                .collect(Collectors.toList());
+        final List<SomeBean> items = IntStream.range(0, 10_000)
+                .mapToObj(i -> new SomeBean(i, "name" + i))
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.shuffle(items);
+        final ContainsInAnyOrderMatcher<SomeBean> classUnderTest = containingInAnyOrder(matchers);
+
+        // Execution
+        final boolean matches = classUnderTest.matches(items);
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+        assertThat(accessorCalls.get(), is(10_000));
+    }
+
+    @Test
+    void testMatches_SeveralMatchersOfTheSamePartition_ItemsShouldBeMatchedByTheFirstMatchingMatcherLikeHamcrest()
+            throws Exception {
+        // Preparation
+        final List<Matcher<? super SomeBean>> matchers = List.of(
+                new SomeBeanMatcher().withId(1),
+                new SomeBeanMatcher().withId(1).withName(greaterThan("b")));
+        final List<SomeBean> items = List.of(new SomeBean(1, "c"), new SomeBean(1, "a"));
+
+        // Execution
+        final boolean matches = containingInAnyOrder(matchers).matches(items);
+
+        // Assertion
+        assertThat("matches", matches, is(Matchers.containsInAnyOrder(matchers).matches(items)));
+    }
+
+    private static class SomeBeanMatcher extends DirectPropertyMatcher<SomeBean> {
+
+        SomeBeanMatcher() {
+            super(SomeBean.class);
+        }
+
+        SomeBeanMatcher withId(final int value) {
+            addIntPropertyCheck("id", SomeBean::getId, value);
+            return this;
+        }
+
+        SomeBeanMatcher withName(final String value) {
+            addEqualityPropertyCheck("name", SomeBean::getName, value);
+            return this;
+        }
+
+        SomeBeanMatcher withName(final Matcher<? super String> matcher) {
+            addPropertyCheck("name", SomeBean::getName, matcher);
+            return this;
+        }
+
+        SomeBeanMatcher withCountedName(final AtomicInteger accessorCalls, final String value) {
+            addPropertyCheck("name", item -> {
+                accessorCalls.incrementAndGet();
+                return item.getName();
+            }, equalTo(value));
+            return this;
+        }
+    }
+
+    @Value
+    public static class SomeBean {
+        private int id;
+        private String name;
+    }
+}
@@ -0,0 +1,636 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.EvaluationOrder;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertySnapshot;
+import lombok.Value;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DirectPropertyMatcherTest {
+
+    @Test
+    void testMatches_WithMatchingProperties_ShouldMatch()
+            throws Exception {
+        // Preparation
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher()
+                .withFirstProperty(equalTo("firstPropertyValue"))
+                .withSecondProperty(equalTo("secondPropertyValue"));
+
+        // Execution
+        final boolean matches = classUnderTest.matches(
+                new ClassTwoProperties("firstPropertyValue", "secondPropertyValue"));
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+    }
+
+    @Test
+    void testMatches_WithNotMatchingProperty_ShouldNotMatch()
+            throws Exception {
+        // Preparation
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher()
+                .withFirstProperty(equalTo("firstPropertyValue"))
+                .withSecondProperty(equalTo("notMatchingValue"));
+
+        // Execution
+        final boolean matches = classUnderTest.matches(
+                new ClassTwoProperties("firstPropertyValue", "secondPropertyValue"));
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+    }
+
+    @Test
+    void testMatches_InstanceOfDifferentType_ShouldNotMatch()
+            throws Exception {
+        // Preparation
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher();
+
+        // Execution
+        final boolean matches = classUnderTest.matches("someString");
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+    }
+
+    @Test
+    void testDescribeTo_WithProperties_DescriptionShouldBeTheSameAsTheOneOfTheBeanPropertyMatcher()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new ClassTwoPropertiesMatcher()
+                .withFirstProperty(equalTo("firstPropertyValue"))
+                .withSecondProperty(equalTo("secondPropertyValue"));
+        final Matcher<?> beanPropertyMatcher = new BeanPropertyMatcher<>(ClassTwoProperties.class)
+                .with("firstProperty", equalTo("firstPropertyValue"))
+                .with("secondProperty", equalTo("secondPropertyValue"));
+
+        // Execution
+        final String description = StringDescription.toString(classUnderTest);
+
+        // Assertion
+        assertThat(description, is(equalTo(StringDescription.toString(beanPropertyMatcher))));
+    }
+
+    @Test
+    void testDescribeMismatch_WithNotMatchingProperties_DescriptionShouldBeTheSameAsTheOneOfTheBeanPropertyMatcher()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new ClassTwoPropertiesMatcher()
+                .withFirstProperty(equalTo("expectedPropertyValue1"))
+                .withSecondProperty(equalTo("expectedPropertyValue2"));
+        final Matcher<?> beanPropertyMatcher = new BeanPropertyMatcher<>(ClassTwoProperties.class)
+                .with("firstProperty", equalTo("expectedPropertyValue1"))
+                .with("secondProperty", equalTo("expectedPropertyValue2"));
+        final ClassTwoProperties modelClass =
+                new ClassTwoProperties("unexpectedPropertyValue1", "unexpectedPropertyValue2");
+
+        final Description description = new StringDescription();
+        final Description expectedDescription = new StringDescription();
+        beanPropertyMatcher.describeMismatch(modelClass, expectedDescription);
+
+        // Execution
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(expectedDescription.toString())));
+    }
+
+    @Test
+    void testDescribeMismatch_WrongTypeGiven_DescriptionShouldContainTypeInformationOfGivenWrongType()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new ClassTwoPropertiesMatcher();
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.describeMismatch("someString", description);
+
+        // Assertion
+        assertThat(description.toString(), startsWith("was a " + String.class.getName()));
+    }
+
+    @Test
+    void testAddPropertyCheck_AlreadyUsedMatcher_ShouldBeFrozenAndNotBeChangeable()
+            throws Exception {
+        // Preparation
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher()
+                .withFirstProperty(equalTo("firstPropertyValue"));
+        classUnderTest.matches(new ClassTwoProperties("firstPropertyValue", "secondPropertyValue"));
+
+        // Execution
+        assertThrows(IllegalStateException.class,
+                () -> classUnderTest.withSecondProperty(equalTo("secondPropertyValue")));
+    }
+
+    @Test
+    void testAddPropertyCheck_FrozenMatcher_ShouldNotBeChangeable()
+            throws Exception {
+        // Preparation
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher();
+        classUnderTest.freeze();
+
+        // Execution
+        assertThrows(IllegalStateException.class,
+                () -> classUnderTest.withSecondProperty(equalTo("secondPropertyValue")));
+    }
+
+    @Test
+    void testDescribeMismatch_AfterNotMatchingTheSameObject_ShouldNotCallAnyAccessorTwice()
+            throws Exception {
+        // Preparation
+        final AtomicInteger accessorCalls = new AtomicInteger();
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher()
+                .withCountedFirstProperty(accessorCalls, equalTo("unexpectedValue"))
+                .withCountedSecondProperty(accessorCalls, equalTo("unexpectedValue"));
+        final ClassTwoProperties modelClass = new ClassTwoProperties("firstPropertyValue", "secondPropertyValue");
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(
+                " property 'firstProperty' was \"firstPropertyValue\" and " +
+                        " property 'secondProperty' was \"secondPropertyValue\"")));
+        assertThat(accessorCalls.get(), is(2));
+    }
+
+    @Test
+    void testDescribeMismatch_SeveralChecksOfTheSameProperty_ShouldCallTheAccessorOnlyOnce()
+            throws Exception {
+        // Preparation
+        final AtomicInteger accessorCalls = new AtomicInteger();
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher()
+                .withCountedFirstProperty(accessorCalls, startsWith("first"))
+                .withCountedFirstProperty(accessorCalls, equalTo("unexpectedValue"));
+        final ClassTwoProperties modelClass = new ClassTwoProperties("firstPropertyValue", "secondPropertyValue");
+        final Description description = new StringDescription();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(description.toString(), is(equalTo(" property 'firstProperty' was \"firstPropertyValue\"")));
+        assertThat(accessorCalls.get(), is(1));
+    }
+
+    @Test
+    void testMatches_SeveralChecksOfTheSamePrimitiveProperty_ShouldCallTheAccessorOnlyOnce()
+            throws Exception {
+        // Preparation
+        final AtomicInteger accessorCalls = new AtomicInteger();
+        final PrimitivePropertiesMatcher classUnderTest = new PrimitivePropertiesMatcher();
+        classUnderTest.withCountedCount(accessorCalls, greaterThan(1))
+                .withCountedCount(accessorCalls, 3)
+                .withCountedCountBetween(accessorCalls, 1, 3);
+
+        // Execution
+        final boolean matches = classUnderTest.matches(new ClassWithPrimitiveProperties(3, 'a', 0.25f));
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+        assertThat(accessorCalls.get(), is(1));
+    }
+
+    @Test
+    void testMatches_AdaptiveEvaluationOrder_ShouldCheckTheMostlyFailingPropertyFirst()
+            throws Exception {
+        // Preparation
+        final AtomicInteger firstAccessorCalls = new AtomicInteger();
+        final AtomicInteger secondAccessorCalls = new AtomicInteger();
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher()
+                .withCountedFirstProperty(firstAccessorCalls, equalTo("firstPropertyValue"))
+                .withCountedSecondProperty(secondAccessorCalls, equalTo("unexpectedValue"));
+        classUnderTest.inEvaluationOrder(EvaluationOrder.ADAPTIVE);
+        final ClassTwoProperties modelClass = new ClassTwoProperties("firstPropertyValue", "secondPropertyValue");
+        for (int i = 0; i < 1000; i++) {
+            classUnderTest.matches(modelClass);
+        }
+        firstAccessorCalls.set(0);
+        secondAccessorCalls.set(0);
+
+        // Execution
+        for (int i = 0; i < 100; i++) {
+            classUnderTest.matches(modelClass);
+        }
+
+        // Assertion
+        assertThat("first accessor calls", firstAccessorCalls.get(), is(0));
+        assertThat("second accessor calls", secondAccessorCalls.get(), is(100));
+    }
+
+    @Test
+    void testDescribeMismatch_NotMatchingPrimitiveProperties_DescriptionsShouldBeTheSameAsTheOnesOfBoxedEqualityChecks()
+            throws Exception {
+        // Preparation
+        final PrimitivePropertiesMatcher classUnderTest = new PrimitivePropertiesMatcher();
+        classUnderTest.withCount(42).withLetter('b').withRatio(0.5f);
+        final PrimitivePropertiesMatcher boxedMatcher = new PrimitivePropertiesMatcher();
+        boxedMatcher.withBoxed("count", ClassWithPrimitiveProperties::getCount, equalTo(42))
+                .withBoxed("letter", ClassWithPrimitiveProperties::getLetter, equalTo('b'))
+                .withBoxed("ratio", ClassWithPrimitiveProperties::getRatio, equalTo(0.5f));
+        final ClassWithPrimitiveProperties modelClass = new ClassWithPrimitiveProperties(1, 'a', 0.25f);
+
+        final Description description = new StringDescription();
+        final Description expectedDescription = new StringDescription();
+        boxedMatcher.describeMismatch(modelClass, expectedDescription);
+
+        // Execution
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat(StringDescription.toString(classUnderTest), is(equalTo(StringDescription.toString(boxedMatcher))));
+        assertThat(description.toString(), is(equalTo(expectedDescription.toString())));
+    }
+
+    @Test
+    void testMatches_PrimitivePropertiesInRangeAndCloseToExpectedValue_ShouldMatch()
+            throws Exception {
+        // Preparation
+        final PrimitivePropertiesMatcher classUnderTest = new PrimitivePropertiesMatcher();
+        classUnderTest.withCountBetween(1, 3).withRatioCloseTo(0.3, 0.1);
+
+        // Execution
+        final boolean matches = classUnderTest.matches(new ClassWithPrimitiveProperties(3, 'a', 0.25f));
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+    }
+
+    @Test
+    void testDescribeMismatch_CharPropertyOutOfRange_ShouldDescribeTheCharLikeTheBoxedMatcher()
+            throws Exception {
+        // Preparation
+        final PrimitivePropertiesMatcher classUnderTest = new PrimitivePropertiesMatcher();
+        classUnderTest.withLetterBetween('b', 'd');
+        final PrimitivePropertiesMatcher boxedMatcher = new PrimitivePropertiesMatcher()
+                .withBoxed("letter", ClassWithPrimitiveProperties::getLetter,
+                        both(greaterThanOrEqualTo('b')).and(lessThanOrEqualTo('d')));
+        final ClassWithPrimitiveProperties modelClass = new ClassWithPrimitiveProperties(3, 'a', 0.25f);
+        final Description description = new StringDescription();
+        final Description expectedDescription = new StringDescription();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+        boxedMatcher.describeMismatch(modelClass, expectedDescription);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat("matches in range", classUnderTest.matches(new ClassWithPrimitiveProperties(3, 'c', 0.25f)),
+                is(true));
+        assertThat(StringDescription.toString(classUnderTest), is(equalTo(StringDescription.toString(boxedMatcher))));
+        assertThat(description.toString(), is(equalTo(expectedDescription.toString())));
+    }
+
+    @Test
+    void testDescribeMismatch_PrimitivePropertiesOutOfRangeAndNotCloseToExpectedValue_ShouldDescribeBothMismatches()
+            throws Exception {
+        // Preparation
+        final PrimitivePropertiesMatcher classUnderTest = new PrimitivePropertiesMatcher();
+        classUnderTest.withCountBetween(1, 3).withRatioCloseTo(1, 0.5);
+        final ClassWithPrimitiveProperties modelClass = new ClassWithPrimitiveProperties(4, 'a', 0.25f);
+        final Description description = new StringDescription();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(description.toString(), is(equalTo(
+                " property 'count' a value less than or equal to <3> <4> was greater than <3>" +
+                        " and  property 'ratio' <0.25> differed by <0.25> more than delta <0.5>")));
+    }
+
+    @Test
+    void testMatches_SnapshotWithPrimitiveValues_ShouldMatchWithoutCallingAnyAccessor()
+            throws Exception {
+        // Preparation
+        final AtomicInteger accessorCalls = new AtomicInteger();
+        final PrimitivePropertiesMatcher classUnderTest = new PrimitivePropertiesMatcher();
+        classUnderTest.withCountedCount(accessorCalls, 2).withCountBetween(1, 3).withLetter('a').withRatio(0.25f);
+        final PropertySnapshot snapshot = new MapSnapshot(ClassWithPrimitiveProperties.class,
+                Map.of("count", 2, "letter", 'a', "ratio", 0.25f));
+
+        // Execution
+        final boolean matches = classUnderTest.matches(snapshot);
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+        assertThat(accessorCalls.get(), is(0));
+        assertThat("matches other value", classUnderTest.matches(new MapSnapshot(ClassWithPrimitiveProperties.class,
+                Map.of("count", 3, "letter", 'a', "ratio", 0.25f))), is(false));
+    }
+
+    @Test
+    void testAsPredicate_WithMatchingAndNotMatchingItems_ShouldAcceptTheItemsTheMatcherMatches()
+            throws Exception {
+        // Preparation
+        final PrimitivePropertiesMatcher classUnderTest = new PrimitivePropertiesMatcher();
+        classUnderTest.withCountBetween(1, 3).withLetter('a').withRatioCloseTo(0.25, 0.01);
+
+        // Execution
+        final Predicate<ClassWithPrimitiveProperties> predicate = classUnderTest.asPredicate();
+
+        // Assertion
+        assertThat("matching", predicate.test(new ClassWithPrimitiveProperties(2, 'a', 0.25f)), is(true));
+        assertThat("out of range", predicate.test(new ClassWithPrimitiveProperties(4, 'a', 0.25f)), is(false));
+        assertThat("other letter", predicate.test(new ClassWithPrimitiveProperties(2, 'b', 0.25f)), is(false));
+        assertThat("not close", predicate.test(new ClassWithPrimitiveProperties(2, 'a', 0.5f)), is(false));
+        assertThat("null", predicate.test(null), is(false));
+    }
+
+    @Test
+    void testAsPredicate_PredicateCreated_MatcherShouldBeFrozen()
+            throws Exception {
+        // Preparation
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher()
+                .withFirstProperty(equalTo("firstPropertyValue"));
+
+        // Execution
+        classUnderTest.asPredicate();
+
+        // Assertion
+        assertThrows(IllegalStateException.class,
+                () -> classUnderTest.withSecondProperty(equalTo("secondPropertyValue")));
+    }
+
+    @Test
+    void testMatches_ReadingSlowPropertiesConcurrently_ShouldTakeAboutAsLongAsTheSlowestAccessor()
+            throws Exception {
+        // Preparation
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher()
+                .withSlowFirstProperty(300, equalTo("firstPropertyValue"))
+                .withSlowSecondProperty(300, equalTo("secondPropertyValue"));
+        classUnderTest.readingPropertiesConcurrently(executor, Duration.ofSeconds(10));
+        final long start = System.nanoTime();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(
+                new ClassTwoProperties("firstPropertyValue", "secondPropertyValue"));
+
+        // Assertion
+        final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        executor.shutdownNow();
+        assertThat("matches", matches, is(true));
+        assertThat(duration, is(lessThan(Duration.ofMillis(550))));
+    }
+
+    @Test
+    void testDescribeMismatch_PropertyNotReadInTime_ShouldDescribeTheTimeout()
+            throws Exception {
+        // Preparation
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher()
+                .withSlowFirstProperty(5_000, equalTo("firstPropertyValue"))
+                .withSlowSecondProperty(0, equalTo("secondPropertyValue"));
+        classUnderTest.readingPropertiesConcurrently(executor, Duration.ofMillis(100));
+        final ClassTwoProperties modelClass = new ClassTwoProperties("firstPropertyValue", "secondPropertyValue");
+        final Description description = new StringDescription();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        executor.shutdownNow();
+        assertThat("matches", matches, is(false));
+        assertThat(description.toString(), is("property \"firstProperty\" has not been read within PT0.1S"));
+    }
+
+    @Test
+    void testDescribeMismatch_AfterNotMatchingWithConcurrentReads_ShouldNotCallAnyAccessorTwice()
+            throws Exception {
+        // Preparation
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final AtomicInteger accessorCalls = new AtomicInteger();
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher()
+                .withCountedFirstProperty(accessorCalls, equalTo("unexpectedValue"))
+                .withCountedSecondProperty(accessorCalls, equalTo("unexpectedValue"));
+        classUnderTest.readingPropertiesConcurrently(executor, Duration.ofSeconds(10));
+        final ClassTwoProperties modelClass = new ClassTwoProperties("firstPropertyValue", "secondPropertyValue");
+        final Description description = new StringDescription();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        executor.shutdownNow();
+        assertThat("matches", matches, is(false));
+        assertThat(description.toString(), is(equalTo(
+                " property 'firstProperty' was \"firstPropertyValue\" and " +
+                        " property 'secondProperty' was \"secondPropertyValue\"")));
+        assertThat(accessorCalls.get(), is(2));
+    }
+
+    @Test
+    void testDescribeMismatch_PropertiesNotReadInTime_ShouldNotBeReadAgain()
+            throws Exception {
+        // Preparation
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final ClassTwoPropertiesMatcher classUnderTest = new ClassTwoPropertiesMatcher()
+                .withSlowFirstProperty(0, equalTo("unexpectedValue"))
+                .withSlowSecondProperty(5_000, equalTo("secondPropertyValue"));
+        classUnderTest.readingPropertiesConcurrently(executor, Duration.ofMillis(100));
+        final ClassTwoProperties modelClass = new ClassTwoProperties("firstPropertyValue", "secondPropertyValue");
+        final Description description = new StringDescription();
+        final long start = System.nanoTime();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        executor.shutdownNow();
+        assertThat("matches", matches, is(false));
+        assertThat(description.toString(), is(equalTo(" property 'firstProperty' was \"firstPropertyValue\" and " +
+                "property \"secondProperty\" has not been read within PT0.1S")));
+        assertThat(duration, is(lessThan(Duration.ofSeconds(2))));
+    }
+
+    private static class ClassTwoPropertiesMatcher extends DirectPropertyMatcher<ClassTwoProperties> {
+
+        ClassTwoPropertiesMatcher() {
+            super(ClassTwoProperties.class);
+        }
+
+        ClassTwoPropertiesMatcher withFirstProperty(final Matcher<? super String> matcher) {
+            addPropertyCheck("firstProperty", ClassTwoProperties::getFirstProperty, matcher);
+            return this;
+        }
+
+        ClassTwoPropertiesMatcher withSecondProperty(final Matcher<? super String> matcher) {
+            addPropertyCheck("secondProperty", ClassTwoProperties::getSecondProperty, matcher);
+            return this;
+        }
+
+        ClassTwoPropertiesMatcher withCountedFirstProperty(final AtomicInteger accessorCalls,
+                                                           final Matcher<? super String> matcher) {
+            addPropertyCheck("firstProperty", item -> {
+                accessorCalls.incrementAndGet();
+                return item.getFirstProperty();
+            }, matcher);
+            return this;
+        }
+
+        ClassTwoPropertiesMatcher withCountedSecondProperty(final AtomicInteger accessorCalls,
+                                                            final Matcher<? super String> matcher) {
+            addPropertyCheck("secondProperty", item -> {
+                accessorCalls.incrementAndGet();
+                return item.getSecondProperty();
+            }, matcher);
+            return this;
+        }
+
+        ClassTwoPropertiesMatcher withSlowFirstProperty(final long millis, final Matcher<? super String> matcher) {
+            addPropertyCheck("firstProperty", item -> {
+                sleep(millis);
+                return item.getFirstProperty();
+            }, matcher);
+            return this;
+        }
+
+        ClassTwoPropertiesMatcher withSlowSecondProperty(final long millis, final Matcher<? super String> matcher) {
+            addPropertyCheck("secondProperty", item -> {
+                sleep(millis);
+                return item.getSecondProperty();
+            }, matcher);
+            return this;
+        }
+
+        private static void sleep(final long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class PrimitivePropertiesMatcher extends DirectPropertyMatcher<ClassWithPrimitiveProperties> {
+
+        PrimitivePropertiesMatcher() {
+            super(ClassWithPrimitiveProperties.class);
+        }
+
+        PrimitivePropertiesMatcher withCount(final int value) {
+            addIntPropertyCheck("count", ClassWithPrimitiveProperties::getCount, value);
+            return this;
+        }
+
+        PrimitivePropertiesMatcher withCountBetween(final int min, final int max) {
+            addIntRangePropertyCheck("count", ClassWithPrimitiveProperties::getCount, min, max);
+            return this;
+        }
+
+        PrimitivePropertiesMatcher withLetter(final char value) {
+            addCharPropertyCheck("letter", ClassWithPrimitiveProperties::getLetter, value);
+            return this;
+        }
+
+        PrimitivePropertiesMatcher withLetterBetween(final char min, final char max) {
+            addCharRangePropertyCheck("letter", ClassWithPrimitiveProperties::getLetter, min, max);
+            return this;
+        }
+
+        PrimitivePropertiesMatcher withRatio(final float value) {
+            addFloatPropertyCheck("ratio", ClassWithPrimitiveProperties::getRatio, value);
+            return this;
+        }
+
+        PrimitivePropertiesMatcher withRatioCloseTo(final double value, final double error) {
+            addCloseToPropertyCheck("ratio", ClassWithPrimitiveProperties::getRatio, value, error);
+            return this;
+        }
+
+        PrimitivePropertiesMatcher withCountedCount(final AtomicInteger accessorCalls,
+                                                    final Matcher<? super Integer> matcher) {
+            addIntPropertyCheck("count", countedCount(accessorCalls), matcher);
+            return this;
+        }
+
+        PrimitivePropertiesMatcher withCountedCount(final AtomicInteger accessorCalls, final int value) {
+            addIntPropertyCheck("count", countedCount(accessorCalls), value);
+            return this;
+        }
+
+        PrimitivePropertiesMatcher withCountedCountBetween(final AtomicInteger accessorCalls,
+                                                           final int min,
+                                                           final int max) {
+            addIntRangePropertyCheck("count", countedCount(accessorCalls), min, max);
+            return this;
+        }
+
+        private static ToIntFunction<ClassWithPrimitiveProperties> countedCount(final AtomicInteger accessorCalls) {
+            return item -> {
+                accessorCalls.incrementAndGet();
+                return item.getCount();
+            };
+        }
+
+        PrimitivePropertiesMatcher withBoxed(final String propertyName,
+                                             final Function<ClassWithPrimitiveProperties, ?> getter,
+                                             final Matcher<?> matcher) {
+            addPropertyCheck(propertyName, getter, matcher);
+            return this;
+        }
+    }
+
+    @Value
+    public static class ClassWithPrimitiveProperties {
+        private int count;
+        private char letter;
+        private float ratio;
+    }
+
+    @Value
+    public static class ClassTwoProperties {
+        private String firstProperty;
+        private String secondProperty;
+    }
+
+    @Value
+    public static class MapSnapshot implements PropertySnapshot {
+        private Class<?> snapshotType;
+        private Map<String, Object> values;
+
+        @Override
+        public Object getPropertyValue(final String propertyName) {
+            if (!values.containsKey(propertyName)) {
+                throw new IllegalArgumentException("No property \"" + propertyName + "\"");
+            }
+            return values.get(propertyName);
+        }
+    }
+}
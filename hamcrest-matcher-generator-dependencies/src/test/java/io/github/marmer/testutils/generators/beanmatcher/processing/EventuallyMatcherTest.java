@@ -0,0 +1,197 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.EventuallyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.EventuallyMatcher.ChangeSignal;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.EventuallyMatcher.eventually;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+
+class EventuallyMatcherTest {
+
+    @Test
+    void testMatches_ValueUpdatedByAnotherThread_ShouldMatchAfterTheUpdate()
+            throws Exception {
+        // Preparation
+        final SomeStatus status = new SomeStatus("starting");
+        final Thread updater = new Thread(() -> {
+            sleep(100);
+            status.setState("running");
+        });
+        updater.start();
+
+        // Execution
+        final boolean matches = eventually(new BeanPropertyMatcher<SomeStatus>(SomeStatus.class)
+                .with("state", equalTo("running")))
+                .matches(status);
+
+        // Assertion
+        updater.join();
+        assertThat("matches", matches, is(true));
+    }
+
+    @Test
+    void testDescribeMismatch_ValueNotMatchingInTime_ShouldDescribeTheLastMismatch()
+            throws Exception {
+        // Preparation
+        final SomeStatus status = new SomeStatus("starting");
+        final EventuallyMatcher<SomeStatus> classUnderTest =
+                eventually(new BeanPropertyMatcher<SomeStatus>(SomeStatus.class).with("state", equalTo("running")))
+                        .within(Duration.ofMillis(100))
+                        .pollingEvery(Duration.ofMillis(40));
+
+        // Execution
+        final boolean matches = classUnderTest.matches(status);
+        status.setState("stopped");
+        final StringDescription mismatchDescription = new StringDescription();
+        classUnderTest.describeMismatch(status, mismatchDescription);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(mismatchDescription.toString(),
+                is(both(startsWith("after "))
+                        .and(endsWith(" evaluations within PT0.1S  property 'state' was \"starting\""))));
+    }
+
+    @Test
+    void testDescribeMismatch_ValueMatchedByAnotherThreadInBetween_ShouldDescribeTheMismatchOfTheOwnThread()
+            throws Exception {
+        // Preparation
+        final SomeStatus status = new SomeStatus("starting");
+        final EventuallyMatcher<SomeStatus> classUnderTest =
+                eventually(new BeanPropertyMatcher<SomeStatus>(SomeStatus.class).with("state", equalTo("running")))
+                        .within(Duration.ofMillis(50));
+        final Thread otherThread = new Thread(() -> classUnderTest.matches(status));
+
+        // Execution
+        final boolean matches = classUnderTest.matches(status);
+        status.setState("running");
+        otherThread.start();
+        otherThread.join();
+        status.setState("stopped");
+        final StringDescription mismatchDescription = new StringDescription();
+        classUnderTest.describeMismatch(status, mismatchDescription);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(mismatchDescription.toString(),
+                is(both(startsWith("after "))
+                        .and(endsWith(" evaluations within PT0.05S  property 'state' was \"starting\""))));
+    }
+
+    @Test
+    void testMatches_NeverMatchingValue_IntervalsShouldBackOff()
+            throws Exception {
+        // Preparation
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        // Execution
+        final boolean matches = eventually(new NeverMatching(evaluations))
+                .within(Duration.ofMillis(600))
+                .pollingEvery(Duration.ofMillis(10))
+                .backingOffBy(2, Duration.ofSeconds(1))
+                .matches("someValue");
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(evaluations.get(), is(both(greaterThan(3)).and(lessThan(10))));
+    }
+
+    @Test
+    void testMatches_SignaledChange_ShouldEvaluateTheValueRightAfterTheChange()
+            throws Exception {
+        // Preparation
+        final SomeStatus status = new SomeStatus("starting");
+        final ChangeSignal changeSignal = new ChangeSignal();
+        final Thread updater = new Thread(() -> {
+            sleep(100);
+            status.setState("running");
+            changeSignal.signal();
+        });
+        final long start = System.nanoTime();
+        updater.start();
+
+        // Execution
+        final boolean matches = eventually(new BeanPropertyMatcher<SomeStatus>(SomeStatus.class)
+                .with("state", equalTo("running")))
+                .within(Duration.ofSeconds(30))
+                .pollingEvery(Duration.ofSeconds(20))
+                .wakingOn(changeSignal)
+                .matches(status);
+
+        // Assertion
+        updater.join();
+        assertThat("matches", matches, is(true));
+        assertThat(Duration.ofNanos(System.nanoTime() - start), is(lessThan(Duration.ofSeconds(10))));
+    }
+
+    @Test
+    void testDescribeTo_ShouldDescribeTheDeadlineAndTheMatcher()
+            throws Exception {
+        // Execution
+        final String description = StringDescription.toString(eventually(equalTo("running"))
+                .within(Duration.ofSeconds(5)));
+
+        // Assertion
+        assertThat(description, is("eventually within PT5S \"running\""));
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class NeverMatching extends TypeSafeMatcher<String> {
+
+        private final AtomicInteger evaluations;
+
+        NeverMatching(final AtomicInteger evaluations) {
+            this.evaluations = evaluations;
+        }
+
+        @Override
+        protected boolean matchesSafely(final String item) {
+            evaluations.incrementAndGet();
+            return false;
+        }
+
+        @Override
+        public void describeTo(final Description description) {
+            description.appendText("nothing");
+        }
+    }
+
+    public static class SomeStatus {
+
+        private volatile String state;
+
+        SomeStatus(final String state) {
+            this.state = state;
+        }
+
+        public String getState() {
+            return state;
+        }
+
+        public void setState(final String state) {
+            this.state = state;
+        }
+    }
+}
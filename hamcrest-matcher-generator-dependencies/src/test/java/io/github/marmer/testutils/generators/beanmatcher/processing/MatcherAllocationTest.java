@@ -0,0 +1,168 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.EvaluationOrder;
+import lombok.Value;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Predicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Pins the allocation rate of successful matches and of predicate evaluations at 0 bytes per evaluation. Allocations
+ * are measured per thread, so neither other threads nor the JIT compiler influence the measurement.
+ */
+class MatcherAllocationTest {
+
+    private static final int WARMUP_MATCHES = 50_000;
+    private static final int MEASURED_MATCHES = 100_000;
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Thread allocation measurement is not supported by this JVM");
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(),
+                "Thread allocation measurement is not supported by this JVM");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void testMatches_DirectPropertyMatcherWithMatchingItem_ShouldNotAllocate()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new SomeBeanMatcher()
+                .withName(equalTo("someName"))
+                .withCount(42)
+                .withRatioCloseTo(0.5, 0.01);
+        final SomeBean item = new SomeBean("someName", 42, 0.5);
+
+        // Execution
+        final double allocatedBytesPerMatch = allocatedBytesPerMatch(classUnderTest, item);
+
+        // Assertion
+        assertThat(allocatedBytesPerMatch, is(lessThan(1.0)));
+    }
+
+    @Test
+    void testMatches_AdaptiveDirectPropertyMatcherWithMatchingItem_ShouldNotAllocate()
+            throws Exception {
+        // Preparation
+        final SomeBeanMatcher classUnderTest = new SomeBeanMatcher()
+                .withName(equalTo("someName"))
+                .withCount(42);
+        classUnderTest.inEvaluationOrder(EvaluationOrder.ADAPTIVE);
+        final SomeBean item = new SomeBean("someName", 42, 0.5);
+
+        // Execution
+        final double allocatedBytesPerMatch = allocatedBytesPerMatch(classUnderTest, item);
+
+        // Assertion
+        assertThat(allocatedBytesPerMatch, is(lessThan(1.0)));
+    }
+
+    @Test
+    void testMatches_BeanPropertyMatcherWithMatchingItem_ShouldNotAllocate()
+            throws Exception {
+        // Preparation
+        final Matcher<?> classUnderTest = new BeanPropertyMatcher<SomeBean>(SomeBean.class)
+                .with("name", equalTo("someName"))
+                .with("count");
+        final SomeBean item = new SomeBean("someName", 42, 0.5);
+
+        // Execution
+        final double allocatedBytesPerMatch = allocatedBytesPerMatch(classUnderTest, item);
+
+        // Assertion
+        assertThat(allocatedBytesPerMatch, is(lessThan(1.0)));
+    }
+
+    @Test
+    void testAsPredicate_NotMatchingItem_ShouldNotAllocate()
+            throws Exception {
+        // Preparation
+        final Predicate<SomeBean> classUnderTest = new SomeBeanMatcher()
+                .withName(equalTo("someName"))
+                .withCount(42)
+                .asPredicate();
+        final SomeBean item = new SomeBean("someName", 4242, 0.5);
+
+        // Execution
+        final double allocatedBytesPerTest = allocatedBytesPerEvaluation(classUnderTest.negate(), item);
+
+        // Assertion
+        assertThat(allocatedBytesPerTest, is(lessThan(1.0)));
+    }
+
+    private double allocatedBytesPerMatch(final Matcher<?> matcher, final Object item) {
+        return allocatedBytesPerEvaluation(matcher::matches, item);
+    }
+
+    /**
+     * @param evaluation Evaluation which has to be {@code true} for the item.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> double allocatedBytesPerEvaluation(final Predicate<T> evaluation, final Object item) {
+        final long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP_MATCHES; i++) {
+            assertMatches(evaluation, (T) item);
+        }
+
+        final long measurementStart = threadMXBean.getThreadAllocatedBytes(threadId);
+        final long measurementOverhead = threadMXBean.getThreadAllocatedBytes(threadId) - measurementStart;
+
+        final long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_MATCHES; i++) {
+            assertMatches(evaluation, (T) item);
+        }
+        final long allocatedBytesAfter = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        return (allocatedBytesAfter - allocatedBytesBefore - measurementOverhead) / (double) MEASURED_MATCHES;
+    }
+
+    private static <T> void assertMatches(final Predicate<T> evaluation, final T item) {
+        if (!evaluation.test(item)) {
+            throw new AssertionError("Item should match");
+        }
+    }
+
+    private static class SomeBeanMatcher extends DirectPropertyMatcher<SomeBean> {
+
+        SomeBeanMatcher() {
+            super(SomeBean.class);
+        }
+
+        SomeBeanMatcher withName(final Matcher<? super String> matcher) {
+            addPropertyCheck("name", SomeBean::getName, matcher);
+            return this;
+        }
+
+        SomeBeanMatcher withCount(final int value) {
+            addIntPropertyCheck("count", SomeBean::getCount, value);
+            return this;
+        }
+
+        SomeBeanMatcher withRatioCloseTo(final double value, final double error) {
+            addCloseToPropertyCheck("ratio", SomeBean::getRatio, value, error);
+            return this;
+        }
+    }
+
+    @Value
+    public static class SomeBean {
+        private String name;
+        private int count;
+        private double ratio;
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherIndex;
+import lombok.Value;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+class MatcherIndexTest {
+
+    @Test
+    void testMatching_MixedMatchers_ShouldReturnAllMatchingMatchersInTheirOrder()
+            throws Exception {
+        // Preparation
+        final Matcher<?> nameAndCount = new SomeBeanMatcher().withName("someName").withCount(42);
+        final Matcher<?> otherName = new SomeBeanMatcher().withName("otherName");
+        final Matcher<?> nameAndNotMatchingCount = new SomeBeanMatcher().withName("someName").withCount(43);
+        final Matcher<?> countOnly = new SomeBeanMatcher().withCount(42);
+        final Matcher<?> nameAndCountRange = new SomeBeanMatcher().withName("someName").withCount(greaterThan(40));
+        final Matcher<?> noChecks = new SomeBeanMatcher();
+        final Matcher<?> hamcrestMatcher = hasProperty("name", startsWith("some"));
+        final MatcherIndex<Matcher<?>> classUnderTest = MatcherIndex.of(List.of(nameAndCount, otherName,
+                nameAndNotMatchingCount, countOnly, nameAndCountRange, noChecks, hamcrestMatcher));
+
+        // Execution
+        final List<Matcher<?>> matching = classUnderTest.matching(new SomeBean("someName", 42));
+
+        // Assertion
+        assertThat(matching, contains(nameAndCount, countOnly, nameAndCountRange, noChecks, hamcrestMatcher));
+    }
+
+    @Test
+    void testMatching_ManyMatchersWithEqualityChecks_ShouldReadEachIndexedPropertyOnlyOnce()
+            throws Exception {
+        // Preparation
+        final AtomicInteger nameAccessorCalls = new AtomicInteger();
+        final AtomicInteger countAccessorCalls = new AtomicInteger();
+        final List<SomeBeanMatcher> matchers = IntStream.range(0, 1_000)
+                .mapToObj(i -> new SomeBeanMatcher()
+                        .withCountedName(nameAccessorCalls, "name" + i)
+                        .withCountedCount(countAccessorCalls, i % 2))
+                .collect(Collectors.toList());
+        final MatcherIndex<SomeBeanMatcher> classUnderTest = MatcherIndex.of(matchers);
+
+        // Execution
+        final List<SomeBeanMatcher> matching = classUnderTest.matching(new SomeBean("name501", 1));
+
+        // Assertion
+        assertThat(matching, is(List.of(matchers.get(501))));
+        assertThat(nameAccessorCalls.get(), is(1));
+        assertThat(countAccessorCalls.get(), is(1));
+    }
+
+    @Test
+    void testMatching_ItemOfAnotherType_ShouldNotMatchAnyIndexedMatcher()
+            throws Exception {
+        // Preparation
+        final MatcherIndex<Matcher<?>> classUnderTest =
+                MatcherIndex.of(List.of(new SomeBeanMatcher().withName("someName"), new SomeBeanMatcher()));
+
+        // Execution
+        final List<Matcher<?>> matching = classUnderTest.matching("someName");
+
+        // Assertion
+        assertThat(matching, is(empty()));
+    }
+
+    @Test
+    void testMatching_NullPropertyValues_ShouldBeLookedUpLikeAnyOtherValue()
+            throws Exception {
+        // Preparation
+        final Matcher<?> nullName = new SomeBeanMatcher().withName(null);
+        final MatcherIndex<Matcher<?>> classUnderTest =
+                MatcherIndex.of(List.of(new SomeBeanMatcher().withName("someName"), nullName));
+
+        // Execution
+        final List<Matcher<?>> matching = classUnderTest.matching(new SomeBean(null, 42));
+
+        // Assertion
+        assertThat(matching, is(List.of(nullName)));
+    }
+
+    private static class SomeBeanMatcher extends DirectPropertyMatcher<SomeBean> {
+
+        SomeBeanMatcher() {
+            super(SomeBean.class);
+        }
+
+        SomeBeanMatcher withName(final String value) {
+            addEqualityPropertyCheck("name", SomeBean::getName, value);
+            return this;
+        }
+
+        SomeBeanMatcher withCount(final int value) {
+            addIntPropertyCheck("count", SomeBean::getCount, value);
+            return this;
+        }
+
+        SomeBeanMatcher withCount(final Matcher<? super Integer> matcher) {
+            addIntPropertyCheck("count", SomeBean::getCount, matcher);
+            return this;
+        }
+
+        SomeBeanMatcher withCountedName(final AtomicInteger accessorCalls, final String value) {
+            addEqualityPropertyCheck("name", item -> {
+                accessorCalls.incrementAndGet();
+                return item.getName();
+            }, value);
+            return this;
+        }
+
+        SomeBeanMatcher withCountedCount(final AtomicInteger accessorCalls, final int value) {
+            addIntPropertyCheck("count", item -> {
+                accessorCalls.incrementAndGet();
+                return item.getCount();
+            }, value);
+            return this;
+        }
+    }
+
+    @Value
+    public static class SomeBean {
+        private String name;
+        private int count;
+    }
+}
@@ -0,0 +1,242 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.ParallelItemsMatcher;
+import lombok.Value;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.ParallelItemsMatcher.everyItemInParallel;
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.ParallelItemsMatcher.hasItemInParallel;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+
+class ParallelItemsMatcherTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void testDescribeMismatch_SeveralNotMatchingItems_ShouldAlwaysDescribeTheItemWithTheLowestIndex()
+            throws Exception {
+        // Preparation
+        final Set<Integer> notMatchingIndices = Set.of(30_000, 70_000, 199_999);
+        final List<SomeBean> items = IntStream.range(0, 200_000)
+                .mapToObj(i -> new SomeBean(notMatchingIndices.contains(i) ? "other" : "someName"))
+                .collect(Collectors.toList());
+        final ParallelItemsMatcher<SomeBean> classUnderTest =
+                everyItemInParallel(new BeanPropertyMatcher<SomeBean>(SomeBean.class).with("name", equalTo("someName")))
+                        .inPool(pool);
+
+        for (int run = 0; run < 10; run++) {
+            // Execution
+            final boolean matches = classUnderTest.matches(items);
+            final StringDescription mismatchDescription = new StringDescription();
+            classUnderTest.describeMismatch(items, mismatchDescription);
+
+            // Assertion
+            assertThat("matches", matches, is(false));
+            assertThat(mismatchDescription.toString(),
+                    is("an item at index 30000  property 'name' was \"other\""));
+        }
+    }
+
+    @Test
+    void testDescribeMismatch_ThreadsNotMatchingDifferentIterables_NoThreadShouldEvaluateAnyItemTwice()
+            throws Exception {
+        // Preparation
+        final AtomicInteger evaluations = new AtomicInteger();
+        final ParallelItemsMatcher<Integer> classUnderTest =
+                everyItemInParallel(new CountingMatcher(evaluations, 1)).inPool(pool);
+        final List<Integer> firstItems = List.of(5, 0, 7);
+        final List<Integer> secondItems = List.of(-1, 8);
+        final StringDescription firstDescription = new StringDescription();
+        final StringDescription secondDescription = new StringDescription();
+        final CountDownLatch firstMatched = new CountDownLatch(1);
+        final CountDownLatch secondMatched = new CountDownLatch(1);
+        final Thread secondThread = new Thread(() -> {
+            awaitUninterruptibly(firstMatched);
+            classUnderTest.matches(secondItems);
+            secondMatched.countDown();
+            classUnderTest.describeMismatch(secondItems, secondDescription);
+        });
+        secondThread.start();
+
+        // Execution
+        classUnderTest.matches(firstItems);
+        firstMatched.countDown();
+        awaitUninterruptibly(secondMatched);
+        classUnderTest.describeMismatch(firstItems, firstDescription);
+        secondThread.join();
+
+        // Assertion
+        assertThat(firstDescription.toString(), is("an item at index 1 was <0>"));
+        assertThat(secondDescription.toString(), is("an item at index 0 was <-1>"));
+        assertThat(evaluations.get(), is(3));
+    }
+
+    @Test
+    void testDescribeMismatch_AllItemsMatching_ShouldNotDescribeAnyIndex()
+            throws Exception {
+        // Preparation
+        final List<Integer> items = List.of(1, 2, 3);
+        final ParallelItemsMatcher<Integer> classUnderTest = everyItemInParallel(lessThan(10)).inPool(pool);
+        final StringDescription mismatchDescription = new StringDescription();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(items);
+        classUnderTest.describeMismatch(items, mismatchDescription);
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+        assertThat(mismatchDescription.toString(), is("every item matched"));
+    }
+
+    @Test
+    void testMatches_AllItemsMatching_ShouldNotKeepTheItemsReachable()
+            throws Exception {
+        // Preparation
+        List<Integer> items = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        final WeakReference<List<Integer>> itemsReference = new WeakReference<>(items);
+        final ParallelItemsMatcher<Integer> classUnderTest = everyItemInParallel(lessThan(100_000)).inPool(pool);
+
+        // Execution
+        final boolean matches = classUnderTest.matches(items);
+        items = null;
+        for (int i = 0; i < 50 && itemsReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+        assertThat(itemsReference.get(), is(Matchers.nullValue()));
+        assertThat(classUnderTest.matches(List.of(1)), is(true));
+    }
+
+    @Test
+    void testMatches_AllItemsMatching_EveryItemShouldMatch()
+            throws Exception {
+        // Preparation
+        final List<Integer> items = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+        // Execution
+        final boolean matches = everyItemInParallel(lessThan(100_000)).inPool(pool).matches(items);
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+    }
+
+    @Test
+    void testMatches_NotMatchingFirstItem_ShouldStopEvaluatingTheRemainingItems()
+            throws Exception {
+        // Preparation
+        final AtomicInteger evaluations = new AtomicInteger();
+        final List<Integer> items = IntStream.range(0, 1_000_000).boxed().collect(Collectors.toList());
+        final Matcher<Integer> countingMatcher = new CountingMatcher(evaluations, 1);
+
+        // Execution
+        final boolean matches = everyItemInParallel(countingMatcher).inPool(pool).matches(items);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(evaluations.get(), is(lessThan(500_000)));
+    }
+
+    @Test
+    void testMatches_SingleMatchingItemOfAnIterableWithoutSizedSplits_HasItemShouldMatch()
+            throws Exception {
+        // Preparation
+        final Iterable<Integer> items = () -> IntStream.range(0, 100_000).iterator();
+
+        // Execution
+        final boolean matches = hasItemInParallel(equalTo(99_999)).inPool(pool).matches(items);
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+    }
+
+    @Test
+    void testDescribe_NoMatchingItem_DescriptionsShouldBeTheSameAsTheOnesOfHamcrest()
+            throws Exception {
+        // Preparation
+        final List<Integer> items = List.of(1, 2, 3);
+        final ParallelItemsMatcher<Integer> classUnderTest = hasItemInParallel(equalTo(4));
+        final Matcher<Iterable<? super Integer>> hamcrestMatcher = Matchers.hasItem(equalTo(4));
+
+        // Execution
+        final StringDescription mismatchDescription = new StringDescription();
+        classUnderTest.describeMismatch(items, mismatchDescription);
+        final StringDescription emptyMismatchDescription = new StringDescription();
+        classUnderTest.describeMismatch(new ArrayList<>(), emptyMismatchDescription);
+
+        // Assertion
+        assertThat(classUnderTest.matches(items), is(false));
+        assertThat(mismatchDescription.toString(), is(describeMismatch(hamcrestMatcher, items)));
+        assertThat(emptyMismatchDescription.toString(), is(describeMismatch(hamcrestMatcher, new ArrayList<>())));
+        assertThat(StringDescription.toString(classUnderTest), is(StringDescription.toString(hamcrestMatcher)));
+        assertThat(StringDescription.toString(everyItemInParallel(not(4))),
+                is(StringDescription.toString(Matchers.everyItem(not(4)))));
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String describeMismatch(final Matcher<?> matcher, final Object item) {
+        final StringDescription mismatchDescription = new StringDescription();
+        matcher.describeMismatch(item, mismatchDescription);
+        return mismatchDescription.toString();
+    }
+
+    private static class CountingMatcher extends org.hamcrest.TypeSafeMatcher<Integer> {
+
+        private final AtomicInteger evaluations;
+        private final int minimum;
+
+        CountingMatcher(final AtomicInteger evaluations, final int minimum) {
+            this.evaluations = evaluations;
+            this.minimum = minimum;
+        }
+
+        @Override
+        protected boolean matchesSafely(final Integer item) {
+            evaluations.incrementAndGet();
+            return item >= minimum;
+        }
+
+        @Override
+        public void describeTo(final org.hamcrest.Description description) {
+            description.appendText("at least ").appendValue(minimum);
+        }
+    }
+
+    @Value
+    public static class SomeBean {
+        private String name;
+    }
+}
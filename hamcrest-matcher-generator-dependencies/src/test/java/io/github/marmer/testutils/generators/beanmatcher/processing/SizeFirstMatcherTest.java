@@ -0,0 +1,129 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.SizeFirstMatcher.containingExactly;
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.SizeFirstMatcher.containingInAnyOrder;
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.SizeFirstMatcher.containingKeys;
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.SizeFirstMatcher.ofSize;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SizeFirstMatcherTest {
+
+    @Test
+    void testMatches_CollectionOfAnotherSize_ShouldBeRejectedWithoutIteratingAnyElement()
+            throws Exception {
+        // Preparation
+        final AtomicInteger readElements = new AtomicInteger();
+        final List<String> actual = new AbstractList<>() {
+            @Override
+            public String get(final int index) {
+                readElements.incrementAndGet();
+                return "element";
+            }
+
+            @Override
+            public int size() {
+                return 1_000_000;
+            }
+        };
+        final StringDescription mismatchDescription = new StringDescription();
+
+        // Execution
+        final boolean matchesExactly = containingExactly(List.of("element")).matches(actual);
+        final boolean matchesInAnyOrder = containingInAnyOrder(List.of("element")).matches(actual);
+        containingExactly(List.of("element")).describeMismatch(actual, mismatchDescription);
+
+        // Assertion
+        assertThat("matches exactly", matchesExactly, is(false));
+        assertThat("matches in any order", matchesInAnyOrder, is(false));
+        assertThat(readElements.get(), is(0));
+        assertThat(mismatchDescription.toString(), is("had size 1000000 instead of 1"));
+    }
+
+    @Test
+    void testMatches_ElementsInAnotherOrder_ShouldOnlyMatchInAnyOrder()
+            throws Exception {
+        // Preparation
+        final List<String> actual = Arrays.asList("b", null, "a", "b");
+        final StringDescription mismatchDescription = new StringDescription();
+
+        // Execution
+        final boolean matchesExactly = containingExactly(Arrays.asList("a", "b", "b", null)).matches(actual);
+        final boolean matchesInAnyOrder = containingInAnyOrder(Arrays.asList("a", "b", "b", null)).matches(actual);
+        containingExactly(Arrays.asList("a", "b", "b", null)).describeMismatch(actual, mismatchDescription);
+
+        // Assertion
+        assertThat("matches exactly", matchesExactly, is(false));
+        assertThat("matches in any order", matchesInAnyOrder, is(true));
+        assertThat(mismatchDescription.toString(), is("differed first at index 0 with \"b\" instead of \"a\""));
+    }
+
+    @Test
+    void testDescribeMismatch_UnexpectedElements_ShouldDescribeTheFirstUnexpectedElement()
+            throws Exception {
+        // Preparation
+        final StringDescription duplicateMismatchDescription = new StringDescription();
+        final StringDescription setMismatchDescription = new StringDescription();
+
+        // Execution
+        final boolean matchesDuplicate = containingInAnyOrder(List.of("a", "b")).matches(List.of("a", "a"));
+        containingInAnyOrder(List.of("a", "b")).describeMismatch(List.of("a", "a"), duplicateMismatchDescription);
+        final boolean matchesSet = containingInAnyOrder(List.of("a", "b")).matches(new HashSet<>(List.of("a", "c")));
+        containingInAnyOrder(List.of("a", "b")).describeMismatch(new HashSet<>(List.of("a", "c")),
+                setMismatchDescription);
+
+        // Assertion
+        assertThat("matches duplicate", matchesDuplicate, is(false));
+        assertThat(duplicateMismatchDescription.toString(), is("contained \"a\" more than 1 times"));
+        assertThat("matches set", matchesSet, is(false));
+        assertThat(setMismatchDescription.toString(), is("contained unexpected \"c\""));
+    }
+
+    @Test
+    void testMatches_MapKeys_ShouldBeLookedUpAfterComparingTheSize()
+            throws Exception {
+        // Preparation
+        final Map<String, Integer> actual = new HashMap<>(Map.of("a", 1, "b", 2, "c", 3));
+        final StringDescription missingKeyDescription = new StringDescription();
+        final StringDescription sizeDescription = new StringDescription();
+
+        // Execution & Assertion
+        assertThat(containingKeys(List.of("a", "c")).matches(actual), is(true));
+        assertThat(containingKeys(Arrays.asList("a", null)).matches(Map.of("a", 1, "b", 2)), is(false));
+        assertThat(ofSize(3).matches(actual), is(true));
+        containingKeys(List.of("a", "d")).describeMismatch(actual, missingKeyDescription);
+        assertThat(missingKeyDescription.toString(), is("did not contain key \"d\""));
+        containingKeys(List.of("a", "b", "c", "d")).describeMismatch(actual, sizeDescription);
+        assertThat(sizeDescription.toString(), is("had size 3 which is less than the 4 expected keys"));
+        assertThrows(IllegalArgumentException.class, () -> ofSize(-1));
+    }
+
+    @Test
+    void testMatches_SortedMapWithKeysOfAnotherType_ShouldNotContainTheKeys()
+            throws Exception {
+        // Preparation
+        final Map<String, Integer> actual = new TreeMap<>(Map.of("a", 1, "b", 2));
+        final StringDescription missingKeyDescription = new StringDescription();
+
+        // Execution
+        final boolean matches = containingKeys(List.of("a", 42)).matches(actual);
+        containingKeys(List.of("a", 42)).describeMismatch(actual, missingKeyDescription);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(missingKeyDescription.toString(), is("did not contain key <42>"));
+    }
+}
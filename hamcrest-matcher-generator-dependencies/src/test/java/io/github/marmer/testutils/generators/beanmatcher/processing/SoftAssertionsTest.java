@@ -0,0 +1,126 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.SoftAssertions;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SoftAssertionsTest {
+
+    private static final String NL = System.lineSeparator();
+
+    @Test
+    void testAssertAll_AllAssertionsMatching_ShouldNotFail()
+            throws Exception {
+        // Preparation
+        final SoftAssertions classUnderTest = new SoftAssertions()
+                .assertThat(new ClassWithCountingProperties(), hasFirstProperty("firstPropertyValue"))
+                .assertThat("someValue", equalTo("someValue"));
+
+        // Execution
+        assertDoesNotThrow(classUnderTest::assertAll);
+
+        // Assertion
+        assertThat(classUnderTest.getFailures(), is(empty()));
+    }
+
+    @Test
+    void testAssertAll_SeveralAssertionsFailing_ShouldReportAllFailuresTogether()
+            throws Exception {
+        // Preparation
+        final ClassWithCountingProperties modelClass = new ClassWithCountingProperties();
+        final SoftAssertions classUnderTest = new SoftAssertions()
+                .assertThat(modelClass, hasFirstProperty("unexpectedValue"))
+                .assertThat("someValue", equalTo("someValue"))
+                .assertThat("some reason", modelClass, hasSecondProperty("unexpectedValue"));
+
+        // Execution
+        final AssertionError error = assertThrows(AssertionError.class, classUnderTest::assertAll);
+
+        // Assertion
+        assertThat(error.getMessage(), is(equalTo("2 of 3 assertions failed" + NL + NL +
+                "1) Expected: (an instance of " + ClassWithCountingProperties.class.getName() +
+                " and hasProperty(\"firstProperty\", \"unexpectedValue\"))" + NL +
+                "     but:  property 'firstProperty' was \"firstPropertyValue\"" + NL + NL +
+                "2) some reason" + NL +
+                "Expected: (an instance of " + ClassWithCountingProperties.class.getName() +
+                " and hasProperty(\"secondProperty\", \"unexpectedValue\"))" + NL +
+                "     but:  property 'secondProperty' was \"secondPropertyValue\"")));
+    }
+
+    @Test
+    void testAssertThat_FailingAssertion_ShouldNotReadAnyPropertyAgainForTheReport()
+            throws Exception {
+        // Preparation
+        final ClassWithCountingProperties modelClass = new ClassWithCountingProperties();
+        final SoftAssertions classUnderTest = new SoftAssertions();
+
+        // Execution
+        classUnderTest.assertThat(modelClass, new BeanPropertyMatcher<ClassWithCountingProperties>(
+                ClassWithCountingProperties.class)
+                .with("firstProperty", equalTo("unexpectedValue"))
+                .with("secondProperty", equalTo("unexpectedValue")));
+
+        // Assertion
+        assertThat(classUnderTest.getFailures(), contains(
+                NL + "Expected: (an instance of " + ClassWithCountingProperties.class.getName() +
+                        " and hasProperty(\"firstProperty\", \"unexpectedValue\")" +
+                        " and hasProperty(\"secondProperty\", \"unexpectedValue\"))" + NL +
+                        "     but:  property 'firstProperty' was \"firstPropertyValue\" and " +
+                        " property 'secondProperty' was \"secondPropertyValue\""));
+        assertThat(modelClass.getReadCount(), is(2));
+    }
+
+    @Test
+    void testAssertSoftly_OneAssertionFailing_ShouldFailLikeMatcherAssert()
+            throws Exception {
+        // Preparation
+        final AssertionError expectedError = assertThrows(AssertionError.class,
+                () -> assertThat("some reason", "someValue", equalTo("otherValue")));
+
+        // Execution
+        final AssertionError error = assertThrows(AssertionError.class,
+                () -> SoftAssertions.assertSoftly(softly -> softly
+                        .assertThat("some reason", "someValue", equalTo("otherValue"))
+                        .assertThat("someValue", equalTo("someValue"))));
+
+        // Assertion
+        assertThat(error.getMessage(), is(equalTo(expectedError.getMessage())));
+    }
+
+    private static Matcher<ClassWithCountingProperties> hasFirstProperty(final String value) {
+        return new BeanPropertyMatcher<ClassWithCountingProperties>(ClassWithCountingProperties.class)
+                .with("firstProperty", equalTo(value));
+    }
+
+    private static Matcher<ClassWithCountingProperties> hasSecondProperty(final String value) {
+        return new BeanPropertyMatcher<ClassWithCountingProperties>(ClassWithCountingProperties.class)
+                .with("secondProperty", equalTo(value));
+    }
+
+    public static class ClassWithCountingProperties {
+        private int readCount;
+
+        public String getFirstProperty() {
+            readCount++;
+            return "firstPropertyValue";
+        }
+
+        public String getSecondProperty() {
+            readCount++;
+            return "secondPropertyValue";
+        }
+
+        int getReadCount() {
+            return readCount;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.StreamingMatcher;
+import lombok.Value;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.StreamingMatcher.everyElement;
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.StreamingMatcher.hasElement;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingMatcherTest {
+
+    @Test
+    void testMatches_InfiniteStreamWithNotMatchingElement_ShouldStopConsumingAfterTheReportedMismatches()
+            throws Exception {
+        // Preparation
+        final AtomicInteger consumedElements = new AtomicInteger();
+        final Stream<SomeBean> elements = Stream.iterate(0, i -> i + 1)
+                .peek(i -> consumedElements.incrementAndGet())
+                .map(i -> new SomeBean(i % 1_000 == 999 ? "other" : "someName"));
+        final StreamingMatcher<SomeBean> classUnderTest =
+                everyElement(new BeanPropertyMatcher<SomeBean>(SomeBean.class).with("name", equalTo("someName")))
+                        .reportingMismatches(2);
+
+        // Execution
+        final boolean matches = classUnderTest.matches(elements);
+        final StringDescription mismatchDescription = new StringDescription();
+        classUnderTest.describeMismatch(elements, mismatchDescription);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(consumedElements.get(), is(2_000));
+        assertThat(mismatchDescription.toString(),
+                is("an element at index 999  property 'name' was \"other\", " +
+                        "an element at index 1999  property 'name' was \"other\""));
+    }
+
+    @Test
+    void testDescribeMismatch_ThreadsNotMatchingDifferentStreams_NoStreamShouldBeConsumedAgain()
+            throws Exception {
+        // Preparation
+        final AtomicInteger consumedElements = new AtomicInteger();
+        final StreamingMatcher<Integer> classUnderTest = everyElement(lessThan(10));
+        final Stream<Integer> firstElements = Stream.of(1, 20, 3).peek(i -> consumedElements.incrementAndGet());
+        final Stream<Integer> secondElements = Stream.of(30, 2).peek(i -> consumedElements.incrementAndGet());
+        final StringDescription firstDescription = new StringDescription();
+        final StringDescription secondDescription = new StringDescription();
+        final CountDownLatch firstMatched = new CountDownLatch(1);
+        final CountDownLatch secondMatched = new CountDownLatch(1);
+        final Thread secondThread = new Thread(() -> {
+            awaitUninterruptibly(firstMatched);
+            classUnderTest.matches(secondElements);
+            secondMatched.countDown();
+            classUnderTest.describeMismatch(secondElements, secondDescription);
+        });
+        secondThread.start();
+
+        // Execution
+        classUnderTest.matches(firstElements);
+        firstMatched.countDown();
+        awaitUninterruptibly(secondMatched);
+        classUnderTest.describeMismatch(firstElements, firstDescription);
+        secondThread.join();
+
+        // Assertion
+        assertThat(firstDescription.toString(), is("an element at index 1 <20> was greater than <10>"));
+        assertThat(secondDescription.toString(), is("an element at index 0 <30> was greater than <10>"));
+        assertThat(consumedElements.get(), is(3));
+    }
+
+    @Test
+    void testDescribeMismatch_StreamWithoutRecordedMatch_ShouldNotBeConsumed()
+            throws Exception {
+        // Preparation
+        final AtomicInteger consumedElements = new AtomicInteger();
+        final Stream<Integer> elements = Stream.of(20).peek(i -> consumedElements.incrementAndGet());
+        final StringDescription mismatchDescription = new StringDescription();
+
+        // Execution
+        everyElement(lessThan(10)).describeMismatch(elements, mismatchDescription);
+
+        // Assertion
+        assertThat(consumedElements.get(), is(0));
+        assertThat(mismatchDescription.toString(), is("was a source which has already been consumed"));
+    }
+
+    @Test
+    void testMatches_StreamWithCloseHandler_ShouldCloseTheStream()
+            throws Exception {
+        // Preparation
+        final AtomicBoolean isClosed = new AtomicBoolean();
+        final Stream<Integer> elements = Stream.of(1, 2, 3).onClose(() -> isClosed.set(true));
+
+        // Execution
+        final boolean matches = everyElement(lessThan(10)).matches(elements);
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+        assertThat("closed", isClosed.get(), is(true));
+    }
+
+    @Test
+    void testMatches_ElementMatcherThrowingAnException_ShouldRethrowTheException()
+            throws Exception {
+        // Preparation
+        final StreamingMatcher<Integer> classUnderTest = everyElement(new BaseMatcher<>() {
+            @Override
+            public boolean matches(final Object actual) {
+                throw new IllegalStateException("broken matcher");
+            }
+
+            @Override
+            public void describeTo(final Description description) {
+                description.appendText("a broken matcher");
+            }
+        });
+
+        // Execution & Assertion
+        assertThrows(IllegalStateException.class,
+                () -> classUnderTest.matches(new RangePublisher(10, new AtomicLong())));
+        assertThrows(IllegalStateException.class, () -> classUnderTest.matches(List.of(1)));
+    }
+
+    @Test
+    void testMatches_HugeStreamOfMatchingElements_ShouldMatch()
+            throws Exception {
+        // Preparation
+        final StreamingMatcher<Integer> classUnderTest = everyElement(lessThan(10_000_000));
+
+        // Execution
+        final boolean matches = classUnderTest.matches(IntStream.range(0, 10_000_000).boxed());
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+    }
+
+    @Test
+    void testMatches_PublisherOfMatchingElements_ShouldMatchWithoutRequestingMoreThanABatch()
+            throws Exception {
+        // Preparation
+        final AtomicLong maximumDemand = new AtomicLong();
+        final Flow.Publisher<Integer> publisher = new RangePublisher(100_000, maximumDemand);
+
+        // Execution
+        final boolean matches = everyElement(lessThan(100_000)).requestingBatchesOf(64).matches(publisher);
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+        assertThat(maximumDemand.get(), is(lessThanOrEqualTo(96L)));
+    }
+
+    @Test
+    void testMatches_AsynchronousPublisherWithMatchingElement_HasElementShouldMatchAndCancelTheSubscription()
+            throws Exception {
+        // Preparation
+        final SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>();
+        final Thread producer = new Thread(() -> {
+            while (publisher.getNumberOfSubscribers() == 0) {
+                Thread.onSpinWait();
+            }
+            for (int i = 0; i < 1_000_000 && publisher.hasSubscribers(); i++) {
+                publisher.submit(i);
+            }
+            publisher.close();
+        });
+        producer.start();
+
+        // Execution
+        final boolean matches = hasElement(equalTo(1_000)).within(Duration.ofSeconds(30)).matches(publisher);
+
+        // Assertion
+        producer.join();
+        assertThat("matches", matches, is(true));
+    }
+
+    @Test
+    void testDescribeMismatch_FailingOrEmptyStreams_ShouldDescribeTheFailure()
+            throws Exception {
+        // Preparation
+        final SubmissionPublisher<Integer> failingPublisher = new SubmissionPublisher<>();
+        final StreamingMatcher<Integer> classUnderTest = everyElement(lessThan(10));
+        final Thread producer = new Thread(() -> {
+            while (failingPublisher.getNumberOfSubscribers() == 0) {
+                Thread.onSpinWait();
+            }
+            failingPublisher.closeExceptionally(new IllegalStateException("broken"));
+        });
+        producer.start();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(failingPublisher);
+        final StringDescription mismatchDescription = new StringDescription();
+        classUnderTest.describeMismatch(failingPublisher, mismatchDescription);
+        final StringDescription emptyMismatchDescription = new StringDescription();
+        hasElement(lessThan(10)).describeMismatch(List.of(), emptyMismatchDescription);
+
+        // Assertion
+        producer.join();
+        assertThat("matches", matches, is(false));
+        assertThat(mismatchDescription.toString(),
+                is("failed after 0 elements with <java.lang.IllegalStateException: broken>"));
+        assertThat(emptyMismatchDescription.toString(), is("was empty"));
+        assertThat(StringDescription.toString(classUnderTest), is("every element is a value less than <10>"));
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Publisher of a range of integers which emits the requested elements on the thread of the subscriber and records
+     * the maximum demand of the subscriber.
+     */
+    private static class RangePublisher implements Flow.Publisher<Integer> {
+
+        private final int count;
+        private final AtomicLong maximumDemand;
+
+        RangePublisher(final int count, final AtomicLong maximumDemand) {
+            this.count = count;
+            this.maximumDemand = maximumDemand;
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int next;
+                private long demand;
+                private boolean isEmitting;
+                private boolean isCancelled;
+
+                @Override
+                public void request(final long n) {
+                    demand += n;
+                    maximumDemand.accumulateAndGet(demand, Math::max);
+                    if (isEmitting) {
+                        return;
+                    }
+                    isEmitting = true;
+                    while (demand > 0 && next < count && !isCancelled) {
+                        demand--;
+                        subscriber.onNext(next++);
+                    }
+                    isEmitting = false;
+                    if (next == count && !isCancelled) {
+                        isCancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    isCancelled = true;
+                }
+            });
+        }
+    }
+
+    @Value
+    public static class SomeBean {
+        private String name;
+    }
+}
@@ -0,0 +1,237 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.StructuralEqualityMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.StructuralEqualityMatcher.structurallyEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class StructuralEqualityMatcherTest {
+
+    private static final String NL = System.lineSeparator();
+
+    @Test
+    void testMatches_EqualCyclicGraphs_ShouldMatch()
+            throws Exception {
+        // Preparation
+        final StructuralEqualityMatcher<Node> classUnderTest = structurallyEqualTo(family("a", "b"));
+
+        // Execution
+        final boolean matches = classUnderTest.matches(family("a", "b"));
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+    }
+
+    @Test
+    void testDescribeMismatch_DifferentCyclicGraphs_ShouldDescribeDifferencesWithPropertyPaths()
+            throws Exception {
+        // Preparation
+        final StructuralEqualityMatcher<Node> classUnderTest = structurallyEqualTo(family("a", "b"));
+        final Node modelObject = family("a", "c", "d");
+        final Description description = new StringDescription();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelObject);
+        classUnderTest.describeMismatch(modelObject, description);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(description.toString(), is(equalTo("children: expected size 2 but was 3" + NL +
+                "          children[1].name: expected \"b\" but was \"c\"")));
+    }
+
+    @Test
+    void testMatches_SharedSubgraph_ShouldCompareEachPairOnlyOnce()
+            throws Exception {
+        // Preparation
+        final CountingNode expectedShared = new CountingNode("shared");
+        final CountingNode actualShared = new CountingNode("shared");
+        final StructuralEqualityMatcher<Map<String, CountingNode>> classUnderTest =
+                structurallyEqualTo(twice(expectedShared));
+
+        // Execution
+        final boolean matches = classUnderTest.matches(twice(actualShared));
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+        assertThat(expectedShared.getReadCount(), is(1));
+        assertThat(actualShared.getReadCount(), is(1));
+    }
+
+    @Test
+    void testDescribeMismatch_AfterNotMatchingItem_ShouldNotReadAnyPropertyAgain()
+            throws Exception {
+        // Preparation
+        final CountingNode modelObject = new CountingNode("actual");
+        final StructuralEqualityMatcher<CountingNode> classUnderTest =
+                structurallyEqualTo(new CountingNode("expected"));
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.matches(modelObject);
+        classUnderTest.describeMismatch(modelObject, description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo("name: expected \"expected\" but was \"actual\"")));
+        assertThat(modelObject.getReadCount(), is(1));
+    }
+
+    @Test
+    void testDescribeMismatch_MoreDifferencesThanReported_ShouldStopAfterTheConfiguredNumber()
+            throws Exception {
+        // Preparation
+        final StructuralEqualityMatcher<List<String>> classUnderTest =
+                structurallyEqualTo(List.of("a", "b", "c")).reportingAtMost(2);
+        final List<String> modelObject = List.of("x", "y", "z");
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.describeMismatch(modelObject, description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo("[0]: expected \"a\" but was \"x\"" + NL +
+                "          [1]: expected \"b\" but was \"y\"" + NL +
+                "          (stopped after 2 differences)")));
+    }
+
+    @Test
+    void testMatches_EqualCyclesThroughHashSets_ShouldMatch()
+            throws Exception {
+        // Preparation
+        final StructuralEqualityMatcher<Set<Object>> classUnderTest = structurallyEqualTo(setContainingItself());
+
+        // Execution
+        final boolean matchesSet = classUnderTest.matches(setContainingItself());
+        final boolean matchesRing = structurallyEqualTo(ring("a", "b")).matches(ring("a", "b"));
+
+        // Assertion
+        assertThat("matches set", matchesSet, is(true));
+        assertThat("matches ring", matchesRing, is(true));
+    }
+
+    @Test
+    void testDescribeMismatch_DifferentCyclesThroughHashSets_ShouldDescribeTheDifferingElements()
+            throws Exception {
+        // Preparation
+        final StructuralEqualityMatcher<SetNode> classUnderTest = structurallyEqualTo(ring("a", "b"));
+        final SetNode modelObject = ring("a", "c");
+        final Description description = new StringDescription();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelObject);
+        classUnderTest.describeMismatch(modelObject, description);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(description.toString(), is(equalTo("neighbours: expected an element equal to <an instance of " +
+                SetNode.class.getName() + "> but there was none" + NL +
+                "          neighbours: expected no element equal to <an instance of " + SetNode.class.getName() +
+                "> but there was one")));
+    }
+
+    private static Node family(final String... childNames) {
+        final Node parent = new Node("parent");
+        for (final String childName : childNames) {
+            final Node child = new Node(childName);
+            child.setParent(parent);
+            parent.getChildren().add(child);
+        }
+        return parent;
+    }
+
+    private static Set<Object> setContainingItself() {
+        final Set<Object> set = new HashSet<>();
+        final List<Object> list = new ArrayList<>();
+        set.add(list);
+        list.add(set);
+        return set;
+    }
+
+    private static SetNode ring(final String firstName, final String secondName) {
+        final SetNode first = new SetNode(firstName);
+        final SetNode second = new SetNode(secondName);
+        first.getNeighbours().add(second);
+        second.getNeighbours().add(first);
+        return first;
+    }
+
+    private static Map<String, CountingNode> twice(final CountingNode node) {
+        final Map<String, CountingNode> nodes = new LinkedHashMap<>();
+        nodes.put("first", node);
+        nodes.put("second", node);
+        return nodes;
+    }
+
+    public static class Node {
+        private final String name;
+        private final List<Node> children = new ArrayList<>();
+        private Node parent;
+
+        Node(final String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<Node> getChildren() {
+            return children;
+        }
+
+        public Node getParent() {
+            return parent;
+        }
+
+        void setParent(final Node parent) {
+            this.parent = parent;
+        }
+    }
+
+    public static class SetNode {
+        private final String name;
+        private final Set<SetNode> neighbours = new HashSet<>();
+
+        SetNode(final String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Set<SetNode> getNeighbours() {
+            return neighbours;
+        }
+    }
+
+    public static class CountingNode {
+        private final String name;
+        private int readCount;
+
+        CountingNode(final String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            readCount++;
+            return name;
+        }
+
+        int getReadCount() {
+            return readCount;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package foo.bar.sample.configuration;
+
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PackageConfiguration;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+
+@MatcherConfiguration(value = {
+    "foo.bar.sample.model.SomePojo",
+    "foo.bar.sample.model.ParentPojo",
+    "foo.bar.sample.model.inheritance.Main",
+    "foo.bar.sample.model.inheritance.Parent",
+    "foo.bar.sample.model.inheritance.FirstChild",
+    "foo.bar.sample.model.inheritance.SecondChild"
+}, generation = @GenerationConfiguration(
+    packageConfig = @PackageConfiguration("direct."),
+    propertyAccess = PropertyAccess.DIRECT,
+    snapshots = true,
+    propertyConstants = true
+))
+public class DirectPropertyAccessConfiguration {
+
+}
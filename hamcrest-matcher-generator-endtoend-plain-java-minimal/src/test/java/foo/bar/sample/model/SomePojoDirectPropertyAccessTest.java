@@ -0,0 +1,260 @@
+package foo.bar.sample.model;
+
+import direct.foo.bar.sample.model.SomePojoMatcher;
+import direct.foo.bar.sample.model.SomePojoMatcher.SomePojoSnapshot;
+import direct.foo.bar.sample.model.SomePojoProperties;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherIndex;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.ParallelItemsMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.StreamingMatcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static direct.foo.bar.sample.model.SomePojoMatcher.InnerClassMatcher.InnerInnerPojoMatcher.isInnerInnerPojo;
+import static direct.foo.bar.sample.model.SomePojoMatcher.isSomePojo;
+import static direct.foo.bar.sample.model.SomePojoMatcher.snapshot;
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.ContainsInAnyOrderMatcher.containingInAnyOrder;
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.EventuallyMatcher.eventually;
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.ParallelItemsMatcher.everyItemInParallel;
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.StreamingMatcher.everyElement;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+class SomePojoDirectPropertyAccessTest {
+    @Test
+    @DisplayName("Generated matchers with direct property access match properties as expected")
+    void testMatchers_GeneratedMatchersWithDirectPropertyAccessMatchPropertiesAsExpected()
+            throws Exception {
+        // Preparation
+        final SomePojo somePojo = new SomePojo();
+        somePojo.setPojoField("pojoFieldValue");
+        somePojo.setParentField("someParentFieldValue");
+        somePojo.setIntProperty(42);
+
+        // Assertion
+        assertThat(somePojo, isSomePojo()
+                .withClass(SomePojo.class)
+                .withParentField("someParentFieldValue")
+                .withParentField(is(equalTo("someParentFieldValue")))
+                .withPojoField("pojoFieldValue")
+                .withPojoField(is(equalTo("pojoFieldValue")))
+                .withIntProperty(42)
+                .withIntProperty(is(42))
+        );
+        assertThat(somePojo, not(isSomePojo()
+                .withIntProperty(43)
+        ));
+    }
+
+    @Test
+    @DisplayName("Generated matchers with direct property access should work for inner classes")
+    void testMatchers_GeneratedMatchersWithDirectPropertyAccessShouldWorkForInnerClasses()
+            throws Exception {
+        // Preparation
+        final SomePojo.InnerClass.InnerInnerPojo innerInnerPojo = new SomePojo.InnerClass.InnerInnerPojo("someValue");
+
+        // Assertion
+        assertThat(innerInnerPojo, isInnerInnerPojo()
+                .withSomeField("someValue"));
+    }
+
+    @Test
+    @DisplayName("Generated matchers with direct property access should match snapshots without reading the bean again")
+    void testMatchers_GeneratedMatchersWithDirectPropertyAccessShouldMatchSnapshotsWithoutReadingTheBeanAgain()
+            throws Exception {
+        // Preparation
+        final SomePojo somePojo = new SomePojo();
+        somePojo.setPojoField("pojoFieldValue");
+        somePojo.setParentField("someParentFieldValue");
+        somePojo.setIntProperty(42);
+
+        // Execution
+        final SomePojoSnapshot snapshot = snapshot(somePojo);
+        somePojo.setPojoField("changedPojoFieldValue");
+        somePojo.setIntProperty(43);
+
+        // Assertion
+        assertThat(snapshot.getPojoField(), is("pojoFieldValue"));
+        assertThat(snapshot, isSomePojo()
+                .withClass(SomePojo.class)
+                .withParentField("someParentFieldValue")
+                .withPojoField("pojoFieldValue")
+                .withIntProperty(42)
+                .withIntPropertyBetween(40, 42)
+                .forSnapshots()
+        );
+        assertThat(snapshot, not(isSomePojo()
+                .withIntProperty(43)
+                .forSnapshots()
+        ));
+    }
+
+    @Test
+    @DisplayName("Generated property constants should be usable as typed property accessors")
+    void testPropertyConstants_GeneratedPropertyConstantsShouldBeUsableAsTypedPropertyAccessors()
+            throws Exception {
+        // Preparation
+        final SomePojo first = new SomePojo();
+        first.setPojoField("first");
+        first.setIntProperty(2);
+        final SomePojo second = new SomePojo();
+        second.setPojoField("second");
+        second.setIntProperty(1);
+
+        // Execution
+        final List<String> sortedPojoFields = Stream.of(first, second)
+                .sorted(Comparator.comparing(SomePojoProperties.INT_PROPERTY))
+                .map(SomePojoProperties.POJO_FIELD)
+                .collect(Collectors.toList());
+
+        // Assertion
+        assertThat(sortedPojoFields, contains("second", "first"));
+        assertThat(SomePojoProperties.POJO_FIELD.getPropertyName(), is("pojoField"));
+        assertThat(first, new BeanPropertyMatcher<SomePojo>(SomePojo.class)
+                .with(SomePojoProperties.POJO_FIELD, equalTo("first")));
+    }
+
+    @Test
+    @DisplayName("Generated matchers with direct property access should be usable as plain predicates")
+    void testAsPredicate_GeneratedMatchersWithDirectPropertyAccessShouldBeUsableAsPredicates()
+            throws Exception {
+        // Preparation
+        final SomePojo matching = new SomePojo();
+        matching.setPojoField("matching");
+        matching.setIntProperty(42);
+        final SomePojo notMatching = new SomePojo();
+        notMatching.setPojoField("notMatching");
+        notMatching.setIntProperty(43);
+
+        // Execution
+        final List<String> filteredPojoFields = Stream.of(matching, notMatching)
+                .filter(isSomePojo().withIntProperty(42).asPredicate())
+                .map(SomePojo::getPojoField)
+                .collect(Collectors.toList());
+
+        // Assertion
+        assertThat(filteredPojoFields, contains("matching"));
+    }
+
+    @Test
+    @DisplayName("Generated matchers with direct property access should be indexable by their equality checks")
+    void testMatcherIndex_GeneratedMatchersWithDirectPropertyAccessShouldBeIndexableByTheirEqualityChecks()
+            throws Exception {
+        // Preparation
+        final List<SomePojoMatcher> rules = IntStream.range(0, 100)
+                .mapToObj(i -> isSomePojo().withPojoField("pojoField" + i).withIntProperty(i % 10))
+                .collect(Collectors.toList());
+        final MatcherIndex<SomePojoMatcher> matcherIndex = MatcherIndex.of(rules);
+        final SomePojo somePojo = new SomePojo();
+        somePojo.setPojoField("pojoField42");
+        somePojo.setIntProperty(2);
+
+        // Execution
+        final List<SomePojoMatcher> matchingRules = matcherIndex.matching(somePojo);
+
+        // Assertion
+        assertThat(matchingRules, is(List.of(rules.get(42))));
+    }
+
+    @Test
+    @DisplayName("Generated matchers with direct property access should be matched in any order by partitions")
+    void testContainingInAnyOrder_GeneratedMatchersWithDirectPropertyAccessShouldBeMatchedInAnyOrder()
+            throws Exception {
+        // Preparation
+        final List<SomePojo> somePojos = IntStream.range(0, 1_000)
+                .mapToObj(i -> {
+                    final SomePojo somePojo = new SomePojo();
+                    somePojo.setPojoField("pojoField" + i);
+                    somePojo.setIntProperty(i);
+                    return somePojo;
+                })
+                .collect(Collectors.toList());
+        final List<SomePojoMatcher> matchers = IntStream.range(0, 1_000)
+                .map(i -> 999 - i)
+                .mapToObj(i -> isSomePojo().withIntProperty(i).withPojoField("pojoField" + i))
+                .collect(Collectors.toList());
+
+        // Assertion
+        assertThat(somePojos, containingInAnyOrder(matchers));
+    }
+
+    @Test
+    @DisplayName("Generated matchers with direct property access should be usable for items evaluated in parallel")
+    void testEveryItemInParallel_GeneratedMatchersWithDirectPropertyAccessShouldBeUsableInParallel()
+            throws Exception {
+        // Preparation
+        final List<SomePojo> somePojos = IntStream.range(0, 100_000)
+                .mapToObj(i -> {
+                    final SomePojo somePojo = new SomePojo();
+                    somePojo.setIntProperty(i == 70_000 || i == 40_000 ? -1 : 1);
+                    return somePojo;
+                })
+                .collect(Collectors.toList());
+        final ParallelItemsMatcher<SomePojo> matcher = everyItemInParallel(isSomePojo().withIntPropertyBetween(0, 1));
+
+        // Execution
+        final StringDescription mismatchDescription = new StringDescription();
+        matcher.describeMismatch(somePojos, mismatchDescription);
+
+        // Assertion
+        assertThat(somePojos, not(matcher));
+        assertThat(mismatchDescription.toString(), startsWith("an item at index 40000 "));
+    }
+
+    @Test
+    @DisplayName("Generated matchers with direct property access should be usable for lazily consumed streams")
+    void testEveryElement_GeneratedMatchersWithDirectPropertyAccessShouldBeUsableForStreams()
+            throws Exception {
+        // Preparation
+        final Stream<SomePojo> somePojos = IntStream.range(0, 1_000_000)
+                .mapToObj(i -> {
+                    final SomePojo somePojo = new SomePojo();
+                    somePojo.setIntProperty(i == 500_000 ? -1 : 1);
+                    return somePojo;
+                });
+        final StreamingMatcher<SomePojo> matcher = everyElement(isSomePojo().withIntPropertyBetween(0, 1));
+
+        // Execution
+        final boolean matches = matcher.matches(somePojos);
+        final StringDescription mismatchDescription = new StringDescription();
+        matcher.describeMismatch(somePojos, mismatchDescription);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(mismatchDescription.toString(), startsWith("an element at index 500000 "));
+    }
+
+    @Test
+    @DisplayName("Generated matchers with direct property access should be usable for asynchronously updated beans")
+    void testEventually_GeneratedMatchersWithDirectPropertyAccessShouldBeUsableForAsynchronouslyUpdatedBeans()
+            throws Exception {
+        // Preparation
+        final SomePojo somePojo = new SomePojo();
+        somePojo.setIntProperty(1);
+        final Thread updater = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            somePojo.setIntProperty(42);
+        });
+        updater.start();
+
+        // Assertion
+        assertThat(somePojo, eventually(isSomePojo().withIntProperty(42)).within(Duration.ofSeconds(10)));
+        updater.join();
+    }
+}
@@ -3,9 +3,15 @@ package foo.bar.sample.model.inheritance;
 import static foo.bar.sample.model.inheritance.FirstChildMatcher.isFirstChild;
 import static foo.bar.sample.model.inheritance.MainMatcher.isMain;
 import static foo.bar.sample.model.inheritance.SecondChildMatcher.isSecondChild;
+import static io.github.marmer.testutils.generators.beanmatcher.dependencies.ClassDispatchMatcher.dispatchingByClass;
 import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.not;
 
+import direct.foo.bar.sample.model.inheritance.ParentMatcher.ParentSnapshot;
+import java.util.List;
 import java.util.UUID;
 import org.hamcrest.Matcher;
 import org.hamcrest.MatcherAssert;
@@ -40,4 +46,88 @@ class InheritanceTest {
                     .withName(secondName)
             )));
     }
+
+    @Test
+    @DisplayName("Items of mixed inherited types should be dispatched to the generated matchers of their types")
+    void match_ItemsOfMixedInheritedTypesShouldBeDispatchedToTheMatchersOfTheirTypes() {
+
+        final UUID firstId = UUID.randomUUID();
+        final UUID secondId = UUID.randomUUID();
+
+        final Main main = new Main(
+            asList(
+                new FirstChild(firstId, "First name"),
+                new SecondChild(secondId, "Second name"),
+                new FirstChild(firstId, "Other first name")
+            ));
+
+        MatcherAssert.assertThat(main.getParents(), everyItem(dispatchingByClass(
+            direct.foo.bar.sample.model.inheritance.FirstChildMatcher.isFirstChild()
+                .withId(firstId),
+            direct.foo.bar.sample.model.inheritance.SecondChildMatcher.isSecondChild()
+                .withId(secondId)
+                .withName("Second name")
+        )));
+    }
+
+    @Test
+    @DisplayName("Items of mixed inherited types should be dispatched to the reflective generated matchers of their types")
+    void match_ItemsOfMixedInheritedTypesShouldBeDispatchedToTheReflectiveMatchersOfTheirTypes() {
+
+        final UUID firstId = UUID.randomUUID();
+        final UUID secondId = UUID.randomUUID();
+
+        final Main main = new Main(
+            asList(
+                new FirstChild(firstId, "First name"),
+                new SecondChild(secondId, "Second name")
+            ));
+
+        MatcherAssert.assertThat(main.getParents(), everyItem(dispatchingByClass(
+            isFirstChild()
+                .withId(firstId),
+            isSecondChild()
+                .withId(secondId)
+                .withName("Second name")
+        )));
+        MatcherAssert.assertThat(main.getParents(), not(everyItem(dispatchingByClass(
+            isFirstChild()
+                .withId(secondId),
+            isSecondChild()
+                .withId(secondId)
+        ))));
+    }
+
+    @Test
+    @DisplayName("Collection properties should be matched size first by generated matchers with direct property access")
+    void match_CollectionPropertiesShouldBeMatchedSizeFirst() {
+
+        final FirstChild firstChild = new FirstChild(UUID.randomUUID(), "First name");
+        final SecondChild secondChild = new SecondChild(UUID.randomUUID(), "Second name");
+        final Main main = new Main(asList(firstChild, secondChild));
+
+        MatcherAssert.assertThat(main, direct.foo.bar.sample.model.inheritance.MainMatcher.isMain()
+            .withParentsOfSize(2)
+            .withParentsContainingInAnyOrder(List.of(secondChild, firstChild)));
+        MatcherAssert.assertThat(main, not(direct.foo.bar.sample.model.inheritance.MainMatcher.isMain()
+            .withParentsContainingExactly(List.of(firstChild))));
+    }
+
+    @Test
+    @DisplayName("Snapshots taken of subtype instances should keep the type of the instance")
+    void match_SnapshotsOfSubtypeInstancesShouldKeepTheTypeOfTheInstance() {
+
+        final UUID firstId = UUID.randomUUID();
+
+        final ParentSnapshot snapshot =
+            direct.foo.bar.sample.model.inheritance.ParentMatcher.snapshot(new FirstChild(firstId, "First name"));
+
+        MatcherAssert.assertThat(snapshot.getSnapshotType(), equalTo(FirstChild.class));
+        MatcherAssert.assertThat(snapshot, direct.foo.bar.sample.model.inheritance.FirstChildMatcher.isFirstChild()
+            .withId(firstId)
+            .forSnapshots());
+        MatcherAssert.assertThat(snapshot, not(direct.foo.bar.sample.model.inheritance.SecondChildMatcher.isSecondChild()
+            .withId(firstId)
+            .forSnapshots()));
+    }
 }
@@ -0,0 +1,3 @@
+package io.github.marmer.testutils.dto
+
+data class OrderDto(val id: Long, val customer: String, val isPaid: Boolean)
@@ -1,8 +1,13 @@
 package io.github.marmer.testutils
 
+import io.github.marmer.testutils.dto.OrderDto
+import io.github.marmer.testutils.dto.OrderDtoMatcher
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.DirectPropertyMatcher
 import io.github.marmer.testutils.model.MultiPojo1
 import io.github.marmer.testutils.model.MultiPojo1Matcher
 import org.hamcrest.MatcherAssert
+import org.hamcrest.Matchers.instanceOf
+import org.hamcrest.Matchers.startsWith
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
 
@@ -12,5 +17,17 @@ internal class HelloKotlinTest {
     fun test_UsageOfGeneratedMatchers() {
         MatcherAssert.assertThat(MultiPojo1("blub"), MultiPojo1Matcher.isMultiPojo1().withSomeProp("blub"))
     }
-}
 
+    @Test
+    @DisplayName("Generated matchers for data classes should call the property accessors directly")
+    fun test_UsageOfGeneratedMatchersWithDirectPropertyAccess() {
+        val matcher = OrderDtoMatcher.isOrderDto()
+            .withId(42)
+            .withIdBetween(1, 100)
+            .withCustomer(startsWith("Some"))
+            .withPaid(true)
+
+        MatcherAssert.assertThat(matcher, instanceOf(DirectPropertyMatcher::class.java))
+        MatcherAssert.assertThat(OrderDto(42, "Some Customer", true), matcher)
+    }
+}
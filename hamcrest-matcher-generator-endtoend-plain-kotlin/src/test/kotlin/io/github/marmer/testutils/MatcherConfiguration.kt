@@ -1,6 +1,14 @@
 package io.github.marmer.testutils
 
 import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess
 
 @MatcherConfiguration("io.github.marmer.testutils.model")
-class MatcherConfiguration 
+class MatcherConfiguration
+
+@MatcherConfiguration(
+    "io.github.marmer.testutils.dto",
+    generation = GenerationConfiguration(propertyAccess = PropertyAccess.DIRECT)
+)
+class DirectMatcherConfiguration